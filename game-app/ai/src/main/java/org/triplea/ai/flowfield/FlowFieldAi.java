@@ -119,6 +119,7 @@ public class FlowFieldAi extends AbstractAi {
                     .gameSequence(getGameData().getSequence())
                     .lhtrHeavyBombers(Properties.getLhtrHeavyBombers(getGameData().getProperties()))
                     .supportAttachments(getGameData().getUnitTypeList().getSupportRules()))
+            .parallel(true)
             .build();
 
     diffusions =
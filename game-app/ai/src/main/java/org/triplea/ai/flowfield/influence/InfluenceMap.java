@@ -4,17 +4,20 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import games.strategy.engine.data.Territory;
 import java.util.ArrayDeque;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.triplea.ai.flowfield.neighbors.MapWithNeighbors;
+import org.triplea.ai.flowfield.neighbors.NeighborIndex;
 import org.triplea.ai.flowfield.odds.BattleDetails;
 import org.triplea.java.collections.CollectionUtils;
 
@@ -26,7 +29,17 @@ public class InfluenceMap {
   /** Percentage of the value to be copied to the */
   double diffuseRate;
 
-  Map<Territory, InfluenceTerritory> territories = new HashMap<>();
+  Map<Territory, InfluenceTerritory> territories;
+
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  NeighborIndex neighborIndex;
+
+  /** The influence of each territory, by its index in {@link #neighborIndex}. */
+  @Getter(AccessLevel.NONE)
+  @ToString.Exclude
+  long[] influence;
 
   public InfluenceMap(
       final String suffix,
@@ -44,8 +57,7 @@ public class InfluenceMap {
     diffuseBattleDetails(
         territories.get(
             CollectionUtils.getAny(influenceMapSetup.getTerritoryValuations().keySet())),
-        getBattleDetails,
-        mapWithNeighbors);
+        getBattleDetails);
   }
 
   public InfluenceMap(
@@ -69,20 +81,38 @@ public class InfluenceMap {
     Preconditions.checkArgument(diffuseRate >= 0.0, "Diffusion rates can't be negative.");
     this.name = name;
     this.diffuseRate = diffuseRate;
-    final Collection<InfluenceTerritory> fieldTerritories =
-        initialTerritories.keySet().stream()
-            .map(InfluenceTerritory::new)
-            .peek(t -> territories.put(t.getTerritory(), t))
-            .collect(Collectors.toList());
+    neighborIndex = mapWithNeighbors.getNeighborIndex();
+    influence = new long[neighborIndex.size()];
 
     // from each of the initial territories, diffuse their values to all of their neighbors
-    fieldTerritories.forEach(
-        territory ->
+    initialTerritories.forEach(
+        (territory, value) ->
             diffuseValue(
-                territory,
+                neighborIndex.getDistanceLayers(neighborIndex.indexOf(territory)),
                 diffuseRate,
-                initialTerritories.get(territory.getTerritory()),
-                mapWithNeighbors));
+                value));
+
+    territories = new HashMap<>();
+    initialTerritories.keySet().forEach(this::addInfluenceTerritory);
+    for (int i = 0; i < influence.length; i++) {
+      if (influence[i] > 0) {
+        addInfluenceTerritory(neighborIndex.getTerritory(i));
+      }
+    }
+  }
+
+  private void addInfluenceTerritory(final Territory territory) {
+    territories.computeIfAbsent(
+        territory,
+        t -> {
+          final InfluenceTerritory influenceTerritory = new InfluenceTerritory(t);
+          influenceTerritory.addDiffusedInfluence(getInfluence(t));
+          return influenceTerritory;
+        });
+  }
+
+  public long getInfluence(final Territory territory) {
+    return influence[neighborIndex.indexOf(territory)];
   }
 
   /**
@@ -92,31 +122,19 @@ public class InfluenceMap {
    * initial territory
    */
   private void diffuseValue(
-      final InfluenceTerritory initialTerritory,
+      final NeighborIndex.DistanceLayers distanceLayers,
       final double diffuseRate,
-      final long value,
-      final MapWithNeighbors mapWithNeighbors) {
-    final Set<Territory> seenTerritories = new HashSet<>(Set.of(initialTerritory.getTerritory()));
-    final ArrayDeque<InfluenceTerritory> workingTerritories =
-        new ArrayDeque<>(List.of(initialTerritory));
-    InfluenceTerritory lastTerritoryOfCurrentDistance = workingTerritories.peekLast();
+      final long value) {
+    final int[] layerTerritories = distanceLayers.getTerritories();
+    final int[] layerStarts = distanceLayers.getLayerStarts();
     long diffusedValue = value;
-    while (!workingTerritories.isEmpty()) {
-      final InfluenceTerritory currentTerritory = workingTerritories.removeFirst();
-      currentTerritory.addDiffusedInfluence(diffusedValue);
-
-      mapWithNeighbors.getNeighbors(currentTerritory.getTerritory()).stream()
-          .map(neighbor -> this.territories.computeIfAbsent(neighbor, InfluenceTerritory::new))
-          .filter(Predicate.not(neighbor -> seenTerritories.contains(neighbor.getTerritory())))
-          .peek(neighbor -> seenTerritories.add(neighbor.getTerritory()))
-          .forEach(workingTerritories::add);
-
-      if (lastTerritoryOfCurrentDistance.equals(currentTerritory)) {
-        lastTerritoryOfCurrentDistance = workingTerritories.peekLast();
-        diffusedValue = (long) (diffusedValue * diffuseRate);
-        if (diffusedValue < 1) {
-          break;
-        }
+    for (int layer = 0; layer < distanceLayers.getLayerCount(); layer++) {
+      for (int i = layerStarts[layer]; i < layerStarts[layer + 1]; i++) {
+        influence[layerTerritories[i]] += diffusedValue;
+      }
+      diffusedValue = (long) (diffusedValue * diffuseRate);
+      if (diffusedValue < 1) {
+        break;
       }
     }
   }
@@ -140,8 +158,7 @@ public class InfluenceMap {
    */
   private void diffuseBattleDetails(
       final InfluenceTerritory initialTerritory,
-      final Function<Territory, BattleDetails> getBattleDetails,
-      final MapWithNeighbors mapWithNeighbors) {
+      final Function<Territory, BattleDetails> getBattleDetails) {
     final Set<Territory> seenTerritories = new HashSet<>(Set.of(initialTerritory.getTerritory()));
     final ArrayDeque<InfluenceTerritory> workingTerritories =
         new ArrayDeque<>(List.of(initialTerritory));
@@ -152,9 +169,10 @@ public class InfluenceMap {
       currentTerritory.setBattleDetails(getBattleDetails.apply(currentTerritory.getTerritory()));
       currentTerritory.setDistanceFromInitialTerritory(distance);
 
-      mapWithNeighbors.getNeighbors(currentTerritory.getTerritory()).stream()
-          .map(this.territories::get)
-          .filter(neighbor -> neighbor.getInfluence() > 0)
+      final int currentIndex = neighborIndex.indexOf(currentTerritory.getTerritory());
+      Arrays.stream(neighborIndex.getNeighbors(currentIndex))
+          .filter(neighbor -> influence[neighbor] > 0)
+          .mapToObj(neighbor -> territories.get(neighborIndex.getTerritory(neighbor)))
           .filter(
               neighbor ->
                   !seenTerritories.contains(neighbor.getTerritory())
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -35,6 +36,8 @@ public class InfluenceMapBuilder {
   @Nonnull GameMap gameMap;
   @Nonnull CombatValueBuilder.MainBuilder offenseCombatBuilder;
   @Nonnull CombatValueBuilder.MainBuilder defenseCombatBuilder;
+  /** Whether to build the maps on several threads, which pays off on maps with many territories. */
+  boolean parallel;
 
   public Collection<InfluenceMap> buildMaps(
       final String mapGroup, final MapWithNeighbors mapWithNeighbors) {
@@ -45,27 +48,32 @@ public class InfluenceMapBuilder {
 
   public Collection<InfluenceMap> buildCombatMaps(
       final String mapGroup, final MapWithNeighbors mapWithNeighbors) {
-    final Collection<InfluenceMap> combatMaps = new ArrayList<>();
+    final List<Supplier<InfluenceMap>> combatMaps = new ArrayList<>();
 
-    combatMaps.addAll(
-        resourceList.getResources().stream()
-            .map(
-                resource ->
-                    new InfluenceMap(
-                        mapGroup,
-                        ResourceToGet.build(
-                            gamePlayer, relationshipTracker, gameMap.getTerritories(), resource),
-                        mapWithNeighbors))
-            .collect(Collectors.toList()));
+    resourceList.getResources().stream()
+        .map(
+            resource ->
+                ResourceToGet.build(
+                    gamePlayer, relationshipTracker, gameMap.getTerritories(), resource))
+        .forEach(
+            influenceMapSetup ->
+                combatMaps.add(
+                    () -> new InfluenceMap(mapGroup, influenceMapSetup, mapWithNeighbors)));
 
-    combatMaps.addAll(
-        EnemyCapitals.build(gamePlayer, playerList, gameMap).splitIntoSingleTerritoryMaps().stream()
-            .map(
-                influenceMapSetup ->
-                    new InfluenceMap(
-                        mapGroup, influenceMapSetup, mapWithNeighbors, getBattleDetails()))
-            .collect(Collectors.toList()));
-    return combatMaps;
+    final Function<Territory, BattleDetails> getBattleDetails = getBattleDetails();
+    EnemyCapitals.build(gamePlayer, playerList, gameMap)
+        .splitIntoSingleTerritoryMaps()
+        .forEach(
+            influenceMapSetup ->
+                combatMaps.add(
+                    () ->
+                        new InfluenceMap(
+                            mapGroup, influenceMapSetup, mapWithNeighbors, getBattleDetails)));
+
+    // the maps only read the game data, so they can be diffused at the same time
+    return (parallel ? combatMaps.parallelStream() : combatMaps.stream())
+        .map(Supplier::get)
+        .collect(Collectors.toList());
   }
 
   private Function<Territory, BattleDetails> getBattleDetails() {
@@ -5,11 +5,14 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 
 @Value
 public class MapWithNeighbors {
   Map<Territory, TerritoryWithNeighbors> territories;
+  @EqualsAndHashCode.Exclude @ToString.Exclude NeighborIndex neighborIndex;
 
   public MapWithNeighbors(
       final Collection<Territory> territories,
@@ -26,6 +29,7 @@ public class MapWithNeighbors {
                     getNeighbors.apply(territoryWithNeighbors.getTerritory()).stream()
                         .map(this.territories::get)
                         .collect(Collectors.toSet())));
+    this.neighborIndex = new NeighborIndex(territories, this.territories);
   }
 
   public Collection<Territory> getNeighbors(final Territory territory) {
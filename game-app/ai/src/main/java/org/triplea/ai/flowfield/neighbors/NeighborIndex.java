@@ -0,0 +1,123 @@
+package org.triplea.ai.flowfield.neighbors;
+
+import com.google.common.base.Preconditions;
+import games.strategy.engine.data.Territory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Value;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Numbers the territories of a map from 0 and lists the numbers of the neighbors of each, so that
+ * values per territory can be kept in arrays instead of maps.
+ *
+ * <p>The order in which a breadth first search reaches the territories from a start territory is
+ * only computed the first time it is needed and is then shared by all influence maps that diffuse
+ * from that territory.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class NeighborIndex {
+  List<Territory> territories;
+  Map<Territory, Integer> indexes;
+  int[][] neighbors;
+  /** Computed on demand. Computing one twice in parallel is harmless since they are immutable. */
+  DistanceLayers[] distanceLayers;
+
+  /** The territories in the order they are reached from a start territory, by distance. */
+  @Value
+  public static class DistanceLayers {
+    /** The indexes of the territories, closest first. */
+    int[] territories;
+    /**
+     * Where each distance starts in {@link #territories}, with the total as the last element, so
+     * the territories at distance d are from layerStarts[d] to layerStarts[d + 1].
+     */
+    int[] layerStarts;
+
+    public int getLayerCount() {
+      return layerStarts.length - 1;
+    }
+  }
+
+  NeighborIndex(
+      final Collection<Territory> territories,
+      final Map<Territory, TerritoryWithNeighbors> territoriesWithNeighbors) {
+    this.territories = List.copyOf(territories);
+    indexes = new HashMap<>();
+    for (int i = 0; i < this.territories.size(); i++) {
+      indexes.put(this.territories.get(i), i);
+    }
+    neighbors = new int[this.territories.size()][];
+    for (int i = 0; i < this.territories.size(); i++) {
+      neighbors[i] =
+          territoriesWithNeighbors.get(this.territories.get(i)).getNeighbors().stream()
+              .filter(Objects::nonNull)
+              .map(neighbor -> indexes.get(neighbor.getTerritory()))
+              .mapToInt(Integer::intValue)
+              .toArray();
+    }
+    distanceLayers = new DistanceLayers[this.territories.size()];
+  }
+
+  public int size() {
+    return territories.size();
+  }
+
+  public Territory getTerritory(final int index) {
+    return territories.get(index);
+  }
+
+  public int indexOf(final Territory territory) {
+    final Integer index = indexes.get(territory);
+    Preconditions.checkArgument(index != null, "Territory is not on this map: %s", territory);
+    return index;
+  }
+
+  public int[] getNeighbors(final int index) {
+    return neighbors[index];
+  }
+
+  /** Returns the territories in the order they are reached from the given one, by distance. */
+  public DistanceLayers getDistanceLayers(final int start) {
+    DistanceLayers layers = distanceLayers[start];
+    if (layers == null) {
+      layers = computeDistanceLayers(start);
+      distanceLayers[start] = layers;
+    }
+    return layers;
+  }
+
+  private DistanceLayers computeDistanceLayers(final int start) {
+    final boolean[] isSeen = new boolean[size()];
+    final int[] order = new int[size()];
+    final List<Integer> layerStarts = new ArrayList<>();
+    isSeen[start] = true;
+    order[0] = start;
+    int layerStart = 0;
+    int layerEnd = 1;
+    while (layerStart < layerEnd) {
+      layerStarts.add(layerStart);
+      int next = layerEnd;
+      for (int i = layerStart; i < layerEnd; i++) {
+        for (final int neighbor : neighbors[order[i]]) {
+          if (!isSeen[neighbor]) {
+            isSeen[neighbor] = true;
+            order[next++] = neighbor;
+          }
+        }
+      }
+      layerStart = layerEnd;
+      layerEnd = next;
+    }
+    layerStarts.add(layerEnd);
+    return new DistanceLayers(
+        Arrays.copyOf(order, layerEnd),
+        layerStarts.stream().mapToInt(Integer::intValue).toArray());
+  }
+}
@@ -0,0 +1,48 @@
+package org.triplea.ai.flowfield.neighbors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.Territory;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NeighborIndexTest {
+
+  @Test
+  void territories4InLineDistanceLayers() {
+    final List<Territory> territories =
+        List.of(
+            mock(Territory.class),
+            mock(Territory.class),
+            mock(Territory.class),
+            mock(Territory.class));
+    final NeighborIndex neighborIndex =
+        new MapWithNeighbors(
+                territories,
+                (t) -> {
+                  final int index = territories.indexOf(t);
+                  return territories.subList(
+                      Math.max(0, index - 1), Math.min(territories.size(), index + 2));
+                })
+            .getNeighborIndex();
+
+    final NeighborIndex.DistanceLayers distanceLayers =
+        neighborIndex.getDistanceLayers(neighborIndex.indexOf(territories.get(1)));
+
+    assertThat(
+        "The start territory, then its 2 neighbors, then the last territory",
+        Arrays.stream(distanceLayers.getLayerStarts()).boxed().toArray(),
+        arrayContaining(0, 1, 3, 4));
+    assertThat(
+        neighborIndex.getTerritory(distanceLayers.getTerritories()[3]), is(territories.get(3)));
+    assertThat(
+        "Distance layers are computed once per start territory",
+        neighborIndex.getDistanceLayers(neighborIndex.indexOf(territories.get(1))),
+        sameInstance(distanceLayers));
+  }
+}
@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
 import games.strategy.triplea.delegate.data.BattleRecords;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -48,6 +49,21 @@ public class BattleRecordsList extends GameDataComponent {
     return battleRecords;
   }
 
+  /**
+   * Removes the records of the rounds before the given round and returns them, so that they can be
+   * put back with {@link #putRecords(Map)}.
+   */
+  public Map<Integer, BattleRecords> removeRecordsBefore(final int round) {
+    final Map<Integer, BattleRecords> removed =
+        new HashMap<>(Maps.filterKeys(battleRecords, recordRound -> recordRound < round));
+    battleRecords.keySet().removeAll(removed.keySet());
+    return removed;
+  }
+
+  public void putRecords(final Map<Integer, BattleRecords> records) {
+    battleRecords.putAll(records);
+  }
+
   public Map<Integer, BattleRecords> getBattleRecordsMapCopy() {
     return copyList(battleRecords);
   }
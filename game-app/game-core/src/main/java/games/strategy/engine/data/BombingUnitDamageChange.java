@@ -41,6 +41,12 @@ public class BombingUnitDamageChange extends Change {
     }
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on unit damage
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new BombingUnitDamageChange(undoHits, hits);
@@ -21,4 +21,14 @@ public abstract class Change implements Serializable {
   public boolean isEmpty() {
     return false;
   }
+
+  /**
+   * Indicates whether every modification this change makes to the game state is either counted by
+   * {@link GameStateVersions} where it is made, or does not affect any value reused based on those
+   * versions. Changes that are not covered make the game data count a modification of {@link
+   * GameStateVersions.Fact#OTHER}.
+   */
+  protected boolean isCoveredByStateVersions() {
+    return false;
+  }
 }
@@ -1,8 +1,12 @@
 package games.strategy.engine.data;
 
+import games.strategy.triplea.attachments.AbstractTriggerAttachment;
+import games.strategy.triplea.attachments.AbstractUserActionAttachment;
 import games.strategy.triplea.attachments.TechAbilityAttachment;
 import games.strategy.triplea.attachments.TechAttachment;
 import java.util.Optional;
+import javax.annotation.Nullable;
+import org.triplea.util.Tuple;
 
 /** A game data change that captures a change to an attachment property value. */
 public class ChangeAttachmentChange extends Change {
@@ -13,6 +17,9 @@ public class ChangeAttachmentChange extends Change {
   private final Object oldValue;
   private final String property;
   private final boolean clearFirst;
+  // the property of the attachment it was last resolved for, so that performing the change again,
+  // e.g. when seeking through the history, does not look the property up by name every time
+  private transient volatile @Nullable Tuple<IAttachment, MutableProperty<?>> resolvedProperty;
 
   /**
    * Initializes a new instance of the ChangeAttachmentChange class.
@@ -23,13 +30,7 @@ public class ChangeAttachmentChange extends Change {
    */
   public ChangeAttachmentChange(
       final IAttachment attachment, final Object newValue, final String property) {
-    this(
-        attachment.getAttachedTo(),
-        attachment.getName(),
-        newValue,
-        DefaultAttachment.copyPropertyValue(attachment.getPropertyOrThrow(property).getValue()),
-        property,
-        false);
+    this(attachment, newValue, property, false);
   }
 
   /**
@@ -41,13 +42,23 @@ public class ChangeAttachmentChange extends Change {
       final Object newValue,
       final String property,
       final boolean clearFirst) {
+    this(attachment, attachment.getPropertyOrThrow(property), newValue, property, clearFirst);
+  }
+
+  private ChangeAttachmentChange(
+      final IAttachment attachment,
+      final MutableProperty<?> attachmentProperty,
+      final Object newValue,
+      final String property,
+      final boolean clearFirst) {
     this(
         attachment.getAttachedTo(),
         attachment.getName(),
         newValue,
-        DefaultAttachment.copyPropertyValue(attachment.getPropertyOrThrow(property).getValue()),
+        DefaultAttachment.copyPropertyValue(attachmentProperty.getValue()),
         property,
         clearFirst);
+    resolvedProperty = Tuple.of(attachment, attachmentProperty);
   }
 
   /**
@@ -84,7 +95,7 @@ public class ChangeAttachmentChange extends Change {
   @Override
   public void perform(final GameState data) {
     final IAttachment attachment = attachedTo.getAttachment(attachmentName);
-    final MutableProperty<?> attachmentProperty = attachment.getPropertyOrThrow(property);
+    final MutableProperty<?> attachmentProperty = getAttachmentProperty(attachment);
     if (clearFirst) {
       attachmentProperty.resetValue();
     }
@@ -104,10 +115,33 @@ public class ChangeAttachmentChange extends Change {
     }
   }
 
+  private MutableProperty<?> getAttachmentProperty(final IAttachment attachment) {
+    final Tuple<IAttachment, MutableProperty<?>> resolved = resolvedProperty;
+    // the attachment may have been replaced since the property was resolved
+    if (resolved != null && resolved.getFirst() == attachment) {
+      return resolved.getSecond();
+    }
+    final MutableProperty<?> attachmentProperty = attachment.getPropertyOrThrow(property);
+    resolvedProperty = Tuple.of(attachment, attachmentProperty);
+    return attachmentProperty;
+  }
+
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on triggers and actions, which change their
+    // own attachments (e.g. uses left) frequently
+    final IAttachment attachment = attachedTo.getAttachment(attachmentName);
+    return attachment instanceof AbstractTriggerAttachment
+        || attachment instanceof AbstractUserActionAttachment;
+  }
+
   @Override
   public Change invert() {
-    return new ChangeAttachmentChange(
-        attachedTo, attachmentName, oldValue, newValue, property, clearFirst);
+    final ChangeAttachmentChange inverse =
+        new ChangeAttachmentChange(
+            attachedTo, attachmentName, oldValue, newValue, property, clearFirst);
+    inverse.resolvedProperty = resolvedProperty;
+    return inverse;
   }
 
   @Override
@@ -78,6 +78,11 @@ public class CompositeChange extends Change {
     return changes.stream().allMatch(Change::isEmpty);
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    return changes.stream().allMatch(Change::isCoveredByStateVersions);
+  }
+
   public List<Change> getChanges() {
     return Collections.unmodifiableList(changes);
   }
@@ -21,6 +21,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.invoke.VarHandle;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,9 +34,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import org.triplea.io.FileUtils;
 import org.triplea.io.IoUtils;
@@ -74,13 +76,18 @@ public class GameData implements Serializable, GameState {
   /** When we load a game from a save file, this property will be the name of that file. */
   private static final String SAVE_GAME_FILE_NAME_PROPERTY = "save.game.file.name";
 
-  private transient ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+  private transient ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+  // incremented when the write lock is acquired and when it is released, odd while it is held
+  private transient volatile long writeStamp;
   private transient volatile boolean forceInSwingEventThread = false;
   private String gameName;
   @RemoveOnNextMajorRelease @Deprecated private Version gameVersion;
   private int diceSides;
   private transient List<TerritoryListener> territoryListeners = new CopyOnWriteArrayList<>();
   private transient List<GameDataChangeListener> dataChangeListeners = new CopyOnWriteArrayList<>();
+  // the notifications of the batch of changes the current thread is performing, if any
+  private transient ThreadLocal<PendingChangeNotifications> pendingNotifications =
+      new ThreadLocal<>();
   private transient Map<String, IDelegate> delegates = new HashMap<>();
   private final AllianceTracker alliances = new AllianceTracker();
   // Tracks current relationships between players, this is empty if relationships aren't used
@@ -110,6 +117,9 @@ public class GameData implements Serializable, GameState {
   private final Map<String, TerritoryEffect> territoryEffectList = new HashMap<>();
   private final BattleRecordsList battleRecordsList = new BattleRecordsList(this);
   private transient GameDataEventListeners gameDataEventListeners = new GameDataEventListeners();
+  @Getter private transient GameStateVersions stateVersions = new GameStateVersions();
+  /** Built on first use, see {@link #getUnitLocationIndex()}. */
+  @Nullable private transient volatile UnitLocationIndex unitLocationIndex;
 
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     // The process of deserializing makes use of this lock,
@@ -118,6 +128,8 @@ public class GameData implements Serializable, GameState {
     in.defaultReadObject();
     gameDataEventListeners = new GameDataEventListeners();
     techTracker = new TechTracker(this);
+    stateVersions = new GameStateVersions();
+    pendingNotifications = new ThreadLocal<>();
   }
 
   /**
@@ -149,6 +161,30 @@ public class GameData implements Serializable, GameState {
     return unitsList;
   }
 
+  /** Returns the index of unit locations and transported units, building it if needed. */
+  UnitLocationIndex getUnitLocationIndex() {
+    UnitLocationIndex index = unitLocationIndex;
+    if (index == null) {
+      synchronized (unitsList) {
+        index = unitLocationIndex;
+        if (index == null) {
+          index = UnitLocationIndex.build(this);
+          unitLocationIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the unit location index if it has been built, changes to units only need to be applied
+   * to an index that exists.
+   */
+  @Nullable
+  UnitLocationIndex getUnitLocationIndexIfBuilt() {
+    return unitLocationIndex;
+  }
+
   /** Returns list of Players in the game. */
   @Override
   public PlayerList getPlayerList() {
@@ -281,15 +317,45 @@ public class GameData implements Serializable, GameState {
   }
 
   void notifyTerritoryUnitsChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.unitsChanged(t));
+    stateModified(GameStateVersions.Fact.UNITS);
+    final PendingChangeNotifications pending = getPendingNotifications();
+    if (pending != null) {
+      pending.unitsChanged(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.unitsChanged(t));
+    }
   }
 
   void notifyTerritoryAttachmentChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
+    final PendingChangeNotifications pending = getPendingNotifications();
+    if (pending != null) {
+      pending.attachmentChanged(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
+    }
   }
 
   void notifyTerritoryOwnerChanged(final Territory t) {
-    territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
+    stateModified(GameStateVersions.Fact.TERRITORY_OWNERS);
+    final PendingChangeNotifications pending = getPendingNotifications();
+    if (pending != null) {
+      pending.ownerChanged(t);
+    } else {
+      territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
+    }
+  }
+
+  @Nullable
+  private PendingChangeNotifications getPendingNotifications() {
+    // null while being deserialized
+    return pendingNotifications == null ? null : pendingNotifications.get();
+  }
+
+  void stateModified(final GameStateVersions.Fact fact) {
+    // null while being deserialized
+    if (stateVersions != null) {
+      stateVersions.modified(fact);
+    }
   }
 
   public void fireGameDataEvent(final GameDataEvent event) {
@@ -308,6 +374,10 @@ public class GameData implements Serializable, GameState {
     gameDataEventListeners.addListener(event, listener);
   }
 
+  public void removeGameDataEventListener(final GameDataEvent event, final Runnable listener) {
+    gameDataEventListeners.removeListener(event, listener);
+  }
+
   public IGameLoader getGameLoader() {
     return loader;
   }
@@ -400,6 +470,45 @@ public class GameData implements Serializable, GameState {
     void close();
   }
 
+  /** A batch of changes, see {@link #beginChangeBatch()}. */
+  public interface ChangeBatch extends Closeable {
+    @Override
+    void close();
+  }
+
+  /**
+   * Starts a batch of changes. Listeners are not notified of the changes the current thread
+   * performs until the batch is closed, then territory listeners are notified once for all changed
+   * territories and change listeners once with all performed changes. Batches can be nested, the
+   * notifications are dispatched when the outermost batch is closed.
+   *
+   * <p>Example use:
+   *
+   * <pre>{@code
+   * try (GameData.ChangeBatch ignored = gameData.beginChangeBatch()) {
+   *   gameData.performChange(change1);
+   *   gameData.performChange(change2);
+   * }
+   * }</pre>
+   */
+  public ChangeBatch beginChangeBatch() {
+    PendingChangeNotifications pending = pendingNotifications.get();
+    if (pending == null) {
+      pending = new PendingChangeNotifications();
+      pendingNotifications.set(pending);
+    }
+    pending.open();
+    final PendingChangeNotifications batch = pending;
+    return () -> {
+      if (batch.close()) {
+        pendingNotifications.remove();
+        Optional.ofNullable(batch.dispatch(territoryListeners, dataChangeListeners))
+            .flatMap(GameDataEvent::lookupEvent)
+            .ifPresent(this::fireGameDataEvent);
+      }
+    };
+  }
+
   /**
    * No changes to the game data should be made unless this lock is held. calls to acquire lock will
    * block if the lock is held, and will be held until the release method is called.
@@ -429,7 +538,56 @@ public class GameData implements Serializable, GameState {
    * }</pre>
    */
   public Unlocker acquireWriteLock() {
-    return acquireLock(readWriteLock.writeLock());
+    final Lock lock = readWriteLock.writeLock();
+    lock.lock();
+    if (readWriteLock.getWriteHoldCount() == 1) {
+      writeStamp++;
+      // keep the writes to the game data from becoming visible before the odd write stamp, so
+      // that optimistic readers seeing them also see that a write is in progress
+      VarHandle.storeStoreFence();
+    }
+    return () -> {
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        writeStamp++;
+      }
+      lock.unlock();
+    };
+  }
+
+  /**
+   * Reads the game data without acquiring the read lock if it is not written meanwhile, and under
+   * the read lock otherwise. Meant for short reads that are frequent compared to changes of the
+   * game data, so that readers don't contend for the lock with each other and with writers. The
+   * reader must not have side effects, it may see an inconsistent state (and fail) when the game
+   * data is written concurrently, in which case its result is discarded and it is run again under
+   * the lock.
+   *
+   * <p>Example use:
+   *
+   * <pre>{@code
+   * final int round = gameData.readOptimistically(() -> gameData.getSequence().getRound());
+   * }</pre>
+   */
+  public <T> T readOptimistically(final Supplier<T> reader) {
+    final long stamp = writeStamp;
+    if ((stamp & 1) == 0) {
+      try {
+        final T value = reader.get();
+        // order the reads of the reader before the validation, like StampedLock.validate
+        VarHandle.acquireFence();
+        if (writeStamp == stamp) {
+          return value;
+        }
+      } catch (final RuntimeException e) {
+        VarHandle.acquireFence();
+        if (writeStamp == stamp) {
+          throw e;
+        }
+      }
+    }
+    try (Unlocker ignored = acquireReadLock()) {
+      return reader.get();
+    }
   }
 
   private static Unlocker acquireLock(Lock lock) {
@@ -541,16 +699,24 @@ public class GameData implements Serializable, GameState {
     sequence.setStepIndex(Math.max(0, Math.min(sequence.size() - 1, currentIndex - toSubtract)));
   }
 
-  /** Executes a change and notifies listeners. */
+  /**
+   * Executes a change and notifies listeners, once the current batch of changes is closed if
+   * there is one. Territory listeners are notified once per changed territory after the change is
+   * performed.
+   */
   public void performChange(final Change change) {
     if (areChangesOnlyInSwingEventThread()) {
       Util.ensureOnEventDispatchThread();
     }
-    try (Unlocker ignored = acquireWriteLock()) {
-      change.perform(this);
+    try (ChangeBatch ignored = beginChangeBatch()) {
+      try (Unlocker ignored2 = acquireWriteLock()) {
+        change.perform(this);
+        if (!change.isCoveredByStateVersions()) {
+          stateModified(GameStateVersions.Fact.OTHER);
+        }
+      }
+      pendingNotifications.get().changePerformed(change);
     }
-    dataChangeListeners.forEach(listener -> listener.gameDataChanged(change));
-    GameDataEvent.lookupEvent(change).ifPresent(this::fireGameDataEvent);
   }
 
   @Override
@@ -565,14 +731,12 @@ public class GameData implements Serializable, GameState {
   }
 
   /**
-   * Returns the current game round (with locking). TODO: the locking here is probably not
-   * necessary! If the current round is updated immediately after we return from this method, then
-   * the lock will have been to no effect anyways!
+   * Returns the current game round (with an optimistic read). If the current round is updated
+   * immediately after we return from this method, then locking would have been to no effect
+   * anyways!
    */
   public int getCurrentRound() {
-    try (GameData.Unlocker ignored = acquireReadLock()) {
-      return getSequence().getRound();
-    }
+    return readOptimistically(() -> getSequence().getRound());
   }
 
   public Optional<String> getSaveGameFileName() {
@@ -23,4 +23,8 @@ class GameDataEventListeners implements Consumer<GameDataEvent> {
   void addListener(final GameDataEvent event, final Runnable runnable) {
     listeners.put(event, runnable);
   }
+
+  void removeListener(final GameDataEvent event, final Runnable runnable) {
+    listeners.remove(event, runnable);
+  }
 }
@@ -19,6 +19,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.triplea.debug.Tracing;
 import org.triplea.java.RemoveOnNextMajorRelease;
 import org.triplea.java.collections.IntegerMap;
 
@@ -273,18 +274,20 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (movementLeft.compareTo(BigDecimal.ZERO) == 0) {
       return new HashSet<>();
     }
-    final Set<Territory> neighbors = getNeighbors(territory, territoryCondition);
-    if (movementLeft.compareTo(BigDecimal.ONE) <= 0) {
-      return neighbors;
+    try (Tracing.Span ignored = Tracing.startNested("route", "neighbors by movement cost")) {
+      final Set<Territory> neighbors = getNeighbors(territory, territoryCondition);
+      if (movementLeft.compareTo(BigDecimal.ONE) <= 0) {
+        return neighbors;
+      }
+      final Set<Territory> result =
+          getNeighbors(
+              neighbors,
+              new HashSet<>(neighbors),
+              movementLeft.intValue() - 1,
+              (it, it2) -> territoryCondition.test(it2));
+      result.remove(territory);
+      return result;
     }
-    final Set<Territory> result =
-        getNeighbors(
-            neighbors,
-            new HashSet<>(neighbors),
-            movementLeft.intValue() - 1,
-            (it, it2) -> territoryCondition.test(it2));
-    result.remove(territory);
-    return result;
   }
 
   /**
@@ -299,9 +302,11 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
       final Territory start, final Territory end, final Predicate<Territory> cond) {
     checkNotNull(start);
     checkNotNull(end);
-    return new RouteFinder(this, Matches.territoryIs(end).or(cond))
-        .findRouteByDistance(start, end)
-        .orElse(null);
+    try (Tracing.Span ignored = Tracing.startNested("route", "route by distance")) {
+      return new RouteFinder(this, Matches.territoryIs(end).or(cond))
+          .findRouteByDistance(start, end)
+          .orElse(null);
+    }
   }
 
   /** See {@link #getRouteForUnits(Territory, Territory, Predicate, Collection, GamePlayer)}. */
@@ -335,9 +340,11 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
       final GamePlayer player) {
     checkNotNull(start);
     checkNotNull(end);
-    return new RouteFinder(this, Matches.territoryIs(end).or(cond), units, player)
-        .findRouteByCost(start, end)
-        .orElse(null);
+    try (Tracing.Span ignored = Tracing.startNested("route", "route by cost")) {
+      return new RouteFinder(this, Matches.territoryIs(end).or(cond), units, player)
+          .findRouteByCost(start, end)
+          .orElse(null);
+    }
   }
 
   /**
@@ -3,6 +3,7 @@ package games.strategy.engine.data;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +29,7 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
   public synchronized void setRoundAndStep(
       final int currentRound, final String stepDisplayName, final GamePlayer player) {
     round = currentRound;
+    roundChanged();
     boolean found = false;
     for (int i = 0; i < steps.size(); i++) {
       final GameStep step = steps.get(i);
@@ -64,6 +66,7 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
 
   public void setRoundOffset(final int roundOffset) {
     this.roundOffset = roundOffset;
+    roundChanged();
   }
 
   public int getStepIndex() {
@@ -87,11 +90,17 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     if (currentIndex >= steps.size()) {
       currentIndex = 0;
       round++;
+      roundChanged();
       return true;
     }
     return false;
   }
 
+  private void roundChanged() {
+    Optional.ofNullable(getData())
+        .ifPresent(data -> data.stateModified(GameStateVersions.Fact.ROUND));
+  }
+
   /**
    * Only tests to see if we are on the last step. Used for finding if we need to make a new round
    * or not. Does not change any data or fields.
@@ -0,0 +1,46 @@
+package games.strategy.engine.data;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the modifications of a game data per kind of game state, so that a value computed from
+ * the game state, e.g. whether a condition is satisfied, can be reused until the state it was
+ * computed from is modified.
+ *
+ * <p>Territory owners, units in territories, relationships, resources and the round are counted
+ * where they are modified, no matter how. Everything else is counted as {@link Fact#OTHER} when a {@link
+ * Change} that is not {@link Change#isCoveredByStateVersions() covered} by the other kinds is
+ * performed. Modifications of other state that bypass changes, e.g. through setters, are not
+ * counted.
+ */
+public final class GameStateVersions {
+  /** A kind of game state whose modifications are counted. */
+  public enum Fact {
+    TERRITORY_OWNERS,
+    UNITS,
+    RELATIONSHIPS,
+    RESOURCES,
+    ROUND,
+    OTHER
+  }
+
+  private final AtomicLongArray versions = new AtomicLongArray(Fact.values().length);
+
+  void modified(final Fact fact) {
+    versions.incrementAndGet(fact.ordinal());
+  }
+
+  /**
+   * Returns the version of the given kinds of game state, which is different from every earlier
+   * version if any of them has been modified since.
+   */
+  public long getVersion(final Set<Fact> facts) {
+    // the counters only ever increase, so does their sum
+    long version = 0;
+    for (final Fact fact : facts) {
+      version += versions.get(fact.ordinal());
+    }
+    return version;
+  }
+}
@@ -107,6 +107,27 @@ public final class MutableProperty<T> {
     resetter.run();
   }
 
+  /**
+   * Returns a property with the same setters, getter and resetter that runs the given action after
+   * the value has been set or reset, for example to clear values derived from the property.
+   */
+  public MutableProperty<T> andThen(final Runnable afterChange) {
+    return of(
+        value -> {
+          setter.accept(value);
+          afterChange.run();
+        },
+        value -> {
+          stringSetter.accept(value);
+          afterChange.run();
+        },
+        getter,
+        () -> {
+          resetter.run();
+          afterChange.run();
+        });
+  }
+
   public static <T> MutableProperty<T> of(
       final ThrowingConsumer<T, Exception> setter,
       final ThrowingConsumer<String, Exception> stringSetter,
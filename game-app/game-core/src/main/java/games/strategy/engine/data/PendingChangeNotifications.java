@@ -0,0 +1,68 @@
+package games.strategy.engine.data;
+
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.data.events.TerritoryListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * The listener notifications collected during a batch of changes (see {@link
+ * GameData#beginChangeBatch()}), to be dispatched once when the batch is closed. Each territory is
+ * reported at most once per kind of notification, and all changes are reported as one change.
+ */
+final class PendingChangeNotifications {
+  private final Set<Territory> unitsChanged = new LinkedHashSet<>();
+  private final Set<Territory> ownerChanged = new LinkedHashSet<>();
+  private final Set<Territory> attachmentChanged = new LinkedHashSet<>();
+  private final List<Change> changes = new ArrayList<>();
+  private int openBatches;
+
+  void open() {
+    openBatches++;
+  }
+
+  /** Returns true if the outermost batch has been closed and the notifications are due. */
+  boolean close() {
+    return --openBatches == 0;
+  }
+
+  void unitsChanged(final Territory territory) {
+    unitsChanged.add(territory);
+  }
+
+  void ownerChanged(final Territory territory) {
+    ownerChanged.add(territory);
+  }
+
+  void attachmentChanged(final Territory territory) {
+    attachmentChanged.add(territory);
+  }
+
+  void changePerformed(final Change change) {
+    changes.add(change);
+  }
+
+  /**
+   * Notifies the listeners of the collected notifications and returns the change to fire a {@link
+   * GameDataEvent} for, or null if no change was performed.
+   */
+  @Nullable
+  Change dispatch(
+      final Collection<TerritoryListener> territoryListeners,
+      final Collection<GameDataChangeListener> dataChangeListeners) {
+    if (!unitsChanged.isEmpty() || !ownerChanged.isEmpty() || !attachmentChanged.isEmpty()) {
+      territoryListeners.forEach(
+          listener -> listener.territoriesChanged(unitsChanged, ownerChanged, attachmentChanged));
+    }
+    if (changes.isEmpty()) {
+      return null;
+    }
+    final Change change = changes.size() == 1 ? changes.get(0) : new CompositeChange(changes);
+    dataChangeListeners.forEach(listener -> listener.gameDataChanged(change));
+    return change;
+  }
+}
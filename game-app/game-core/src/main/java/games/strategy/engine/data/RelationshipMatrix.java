@@ -0,0 +1,125 @@
+package games.strategy.engine.data;
+
+import games.strategy.engine.data.RelationshipTracker.RelatedPlayers;
+import games.strategy.engine.data.RelationshipTracker.Relationship;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.attachments.RelationshipTypeAttachment;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Snapshot of the relationships of a {@link RelationshipTracker} indexed by player position, with
+ * the allies and enemies of each player precomputed as bit sets. Index {@code i} refers to the
+ * {@code i}-th player of the player list, the null player is indexed after all other players.
+ *
+ * <p>A matrix is immutable; the relationship tracker builds a new one when a relationship or the
+ * archetype of a relationship type has changed.
+ */
+final class RelationshipMatrix {
+  private final List<GamePlayer> players;
+  private final Map<GamePlayer, Integer> indexes = new HashMap<>();
+  private final RelationshipType[][] types;
+  private final BitSet[] allies;
+  private final BitSet[] enemies;
+  private boolean complete = true;
+
+  RelationshipMatrix(
+      final List<GamePlayer> players,
+      final GamePlayer nullPlayer,
+      final Function<RelatedPlayers, Relationship> relationships) {
+    this.players = List.copyOf(players);
+    for (int i = 0; i < players.size(); i++) {
+      indexes.put(players.get(i), i);
+    }
+    indexes.putIfAbsent(nullPlayer, players.size());
+
+    final int size = players.size() + 1;
+    types = new RelationshipType[size][size];
+    allies = new BitSet[size];
+    enemies = new BitSet[size];
+    for (final Map.Entry<GamePlayer, Integer> player1 : indexes.entrySet()) {
+      final int i = player1.getValue();
+      allies[i] = new BitSet(size);
+      enemies[i] = new BitSet(size);
+      for (final Map.Entry<GamePlayer, Integer> player2 : indexes.entrySet()) {
+        final int j = player2.getValue();
+        final Relationship relationship =
+            relationships.apply(new RelatedPlayers(player1.getKey(), player2.getKey()));
+        if (relationship == null) {
+          continue;
+        }
+        final RelationshipType type = relationship.getRelationshipType();
+        final RelationshipTypeAttachment attachment =
+            (RelationshipTypeAttachment)
+                type.getAttachment(Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME);
+        if (attachment == null) {
+          // the game is still being parsed
+          complete = false;
+          continue;
+        }
+        types[i][j] = type;
+        allies[i].set(j, attachment.isAllied());
+        enemies[i].set(j, attachment.isWar());
+      }
+    }
+  }
+
+  /**
+   * Indicates whether all relationship types had their attachment when this matrix was built. An
+   * incomplete matrix must not be kept, relationships without an attachment are not in it.
+   */
+  boolean isComplete() {
+    return complete;
+  }
+
+  int getPlayerCount() {
+    return players.size();
+  }
+
+  /** Returns the index of a player, or -1 if the player is not in this matrix. */
+  int indexOf(final GamePlayer player) {
+    return indexes.getOrDefault(player, -1);
+  }
+
+  /** Indicates whether both players are in this matrix and have a relationship. */
+  boolean hasRelationship(final int i, final int j) {
+    return i >= 0 && j >= 0 && types[i][j] != null;
+  }
+
+  @Nullable
+  RelationshipType getRelationshipType(final int i, final int j) {
+    return hasRelationship(i, j) ? types[i][j] : null;
+  }
+
+  boolean isAllied(final int i, final int j) {
+    return allies[i].get(j);
+  }
+
+  boolean isAtWar(final int i, final int j) {
+    return enemies[i].get(j);
+  }
+
+  /** Returns a new set of the players, excluding the null player, allied with a given player. */
+  Set<GamePlayer> getAllies(final int i) {
+    return toPlayers(allies[i]);
+  }
+
+  /** Returns a new set of the players, excluding the null player, at war with a given player. */
+  Set<GamePlayer> getEnemies(final int i) {
+    return toPlayers(enemies[i]);
+  }
+
+  private Set<GamePlayer> toPlayers(final BitSet bits) {
+    final Set<GamePlayer> result = new HashSet<>();
+    for (int j = bits.nextSetBit(0); j >= 0 && j < players.size(); j = bits.nextSetBit(j + 1)) {
+      result.add(players.get(j));
+    }
+    return result;
+  }
+}
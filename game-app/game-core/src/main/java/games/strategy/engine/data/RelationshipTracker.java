@@ -7,8 +7,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * A collection of relationships between any two players. Provides methods that determine whether
@@ -19,6 +21,8 @@ public class RelationshipTracker extends GameDataComponent {
 
   // map of "playername:playername" to RelationshipType that exists between those 2 players
   private final Map<RelatedPlayers, Relationship> relationships = new HashMap<>();
+  /** Built on first use, see {@link #getRelationshipMatrix()}. */
+  @Nullable private transient volatile RelationshipMatrix relationshipMatrix;
 
   public RelationshipTracker(final GameData data) {
     super(data);
@@ -35,6 +39,7 @@ public class RelationshipTracker extends GameDataComponent {
   public void setRelationship(
       final GamePlayer p1, final GamePlayer p2, final RelationshipType relationshipType) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(relationshipType));
+    relationshipsChanged();
   }
 
   /**
@@ -44,10 +49,46 @@ public class RelationshipTracker extends GameDataComponent {
   public void setRelationship(
       final GamePlayer p1, final GamePlayer p2, final RelationshipType r, final int roundValue) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    relationshipsChanged();
+  }
+
+  /**
+   * Drops the cached relationships by player, to be called when the archetype of a relationship
+   * type has changed.
+   */
+  public void relationshipArchetypeChanged() {
+    relationshipsChanged();
+  }
+
+  private void relationshipsChanged() {
+    relationshipMatrix = null;
+    Optional.ofNullable(getData())
+        .ifPresent(data -> data.stateModified(GameStateVersions.Fact.RELATIONSHIPS));
+  }
+
+  /**
+   * Returns the relationships indexed by player, building them if there are none or if players
+   * have been added since they were built.
+   */
+  private RelationshipMatrix getRelationshipMatrix() {
+    final PlayerList playerList = getData().getPlayerList();
+    RelationshipMatrix matrix = relationshipMatrix;
+    if (matrix == null || matrix.getPlayerCount() != playerList.size()) {
+      matrix =
+          new RelationshipMatrix(
+              playerList.getPlayers(), playerList.getNullPlayer(), relationships::get);
+      if (matrix.isComplete()) {
+        relationshipMatrix = matrix;
+      }
+    }
+    return matrix;
   }
 
   public RelationshipType getRelationshipType(final GamePlayer p1, final GamePlayer p2) {
-    return getRelationship(p1, p2).getRelationshipType();
+    final RelationshipMatrix matrix = getRelationshipMatrix();
+    final RelationshipType type =
+        matrix.getRelationshipType(matrix.indexOf(p1), matrix.indexOf(p2));
+    return type != null ? type : getRelationship(p1, p2).getRelationshipType();
   }
 
   public RelationshipType getRelationshipType(final RelatedPlayers p1p2) {
@@ -84,25 +125,29 @@ public class RelationshipTracker extends GameDataComponent {
    * @param p2 second referring player
    */
   public boolean isAllied(final GamePlayer p1, final GamePlayer p2) {
-    return Matches.relationshipTypeIsAllied().test(getRelationshipType(p1, p2));
+    final RelationshipMatrix matrix = getRelationshipMatrix();
+    final int i = matrix.indexOf(p1);
+    final int j = matrix.indexOf(p2);
+    return matrix.hasRelationship(i, j)
+        ? matrix.isAllied(i, j)
+        : Matches.relationshipTypeIsAllied().test(getRelationshipType(p1, p2));
   }
 
   public boolean isAlliedWithAnyOfThesePlayers(
       final GamePlayer gamePlayer, final Collection<GamePlayer> possibleAllies) {
-    return possibleAllies.stream()
-        .anyMatch(
-            p2 -> Matches.relationshipTypeIsAllied().test(getRelationshipType(gamePlayer, p2)));
+    return possibleAllies.stream().anyMatch(p2 -> isAllied(gamePlayer, p2));
   }
 
   /** Gets the set of allied players for a given player. */
   public Set<GamePlayer> getAllies(final GamePlayer gamePlayer, final boolean includeSelf) {
+    final RelationshipMatrix matrix = getRelationshipMatrix();
+    final int index = matrix.indexOf(gamePlayer);
     final Set<GamePlayer> allies =
-        getData().getPlayerList().getPlayers().stream()
-            .filter(
-                player ->
-                    Matches.relationshipTypeIsAllied()
-                        .test(getRelationshipType(gamePlayer, player)))
-            .collect(Collectors.toSet());
+        index >= 0
+            ? matrix.getAllies(index)
+            : getData().getPlayerList().getPlayers().stream()
+                .filter(player -> isAllied(gamePlayer, player))
+                .collect(Collectors.toSet());
     if (includeSelf) {
       allies.add(gamePlayer);
     } else {
@@ -113,21 +158,28 @@ public class RelationshipTracker extends GameDataComponent {
 
   /** returns true if p1 is at war with p2. */
   public boolean isAtWar(final GamePlayer p1, final GamePlayer p2) {
-    return Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, p2));
+    final RelationshipMatrix matrix = getRelationshipMatrix();
+    final int i = matrix.indexOf(p1);
+    final int j = matrix.indexOf(p2);
+    return matrix.hasRelationship(i, j)
+        ? matrix.isAtWar(i, j)
+        : Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, p2));
   }
 
   public boolean isAtWarWithAnyOfThesePlayers(
       final GamePlayer p1, final Collection<GamePlayer> p2s) {
-    return p2s.stream()
-        .anyMatch(p2 -> Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, p2)));
+    return p2s.stream().anyMatch(p2 -> isAtWar(p1, p2));
   }
 
   public Set<GamePlayer> getEnemies(final GamePlayer p1) {
+    final RelationshipMatrix matrix = getRelationshipMatrix();
+    final int index = matrix.indexOf(p1);
     final Set<GamePlayer> enemies =
-        getData().getPlayerList().getPlayers().stream()
-            .filter(
-                player -> Matches.relationshipTypeIsAtWar().test(getRelationshipType(p1, player)))
-            .collect(Collectors.toSet());
+        index >= 0
+            ? matrix.getEnemies(index)
+            : getData().getPlayerList().getPlayers().stream()
+                .filter(player -> isAtWar(p1, player))
+                .collect(Collectors.toSet());
     enemies.remove(p1);
     return enemies;
   }
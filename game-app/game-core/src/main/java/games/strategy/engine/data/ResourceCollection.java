@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import games.strategy.triplea.Constants;
+import java.util.Optional;
 import org.triplea.java.collections.IntegerMap;
 
 /** A collection of {@link Resource}s. */
@@ -62,6 +63,7 @@ public class ResourceCollection extends GameDataComponent {
 
   private void change(final Resource resource, final int quantity) {
     resources.add(resource, quantity);
+    resourcesChanged();
   }
 
   /** Overwrites any current resource with the same name. */
@@ -70,6 +72,12 @@ public class ResourceCollection extends GameDataComponent {
       throw new IllegalArgumentException("quantity must be positive");
     }
     resources.put(resource, quantity);
+    resourcesChanged();
+  }
+
+  private void resourcesChanged() {
+    Optional.ofNullable(getData())
+        .ifPresent(data -> data.stateModified(GameStateVersions.Fact.RESOURCES));
   }
 
   public IntegerMap<Resource> getResourcesCopy() {
@@ -113,6 +121,7 @@ public class ResourceCollection extends GameDataComponent {
 
   public void add(final ResourceCollection otherResources) {
     resources.add(otherResources.resources);
+    resourcesChanged();
   }
 
   public void add(final IntegerMap<Resource> resources) {
@@ -133,6 +142,7 @@ public class ResourceCollection extends GameDataComponent {
    */
   public void discount(final double discount) {
     resources.multiplyAllValuesBy(discount);
+    resourcesChanged();
   }
 
   /** Returns 10,000 if it can fit more times than 10000 or if cost is zero. */
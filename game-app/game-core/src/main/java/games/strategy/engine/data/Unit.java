@@ -115,7 +115,15 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
   }
 
   public void setOwner(final @Nullable GamePlayer player) {
+    final GamePlayer oldOwner = owner;
     owner = Optional.ofNullable(player).orElse(getData().getPlayerList().getNullPlayer());
+    if (oldOwner != null && !oldOwner.equals(owner)) {
+      getData().stateModified(GameStateVersions.Fact.UNITS);
+      // the unit collection holding this unit counts units by owner
+      Optional.ofNullable(getData().getUnitLocationIndex())
+          .map(index -> index.getHolder(this))
+          .ifPresent(holder -> holder.getUnitCollection().ownerChanged(this, oldOwner));
+    }
   }
 
   public final boolean isOwnedBy(final GamePlayer player) {
@@ -389,26 +397,27 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
 
   @VisibleForTesting
   public void setTransportedBy(final Unit transportedBy) {
+    final Unit oldTransportedBy = this.transportedBy;
     this.transportedBy = transportedBy;
+    Optional.ofNullable(getData())
+        .map(GameData::getUnitLocationIndexIfBuilt)
+        .ifPresent(index -> index.transportChanged(this, oldTransportedBy, transportedBy));
   }
 
   /**
-   * This is a very slow method because it checks all territories on the map. Try not to use this
-   * method if possible.
+   * Looks up the territory of this unit and its cargo in the unit location index of the game data.
    *
    * @return Unmodifiable collection of units that this unit is transporting in the same territory
    *     it is located in
    */
-  @Deprecated
   public List<Unit> getTransporting() {
     if (Matches.unitCanTransport().test(this) || Matches.unitIsCarrier().test(this)) {
       // we don't store the units we are transporting
       // rather we look at the transported by property of units
-      for (final Territory t : getData().getMap()) {
-        // find the territory this transport is in
-        if (t.getUnitCollection().contains(this)) {
-          return getTransporting(t);
-        }
+      final UnitLocationIndex index = getData().getUnitLocationIndex();
+      final UnitHolder holder = index.getHolder(this);
+      if (holder instanceof Territory) {
+        return Collections.unmodifiableList(index.getCargo(this, holder));
       }
     }
     return List.of();
@@ -418,7 +427,11 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
    * @return Unmodifiable collection of units in the territory that this unit is transporting
    */
   public List<Unit> getTransporting(final Territory territory) {
-    return getTransporting(territory.getUnitCollection());
+    if (getData() == null || territory.getData() != getData()) {
+      // the territory is from another copy of the game data, its units are not in our index
+      return getTransporting(territory.getUnitCollection());
+    }
+    return Collections.unmodifiableList(getData().getUnitLocationIndex().getCargo(this, territory));
   }
 
   /**
@@ -523,15 +536,7 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
     return hitsUnitCanTakeHitWithoutBeingKilled() > 0;
   }
 
-  /**
-   * Avoid calling this method, it checks every territory on the map. To undeprecate we should
-   * optimize this to halt on the first territory we have found with a transporting unit, or
-   * otherwise optimize this to not check every territory.
-   *
-   * @deprecated Avoid callling this method, it calls {@link #getTransporting()} which is slow and
-   *     needs optimization.
-   */
-  @Deprecated
+  /** Checks if this unit is transporting any units in the territory it is located in. */
   public boolean isTransporting() {
     return !getTransporting().isEmpty();
   }
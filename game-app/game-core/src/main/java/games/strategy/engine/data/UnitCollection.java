@@ -1,25 +1,39 @@
 package games.strategy.engine.data;
 
-import games.strategy.triplea.delegate.Matches;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
-/** A collection of units. */
+/**
+ * A collection of units.
+ *
+ * <p>Next to the list of units, the collection keeps counts of its units by owner and type and a
+ * multiset of its units, so that counting and membership checks do not need to scan every unit.
+ * These are not serialized, they are built on first use and then updated by every method that
+ * changes the collection. A change of owner of a contained unit is reported by {@link
+ * Unit#setOwner(GamePlayer)} through {@link #ownerChanged(Unit, GamePlayer)}.
+ */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
 
   private final List<Unit> units = new ArrayList<>();
   private final NamedUnitHolder holder;
+  /** Built on first use, see {@link #getCounts()}. */
+  @Nullable private transient UnitCounts counts;
 
   public UnitCollection(final NamedUnitHolder holder, final GameData data) {
     super(data);
@@ -29,6 +43,10 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   @Override
   public boolean add(final Unit unit) {
     units.add(unit);
+    if (counts != null) {
+      counts.add(unit);
+    }
+    getUnitLocationIndex().ifPresent(index -> index.unitsAdded(holder, List.of(unit)));
     holder.notifyChanged();
     return true;
   }
@@ -36,40 +54,83 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
     final boolean result = this.units.addAll(units);
+    if (counts != null) {
+      units.forEach(counts::add);
+    }
+    getUnitLocationIndex().ifPresent(index -> index.unitsAdded(holder, units));
     holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = this.units.removeAll(units);
+    final boolean result = removeUnitsIf(units::contains);
     holder.notifyChanged();
     return result;
   }
 
+  /**
+   * Removes all units matching a predicate in one pass over the list and removes them from the
+   * counts and the unit location index.
+   */
+  private boolean removeUnitsIf(final Predicate<Unit> predicate) {
+    final List<Unit> removed = new ArrayList<>();
+    units.removeIf(
+        unit -> {
+          if (predicate.test(unit)) {
+            removed.add(unit);
+            return true;
+          }
+          return false;
+        });
+    if (counts != null) {
+      removed.forEach(counts::remove);
+    }
+    getUnitLocationIndex().ifPresent(index -> index.unitsRemoved(holder, removed));
+    return !removed.isEmpty();
+  }
+
+  /** Returns the counts of the units in this collection, building them if needed. */
+  private UnitCounts getCounts() {
+    if (counts == null) {
+      counts = new UnitCounts(units);
+    }
+    return counts;
+  }
+
+  /** Updates the counts of a unit in this collection that has changed owner. */
+  void ownerChanged(final Unit unit, final GamePlayer oldOwner) {
+    if (counts != null && counts.units.contains(unit)) {
+      counts.remove(unit, oldOwner);
+      counts.add(unit);
+    }
+  }
+
+  /** Returns the unit location index of the game data, if built, to record changes to it. */
+  private Optional<UnitLocationIndex> getUnitLocationIndex() {
+    return Optional.ofNullable(getData()).map(GameData::getUnitLocationIndexIfBuilt);
+  }
+
   public int getUnitCount() {
     return units.size();
   }
 
   int getUnitCount(final UnitType type) {
-    return (int) units.stream().filter(u -> u.getType().equals(type)).count();
+    return getCounts().byType.getInt(type);
   }
 
   public int getUnitCount(final UnitType type, final GamePlayer owner) {
-    return (int) units.stream().filter(u -> u.getType().equals(type) && u.isOwnedBy(owner)).count();
+    return getCounts().byOwnerAndType.getOrDefault(owner, IntegerMap.of()).getInt(type);
   }
 
   int getUnitCount(final GamePlayer owner) {
-    return (int) units.stream().filter(u -> u.isOwnedBy(owner)).count();
+    return getCounts().byOwner.getInt(owner);
   }
 
   @Override
   public boolean containsAll(final Collection<?> units) {
-    // much faster for large sets
-    if (this.units.size() > 500 && units.size() > 500) {
-      return new HashSet<>(this.units).containsAll(units);
-    }
-    return this.units.containsAll(units);
+    final UnitCounts counts = getCounts();
+    return units.stream().allMatch(counts.units::contains);
   }
 
   /**
@@ -85,11 +146,16 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
     if (maxUnits < 0) {
       throw new IllegalArgumentException("value must be positive.  Instead its:" + maxUnits);
     }
-    final Collection<Unit> units = new ArrayList<>();
+    // stop as soon as all units of the type are found, instead of at the end of the list
+    final int unitCount = Math.min(maxUnits, getUnitCount(type));
+    final Collection<Unit> units = new ArrayList<>(unitCount);
+    if (unitCount == 0) {
+      return units;
+    }
     for (final Unit current : this.units) {
       if (current.getType().equals(type)) {
         units.add(current);
-        if (units.size() == maxUnits) {
+        if (units.size() == unitCount) {
           return units;
         }
       }
@@ -131,11 +197,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   /** Returns map of UnitType (only of units for the specified player). */
   public IntegerMap<UnitType> getUnitsByType(final GamePlayer gamePlayer) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    units.stream()
-        .filter(Matches.unitIsOwnedBy(gamePlayer))
-        .forEach(unit -> count.add(unit.getType(), 1));
-    return count;
+    return new IntegerMap<>(getCounts().byOwnerAndType.getOrDefault(gamePlayer, IntegerMap.of()));
   }
 
   @Override
@@ -151,14 +213,12 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   /** Returns a Set of all players who have units in this collection. */
   public Set<GamePlayer> getPlayersWithUnits() {
     // note nulls are handled by PlayerList.getNullPlayer()
-    return units.stream().map(Unit::getOwner).collect(Collectors.toSet());
+    return new LinkedHashSet<>(getCounts().byOwner.keySet());
   }
 
   /** Returns the count of units each player has in this collection. */
   public IntegerMap<GamePlayer> getPlayerUnitCounts() {
-    final IntegerMap<GamePlayer> count = new IntegerMap<>();
-    units.forEach(unit -> count.add(unit.getOwner(), 1));
-    return count;
+    return new IntegerMap<>(getCounts().byOwner);
   }
 
   public List<GamePlayer> getPlayersByUnitCount() {
@@ -169,7 +229,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   }
 
   public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+    return getCounts().byOwner.size() > 1;
   }
 
   public NamedUnitHolder getHolder() {
@@ -211,7 +271,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean contains(final Object object) {
-    return units.contains(object);
+    return getCounts().units.contains(object);
   }
 
   @Override
@@ -226,19 +286,71 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean remove(final Object object) {
-    final boolean result = units.remove(object);
+    final int position = contains(object) ? units.indexOf(object) : -1;
+    if (position >= 0) {
+      final Unit removed = units.remove(position);
+      counts.remove(removed);
+      getUnitLocationIndex().ifPresent(index -> index.unitsRemoved(holder, List.of(removed)));
+    }
     holder.notifyChanged();
-    return result;
+    return position >= 0;
   }
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    return units.retainAll(collection);
+    return removeUnitsIf(unit -> !collection.contains(unit));
   }
 
   @Override
   public void clear() {
+    getUnitLocationIndex().ifPresent(index -> index.unitsRemoved(holder, List.copyOf(units)));
     units.clear();
+    counts = null;
     holder.notifyChanged();
   }
+
+  /** Counts of units by owner and type and a multiset of the units of a unit collection. */
+  private static final class UnitCounts {
+    private final Multiset<Unit> units = HashMultiset.create();
+    private final Map<GamePlayer, IntegerMap<UnitType>> byOwnerAndType = new LinkedHashMap<>();
+    private final IntegerMap<GamePlayer> byOwner = new IntegerMap<>();
+    private final IntegerMap<UnitType> byType = new IntegerMap<>();
+
+    UnitCounts(final Collection<Unit> units) {
+      units.forEach(this::add);
+    }
+
+    void add(final Unit unit) {
+      units.add(unit);
+      count(unit.getOwner(), unit.getType(), 1);
+    }
+
+    void remove(final Unit unit) {
+      remove(unit, unit.getOwner());
+    }
+
+    void remove(final Unit unit, final GamePlayer owner) {
+      units.remove(unit);
+      count(owner, unit.getType(), -1);
+    }
+
+    private void count(final GamePlayer owner, final UnitType type, final int delta) {
+      final IntegerMap<UnitType> ownerCounts =
+          byOwnerAndType.computeIfAbsent(owner, key -> new IntegerMap<>());
+      add(ownerCounts, type, delta);
+      if (ownerCounts.isEmpty()) {
+        byOwnerAndType.remove(owner);
+      }
+      add(byOwner, owner, delta);
+      add(byType, type, delta);
+    }
+
+    /** Adds to a count, removing the key once there are no more units counted for it. */
+    private static <T> void add(final IntegerMap<T> counts, final T key, final int delta) {
+      counts.add(key, delta);
+      if (counts.getInt(key) <= 0) {
+        counts.removeKey(key);
+      }
+    }
+  }
 }
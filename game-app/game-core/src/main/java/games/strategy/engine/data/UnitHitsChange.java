@@ -46,6 +46,12 @@ public class UnitHitsChange extends Change {
     }
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on unit damage
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new UnitHitsChange(undoHits, hits, territoriesToNotify);
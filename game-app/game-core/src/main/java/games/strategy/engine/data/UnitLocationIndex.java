@@ -0,0 +1,114 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+
+/**
+ * Index of where each unit is held and which units each transport carries, so that finding the
+ * territory of a unit or the cargo of a transport does not need to scan every territory.
+ *
+ * <p>The index is owned by {@link GameData} and kept up to date by {@link UnitCollection} (unit
+ * added or removed) and {@link Unit#setTransportedBy(Unit)}. It is not serialized, {@link
+ * #build(GameData)} recreates it from the unit collections of all territories and players.
+ *
+ * <p>Each placement records the order in which units were added to their holder, cargo lookups
+ * return units in that order, which is the same order as in the holder's {@code UnitCollection}.
+ */
+final class UnitLocationIndex {
+
+  @AllArgsConstructor
+  private static final class Placement {
+    private final UnitHolder holder;
+    private final long sequence;
+  }
+
+  private final Map<Unit, Placement> placements = new HashMap<>();
+  private final Map<Unit, Set<Unit>> cargoByTransport = new HashMap<>();
+  private long nextSequence;
+
+  static UnitLocationIndex build(final GameData data) {
+    final UnitLocationIndex index = new UnitLocationIndex();
+    for (final Territory territory : data.getMap().getTerritories()) {
+      index.unitsAdded(territory, territory.getUnitCollection());
+    }
+    for (final GamePlayer player : data.getPlayerList()) {
+      index.unitsAdded(player, player.getUnitCollection());
+    }
+    for (final Unit unit : data.getUnits()) {
+      if (unit.getTransportedBy() != null) {
+        index.transportChanged(unit, null, unit.getTransportedBy());
+      }
+    }
+    return index;
+  }
+
+  synchronized void unitsAdded(final UnitHolder holder, final Collection<? extends Unit> units) {
+    for (final Unit unit : units) {
+      placements.put(unit, new Placement(holder, nextSequence++));
+    }
+  }
+
+  /**
+   * Removes the placement of units held by a given holder. A unit that has already been added to
+   * another holder (a move that adds before it removes) keeps its new placement.
+   */
+  synchronized void unitsRemoved(final UnitHolder holder, final Collection<?> units) {
+    for (final Object unit : units) {
+      final Placement placement = placements.get(unit);
+      if (placement != null && placement.holder == holder) {
+        placements.remove(unit);
+      }
+    }
+  }
+
+  synchronized void transportChanged(
+      final Unit unit, @Nullable final Unit oldTransport, @Nullable final Unit newTransport) {
+    if (oldTransport != null) {
+      final Set<Unit> cargo = cargoByTransport.get(oldTransport);
+      if (cargo != null) {
+        cargo.remove(unit);
+        if (cargo.isEmpty()) {
+          cargoByTransport.remove(oldTransport);
+        }
+      }
+    }
+    if (newTransport != null) {
+      cargoByTransport.computeIfAbsent(newTransport, transport -> new HashSet<>()).add(unit);
+    }
+  }
+
+  /** Returns the holder of a unit, or null if the unit is not held by any unit collection. */
+  @Nullable
+  synchronized UnitHolder getHolder(final Unit unit) {
+    final Placement placement = placements.get(unit);
+    return placement == null ? null : placement.holder;
+  }
+
+  /**
+   * Returns the units that are transported by a given transport and are held by a given holder, in
+   * the order they appear in the holder's unit collection.
+   */
+  synchronized List<Unit> getCargo(final Unit transport, final UnitHolder holder) {
+    final Set<Unit> cargo = cargoByTransport.get(transport);
+    if (cargo == null) {
+      return List.of();
+    }
+    final List<Unit> cargoInHolder = new ArrayList<>(cargo.size());
+    for (final Unit unit : cargo) {
+      final Placement placement = placements.get(unit);
+      if (placement != null && placement.holder == holder) {
+        cargoInHolder.add(unit);
+      }
+    }
+    cargoInHolder.sort(Comparator.comparingLong(unit -> placements.get(unit).sequence));
+    return cargoInHolder;
+  }
+}
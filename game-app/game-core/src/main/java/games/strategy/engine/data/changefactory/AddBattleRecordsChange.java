@@ -35,6 +35,12 @@ class AddBattleRecordsChange extends Change {
     BattleRecordsList.addRecords(currentRecords, round, new BattleRecords(recordsToAdd));
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on battle records
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new RemoveBattleRecordsChange(recordsToAdd, round);
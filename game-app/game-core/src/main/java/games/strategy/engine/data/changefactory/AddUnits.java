@@ -55,6 +55,12 @@ public class AddUnits extends Change {
                 }));
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // units in territories are counted by the territory
+    return true;
+  }
+
   @Override
   public Change invert() {
     // Note: We pass in unitOwnerMap so that invert() doesn't rely on the current game state.
@@ -21,9 +21,15 @@ import games.strategy.triplea.attachments.TechAttachment;
 import games.strategy.triplea.delegate.TechAdvance;
 import games.strategy.triplea.delegate.data.BattleRecords;
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.triplea.java.collections.IntegerMap;
+import org.triplea.util.Tuple;
 
 /**
  * All changes made to GameData should be made through changes produced here.
@@ -59,6 +65,11 @@ public class ChangeFactory {
         public boolean isEmpty() {
           return true;
         }
+
+        @Override
+        protected boolean isCoveredByStateVersions() {
+          return true;
+        }
       };
 
   private ChangeFactory() {}
@@ -224,4 +235,28 @@ public class ChangeFactory {
     return unitPropertyChange(
         unit, new BigDecimal(unit.getMaxMovementAllowed() + 1), Unit.ALREADY_MOVED);
   }
+
+  /**
+   * Returns a change with the same effect as performing the given changes in order, without the
+   * unit property changes whose value is overwritten by a later change of the same property of the
+   * same unit. Unit property changes only set a value, none of the changes reads it, so only the
+   * last one of each property determines the resulting game state.
+   */
+  public static Change compact(final List<Change> changes) {
+    final List<Change> flattened = new CompositeChange(changes).flatten().getChanges();
+    final Set<Tuple<Unit, String>> propertiesSet = new HashSet<>();
+    final Deque<Change> compacted = new ArrayDeque<>(flattened.size());
+    for (int i = flattened.size() - 1; i >= 0; i--) {
+      final Change change = flattened.get(i);
+      if (change instanceof ObjectPropertyChange) {
+        final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+        if (!propertiesSet.add(
+            Tuple.of(propertyChange.getObject(), propertyChange.getProperty()))) {
+          continue;
+        }
+      }
+      compacted.addFirst(change);
+    }
+    return new CompositeChange(new ArrayList<>(compacted));
+  }
 }
@@ -27,6 +27,12 @@ class ChangeResourceChange extends Change {
     this.quantity = quantity;
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // resources are counted where they are modified
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new ChangeResourceChange(playerName, resourceName, -quantity);
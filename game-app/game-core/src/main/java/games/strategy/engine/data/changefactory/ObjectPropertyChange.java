@@ -6,6 +6,7 @@ import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.Unit;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import javax.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Getter;
 
@@ -13,7 +14,9 @@ import lombok.Getter;
 public class ObjectPropertyChange extends Change {
   private static final long serialVersionUID = 4218093376094170940L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final Unit object;
+
   @Getter private String property;
 
   @Getter(AccessLevel.PACKAGE)
@@ -22,20 +25,30 @@ public class ObjectPropertyChange extends Change {
   @Getter(AccessLevel.PACKAGE)
   private final Object oldValue;
 
+  // resolved once, so that performing the change again, e.g. when seeking through the history,
+  // does not look the property up by name every time
+  private transient volatile @Nullable MutableProperty<?> resolvedProperty;
+
   ObjectPropertyChange(final Unit object, final String property, final Object newValue) {
     this.object = object;
     this.property = property.intern();
     this.newValue = newValue;
-    oldValue = object.getPropertyOrThrow(property).getValue();
+    resolvedProperty = object.getPropertyOrThrow(property);
+    oldValue = resolvedProperty.getValue();
   }
 
   private ObjectPropertyChange(
-      final Unit object, final String property, final Object newValue, final Object oldValue) {
+      final Unit object,
+      final String property,
+      final Object newValue,
+      final Object oldValue,
+      final @Nullable MutableProperty<?> resolvedProperty) {
     this.object = object;
     // prevent multiple copies of the property names being held in the game
     this.property = property.intern();
     this.newValue = newValue;
     this.oldValue = oldValue;
+    this.resolvedProperty = resolvedProperty;
   }
 
   private void readObject(final ObjectInputStream stream)
@@ -44,15 +57,21 @@ public class ObjectPropertyChange extends Change {
     property = property.intern();
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on unit properties
+    return true;
+  }
+
   @Override
   public Change invert() {
-    return new ObjectPropertyChange(object, property, oldValue, newValue);
+    return new ObjectPropertyChange(object, property, oldValue, newValue, resolvedProperty);
   }
 
   @Override
   protected void perform(final GameState data) {
     try {
-      object.getPropertyOrThrow(property).setValue(newValue);
+      getResolvedProperty().setValue(newValue);
     } catch (final MutableProperty.InvalidValueException e) {
       throw new IllegalStateException(
           String.format(
@@ -62,6 +81,15 @@ public class ObjectPropertyChange extends Change {
     }
   }
 
+  private MutableProperty<?> getResolvedProperty() {
+    MutableProperty<?> resolved = resolvedProperty;
+    if (resolved == null) {
+      resolved = object.getPropertyOrThrow(property);
+      resolvedProperty = resolved;
+    }
+    return resolved;
+  }
+
   @Override
   public String toString() {
     return "Property change, unit:"
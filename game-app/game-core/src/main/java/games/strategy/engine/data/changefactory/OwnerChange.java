@@ -43,6 +43,12 @@ class OwnerChange extends Change {
     return data.getPlayerList().getPlayerId(name);
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // territory owners are counted by the territory
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new OwnerChange(territoryName, oldOwnerName, newOwnerName);
@@ -38,6 +38,12 @@ class PlayerOwnerChange extends Change {
     this.territoryName = territoryName;
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // unit owners are counted by the unit
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new PlayerOwnerChange(oldOwnerNamesByUnitId, newOwnerNamesByUnitId, territoryName);
@@ -42,6 +42,12 @@ class RelationshipChange extends Change {
     this.newRelationshipTypeName = newRelationshipTypeName;
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // relationships are counted by the relationship tracker
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new RelationshipChange(
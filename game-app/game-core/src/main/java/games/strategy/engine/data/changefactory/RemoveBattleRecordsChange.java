@@ -28,6 +28,12 @@ class RemoveBattleRecordsChange extends Change {
     BattleRecordsList.removeRecords(currentRecords, round, new BattleRecords(recordsToRemove));
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on battle records
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new AddBattleRecordsChange(recordsToRemove, round);
@@ -54,6 +54,12 @@ public class BombingUnitDamageChange extends Change {
         territory -> data.getMap().getTerritory(territory).notifyChanged());
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on unit damage
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new BombingUnitDamageChange(oldDamage, newDamage, territoriesToNotify);
@@ -57,6 +57,12 @@ public class UnitDamageReceivedChange extends Change {
     }
   }
 
+  @Override
+  protected boolean isCoveredByStateVersions() {
+    // no value reused based on state versions depends on unit damage
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new UnitDamageReceivedChange(oldTotalDamage, newTotalDamage, territoriesToNotify);
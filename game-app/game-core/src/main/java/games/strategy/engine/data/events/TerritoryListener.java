@@ -1,6 +1,7 @@
 package games.strategy.engine.data.events;
 
 import games.strategy.engine.data.Territory;
+import java.util.Collection;
 
 /** A TerritoryListener will be notified of events that affect a Territory. */
 public interface TerritoryListener {
@@ -9,4 +10,17 @@ public interface TerritoryListener {
   void ownerChanged(Territory territory);
 
   void attachmentChanged(Territory territory);
+
+  /**
+   * Notifies the listener of the territories changed by a batch of changes, each territory at most
+   * once per kind of change. Calls the notification of each territory by default.
+   */
+  default void territoriesChanged(
+      final Collection<Territory> unitsChanged,
+      final Collection<Territory> ownerChanged,
+      final Collection<Territory> attachmentChanged) {
+    unitsChanged.forEach(this::unitsChanged);
+    ownerChanged.forEach(this::ownerChanged);
+    attachmentChanged.forEach(this::attachmentChanged);
+  }
 }
@@ -22,6 +22,7 @@ import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.triplea.config.product.ProductVersionReader;
+import org.triplea.io.IoUtils;
 
 /** Responsible for loading saved games, new games from xml, and saving games. */
 @Slf4j
@@ -125,11 +126,16 @@ public final class GameDataManager {
         Files.createTempFile(
             GameDataManager.class.getSimpleName(), GameDataFileUtils.getExtension());
     try {
+      // snapshot the game data while holding its lock, then compress and write the snapshot without
+      // blocking the game
+      final byte[] snapshot =
+          IoUtils.writeToMemory(
+              os -> saveGameUncompressed(os, gameData, Options.withEverything()));
       // write to temporary file first in case of error
       try (OutputStream os = Files.newOutputStream(tempFile);
           OutputStream bufferedOutStream = new BufferedOutputStream(os);
           OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream)) {
-        saveGameUncompressed(zippedOutStream, gameData, Options.withEverything());
+        zippedOutStream.write(snapshot);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -147,6 +153,7 @@ public final class GameDataManager {
     @Builder.Default boolean withDelegates = false;
     @Builder.Default boolean withHistory = false;
     @Builder.Default boolean withAttachmentXmlData = false;
+    @Builder.Default boolean withPastBattleRecords = true;
 
     public static Options withEverything() {
       return builder().withDelegates(true).withHistory(true).withAttachmentXmlData(true).build();
@@ -155,6 +162,23 @@ public final class GameDataManager {
     public static Options forBattleCalculator() {
       return builder().build();
     }
+
+    /**
+     * Copies of the game data for the AI to run the delegates of its turn on, leaving out the
+     * history, the attachment XML data and the battle records of past rounds, which hold on to the
+     * units of every battle fought so far.
+     */
+    public static Options forAiSimulation() {
+      return forAiSimulation(false);
+    }
+
+    /**
+     * Copies of the game data for the AI to run the delegates of its turn on, with the battle
+     * records of past rounds if the conditions of the map read them.
+     */
+    public static Options forAiSimulation(final boolean withPastBattleRecords) {
+      return builder().withDelegates(true).withPastBattleRecords(withPastBattleRecords).build();
+    }
   }
 
   public static void saveGameUncompressed(
@@ -173,7 +197,15 @@ public final class GameDataManager {
         if (!options.withAttachmentXmlData) {
           data.setAttachmentOrderAndValues(null);
         }
+        final var battleRecords = data.getBattleRecordsList();
+        final var pastBattleRecords =
+            options.withPastBattleRecords
+                ? null
+                : battleRecords.removeRecordsBefore(data.getSequence().getRound());
         outStream.writeObject(data);
+        if (pastBattleRecords != null) {
+          battleRecords.putRecords(pastBattleRecords);
+        }
         if (!options.withAttachmentXmlData) {
           data.setAttachmentOrderAndValues(attachments);
         }
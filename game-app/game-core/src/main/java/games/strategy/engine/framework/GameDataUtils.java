@@ -46,16 +46,31 @@ public final class GameDataUtils {
   }
 
   /** Translate units, territories and other game data objects from one game data into another. */
-  @SuppressWarnings("unchecked")
   public static <T> T translateIntoOtherGameData(final T object, final GameData translateInto) {
+    return gameObjectsFromBytes(gameObjectsToBytes(object), translateInto);
+  }
+
+  /**
+   * Serializes units, territories, changes and other game data objects, such that they can be
+   * deserialized into any copy of their game data with {@link #gameObjectsFromBytes}.
+   */
+  public static byte[] gameObjectsToBytes(final Object object) {
+    try {
+      return IoUtils.writeToMemory(
+          os -> {
+            try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+              out.writeObject(object);
+            }
+          });
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Deserializes game data objects serialized by {@link #gameObjectsToBytes} into a game data. */
+  @SuppressWarnings("unchecked")
+  public static <T> T gameObjectsFromBytes(final byte[] bytes, final GameData translateInto) {
     try {
-      final byte[] bytes =
-          IoUtils.writeToMemory(
-              os -> {
-                try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
-                  out.writeObject(object);
-                }
-              });
       return IoUtils.readFromMemory(
           bytes,
           is -> {
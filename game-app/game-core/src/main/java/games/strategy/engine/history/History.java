@@ -2,7 +2,6 @@ package games.strategy.engine.history;
 
 import com.google.common.base.Preconditions;
 import games.strategy.engine.data.Change;
-import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.triplea.ui.history.HistoryPanel;
@@ -34,6 +33,7 @@ public class History extends DefaultTreeModel {
 
   private final HistoryWriter writer = new HistoryWriter(this);
   private final List<Change> changes = new ArrayList<>();
+  private final transient HistoryKeyframes keyframes = new HistoryKeyframes();
   private final GameData gameData;
   private HistoryPanel panel;
   // Index at which point we are in history. Only valid if seekingEnabled is true.
@@ -51,6 +51,36 @@ public class History extends DefaultTreeModel {
     }
   }
 
+  /** Indicates whether the game data reflects the last change of this history. */
+  synchronized boolean isAtEnd() {
+    return !seekingEnabled || nextChangeIndex == changes.size();
+  }
+
+  /** Returns the number of changes recorded in this history. */
+  public synchronized int getChangeCount() {
+    return changes.size();
+  }
+
+  /** Returns the last change recorded in this history, null if there is none. */
+  public synchronized @Nullable Change getLastChange() {
+    return changes.isEmpty() ? null : changes.get(changes.size() - 1);
+  }
+
+  /**
+   * Returns the changes recorded after the given number of changes, the last of which must be the
+   * given change (null if no changes are given). Returns empty if those changes have been removed
+   * since or the game data does not reflect the last change.
+   */
+  public synchronized Optional<List<Change>> getChangesSince(
+      final int changeCount, final @Nullable Change lastChange) {
+    if (changeCount > changes.size()
+        || (changeCount > 0 && changes.get(changeCount - 1) != lastChange)
+        || !isAtEnd()) {
+      return Optional.empty();
+    }
+    return Optional.of(List.copyOf(changes.subList(changeCount, changes.size())));
+  }
+
   public HistoryWriter getHistoryWriter() {
     return writer;
   }
@@ -109,11 +139,29 @@ public class History extends DefaultTreeModel {
   }
 
   private Change getDeltaTo(int changeIndex) {
-    final List<Change> deltaChanges =
-        changes.subList(
-            Math.min(nextChangeIndex, changeIndex), Math.max(nextChangeIndex, changeIndex));
-    final Change compositeChange = new CompositeChange(deltaChanges);
-    return (changeIndex >= nextChangeIndex) ? compositeChange : compositeChange.invert();
+    return keyframes.getDelta(changes, getKeyframes(), nextChangeIndex, changeIndex);
+  }
+
+  /** Returns the index of the first change of each round, in ascending order. */
+  private List<Integer> getKeyframes() {
+    final List<Integer> keyframes = new ArrayList<>();
+    final Enumeration<?> rounds = ((DefaultMutableTreeNode) getRoot()).children();
+    while (rounds.hasMoreElements()) {
+      final Object node = rounds.nextElement();
+      if (node instanceof Round) {
+        keyframes.add(((Round) node).getChangeStartIndex());
+      }
+    }
+    return keyframes;
+  }
+
+  /**
+   * Sets how many compacted segments between two rounds are kept to speed up seeking, by default
+   * {@value HistoryKeyframes#DEFAULT_MAX_SEGMENTS}. Each segment holds references to the changes of
+   * one round; 0 turns off compaction and makes seeking apply every change.
+   */
+  public synchronized void setMaxKeyframeSegments(final int maxSegments) {
+    keyframes.setMaxSegments(maxSegments);
   }
 
   /** Changes the game state to reflect the historical state at {@code node}. */
@@ -144,6 +192,7 @@ public class History extends DefaultTreeModel {
     try (GameData.Unlocker ignored = gameData.acquireWriteLock()) {
       if (changes.size() > nextChangeIndex) {
         changes.subList(nextChangeIndex, changes.size()).clear();
+        keyframes.clear();
       }
       final Enumeration<?> enumeration =
           ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
@@ -0,0 +1,117 @@
+package games.strategy.engine.history;
+
+import com.google.common.base.Preconditions;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+
+/**
+ * Keyframes of a {@link History} that make seeking over many rounds cheaper. A keyframe is the
+ * index of the first change of a round. The changes between two keyframes (a segment) are compacted
+ * once, in both directions, and seeking applies the raw changes only up to the first and from the
+ * last keyframe it crosses, and the compacted segments in between.
+ *
+ * <p>Compacted segments are built on first use and at most {@code maxSegments} of them are kept,
+ * the least recently used segment is dropped first.
+ */
+final class HistoryKeyframes {
+  static final int DEFAULT_MAX_SEGMENTS = 64;
+
+  @AllArgsConstructor
+  private static final class Segment {
+    private final Change forward;
+    private final Change backward;
+  }
+
+  private final Map<Integer, Segment> segments =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 2094328853406537420L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Segment> eldest) {
+          return size() > maxSegments;
+        }
+      };
+  private int maxSegments = DEFAULT_MAX_SEGMENTS;
+
+  /** Sets how many compacted segments are kept, 0 disables compaction. */
+  void setMaxSegments(final int maxSegments) {
+    Preconditions.checkArgument(maxSegments >= 0);
+    this.maxSegments = maxSegments;
+    segments.clear();
+  }
+
+  /** Drops all compacted segments, to be called when changes are removed from the history. */
+  void clear() {
+    segments.clear();
+  }
+
+  int getSegmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Returns the change that moves the game state from one change index to another.
+   *
+   * @param changes All changes of the history.
+   * @param keyframes The keyframes of the history in ascending order.
+   * @param from The index of the next change of the current game state.
+   * @param to The index of the next change of the requested game state.
+   */
+  Change getDelta(
+      final List<Change> changes, final List<Integer> keyframes, final int from, final int to) {
+    final boolean forward = to >= from;
+    final int start = Math.min(from, to);
+    final int end = Math.max(from, to);
+    final List<Change> parts = new ArrayList<>();
+    int index = start;
+    for (int i = 0; i < keyframes.size() - 1; i++) {
+      final int keyframe = keyframes.get(i);
+      final int nextKeyframe = keyframes.get(i + 1);
+      if (keyframe < index || nextKeyframe > end || keyframe >= nextKeyframe) {
+        continue;
+      }
+      if (index < keyframe) {
+        parts.add(getChanges(changes, index, keyframe, forward));
+      }
+      parts.add(
+          maxSegments == 0
+              ? getChanges(changes, keyframe, nextKeyframe, forward)
+              : getSegment(changes, keyframe, nextKeyframe, forward));
+      index = nextKeyframe;
+    }
+    if (index < end) {
+      parts.add(getChanges(changes, index, end, forward));
+    }
+    if (!forward) {
+      Collections.reverse(parts);
+    }
+    return new CompositeChange(parts);
+  }
+
+  private static Change getChanges(
+      final List<Change> changes, final int start, final int end, final boolean forward) {
+    final Change change = new CompositeChange(changes.subList(start, end));
+    return forward ? change : change.invert();
+  }
+
+  private Change getSegment(
+      final List<Change> changes, final int start, final int end, final boolean forward) {
+    final Segment segment =
+        segments.computeIfAbsent(
+            start,
+            key -> {
+              final List<Change> segmentChanges = changes.subList(start, end);
+              return new Segment(
+                  ChangeFactory.compact(segmentChanges),
+                  ChangeFactory.compact(List.of(new CompositeChange(segmentChanges).invert())));
+            });
+    return forward ? segment.forward : segment.backward;
+  }
+}
@@ -3,7 +3,9 @@ package games.strategy.engine.history;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.stats.RoundStatistics;
 import java.io.Serializable;
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
 
@@ -58,9 +60,31 @@ public class HistoryWriter implements Serializable {
 
   /**
    * Prepares to write a new round. Any current event, step, or round will be automatically closed
-   * before beginning the new round.
+   * before beginning the new round. The statistics of the game at the end of the current round are
+   * recorded in the round.
    */
   public void startNextRound(final int round) {
+    assertCorrectThread();
+    recordRoundStatistics();
+    startRound(round, null);
+  }
+
+  private void recordRoundStatistics() {
+    HistoryNode node = current;
+    while (node != null && !(node instanceof Round)) {
+      node = (HistoryNode) node.getParent();
+    }
+    // the game data only reflects the end of the round if the history is not being viewed
+    if (node != null && history.isAtEnd()) {
+      final GameData data = history.getGameData();
+      try (GameData.Unlocker ignored = data.acquireReadLock()) {
+        ((Round) node).setStatistics(RoundStatistics.collect(data));
+      }
+    }
+  }
+
+  /** Starts a round of a history that is being read, with the statistics recorded for it. */
+  void startRound(final int round, @Nullable final RoundStatistics statistics) {
     assertCorrectThread();
     if (isCurrentEvent()) {
       closeCurrent();
@@ -72,6 +96,7 @@ public class HistoryWriter implements Serializable {
       closeCurrent();
     }
     final Round currentRound = new Round(round, history.getChanges().size());
+    currentRound.setStatistics(statistics);
     current = (HistoryNode) history.getRoot();
     addToAndSetCurrent(currentRound);
   }
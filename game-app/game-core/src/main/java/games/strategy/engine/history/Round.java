@@ -1,10 +1,25 @@
 package games.strategy.engine.history;
 
+import games.strategy.engine.stats.RoundStatistics;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
 /** A history node that represents an entire game round. */
 public class Round extends IndexedHistoryNode {
   private static final long serialVersionUID = 7645058269791039043L;
   private final int roundNo;
 
+  /**
+   * The statistics recorded at the end of this round, null while the round is in progress and for
+   * rounds of games saved before statistics were recorded.
+   */
+  @Getter
+  @Setter(AccessLevel.PACKAGE)
+  @Nullable
+  private RoundStatistics statistics;
+
   Round(final int round, final int changeStartIndex) {
     super("Round: " + round, changeStartIndex);
     roundNo = round;
@@ -16,6 +31,6 @@ public class Round extends IndexedHistoryNode {
 
   @Override
   public SerializationWriter getWriter() {
-    return new RoundHistorySerializer(roundNo);
+    return new RoundHistorySerializer(roundNo, statistics);
   }
 }
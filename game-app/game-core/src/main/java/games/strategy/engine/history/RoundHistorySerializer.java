@@ -1,16 +1,22 @@
 package games.strategy.engine.history;
 
+import games.strategy.engine.stats.RoundStatistics;
+import javax.annotation.Nullable;
+
 class RoundHistorySerializer implements SerializationWriter {
   private static final long serialVersionUID = 9006488114384654514L;
 
   private final int roundNo;
+  // null in games saved before statistics were recorded
+  @Nullable private final RoundStatistics statistics;
 
-  RoundHistorySerializer(final int roundNo) {
+  RoundHistorySerializer(final int roundNo, @Nullable final RoundStatistics statistics) {
     this.roundNo = roundNo;
+    this.statistics = statistics;
   }
 
   @Override
   public void write(final HistoryWriter writer) {
-    writer.startNextRound(roundNo);
+    writer.startRound(roundNo, statistics);
   }
 }
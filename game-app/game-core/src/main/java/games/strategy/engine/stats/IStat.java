@@ -4,6 +4,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.text.DecimalFormat;
+import java.util.OptionalDouble;
 
 /**
  * A game statistic, such as total resources, total unit value, etc. Statistics can be obtained per
@@ -21,4 +22,16 @@ public interface IStat {
         .mapToDouble(player -> getValue(player, data, mapData))
         .sum();
   }
+
+  /**
+   * Returns the value of this statistic for a player from the statistics recorded at the end of a
+   * round, or empty if the recorded statistics do not cover this statistic.
+   */
+  default OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    return OptionalDouble.empty();
+  }
 }
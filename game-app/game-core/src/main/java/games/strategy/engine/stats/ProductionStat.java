@@ -6,6 +6,7 @@ import games.strategy.triplea.Properties;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.mapdata.MapData;
+import java.util.OptionalDouble;
 
 public class ProductionStat implements IStat {
   @Override
@@ -27,4 +28,13 @@ public class ProductionStat implements IStat {
      */
     return (double) production * Properties.getPuMultiplier(data.getProperties());
   }
+
+  @Override
+  public OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    return OptionalDouble.of(statistics.getProduction(player));
+  }
 }
@@ -4,6 +4,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Resource;
 import games.strategy.triplea.ui.mapdata.MapData;
+import java.util.OptionalDouble;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -19,4 +20,13 @@ public class ResourceStat implements IStat {
   public double getValue(final GamePlayer player, final GameData data, final MapData mapData) {
     return player.getResources().getQuantity(resource);
   }
+
+  @Override
+  public OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    return OptionalDouble.of(statistics.getResource(player, resource));
+  }
 }
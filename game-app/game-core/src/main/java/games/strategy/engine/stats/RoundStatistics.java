@@ -0,0 +1,77 @@
+package games.strategy.engine.stats;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * The game state at the end of a round that the over time statistics are computed from, recorded
+ * while the game is played and saved with the round in the history. Players, unit types and
+ * resources are referred to by name.
+ *
+ * <p>Units are recorded as counts per type, so that statistics that only consider units the map
+ * draws (see {@link TuvStat} and {@link UnitsStat}) can still filter them when the statistics are
+ * displayed.
+ */
+public class RoundStatistics implements Serializable {
+  private static final long serialVersionUID = -6019925539236581542L;
+
+  private final Map<String, IntegerMap<String>> unitsByPlayer = new HashMap<>();
+  private final Map<String, IntegerMap<String>> resourcesByPlayer = new HashMap<>();
+  private final Map<String, Double> productionByPlayer = new HashMap<>();
+  private final Map<String, Double> victoryCitiesByPlayer = new HashMap<>();
+
+  private RoundStatistics() {}
+
+  /** Records the statistics of the current state of the game. */
+  public static RoundStatistics collect(final GameData data) {
+    final RoundStatistics statistics = new RoundStatistics();
+    for (final Territory territory : data.getMap().getTerritories()) {
+      for (final Unit unit : territory.getUnitCollection()) {
+        statistics
+            .unitsByPlayer
+            .computeIfAbsent(unit.getOwner().getName(), name -> new IntegerMap<>())
+            .add(unit.getType().getName(), 1);
+      }
+    }
+    final ProductionStat productionStat = new ProductionStat();
+    final VictoryCityStat victoryCityStat = new VictoryCityStat();
+    for (final GamePlayer player : data.getPlayerList().getPlayers()) {
+      final IntegerMap<String> resources = new IntegerMap<>();
+      for (final Resource resource : data.getResourceList().getResources()) {
+        resources.put(resource.getName(), player.getResources().getQuantity(resource));
+      }
+      statistics.resourcesByPlayer.put(player.getName(), resources);
+      statistics.productionByPlayer.put(
+          player.getName(), productionStat.getValue(player, data, null));
+      statistics.victoryCitiesByPlayer.put(
+          player.getName(), victoryCityStat.getValue(player, data, null));
+    }
+    return statistics;
+  }
+
+  /** Returns the number of units of a player by unit type name. */
+  IntegerMap<String> getUnits(final GamePlayer player) {
+    return unitsByPlayer.getOrDefault(player.getName(), IntegerMap.of());
+  }
+
+  int getResource(final GamePlayer player, final Resource resource) {
+    return resourcesByPlayer
+        .getOrDefault(player.getName(), IntegerMap.of())
+        .getInt(resource.getName());
+  }
+
+  double getProduction(final GamePlayer player) {
+    return productionByPlayer.getOrDefault(player.getName(), 0.0);
+  }
+
+  double getVictoryCities(final GamePlayer player) {
+    return victoryCitiesByPlayer.getOrDefault(player.getName(), 0.0);
+  }
+}
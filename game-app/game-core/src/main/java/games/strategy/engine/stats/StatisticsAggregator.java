@@ -1,6 +1,7 @@
 package games.strategy.engine.stats;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Resource;
@@ -12,12 +13,17 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import javax.swing.tree.TreeNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Analyzes a game's history and aggregates interesting statistics in a {@link Statistics} object.
+ *
+ * <p>Rounds for which {@link RoundStatistics} were recorded during the game are read from those.
+ * Only the other rounds, i.e. the current round and rounds of games saved before statistics were
+ * recorded, are computed by moving the game data to that round in the history.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -62,9 +68,55 @@ public class StatisticsAggregator {
     final List<GamePlayer> players = game.getPlayerList().getPlayers();
     final List<String> alliances = new ArrayList<>(game.getAllianceTracker().getAlliances());
     for (final Round round : getRounds()) {
-      game.getHistory().gotoNode(round);
-      collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+      if (!collectRecordedStatisticsForRound(
+          overTimeStatisticSources, players, alliances, round)) {
+        game.getHistory().gotoNode(round);
+        collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+      }
+    }
+  }
+
+  /**
+   * Collects the statistics of a round from the statistics recorded at its end. Returns false,
+   * without collecting anything, if they were not recorded or do not cover all statistics.
+   */
+  private boolean collectRecordedStatisticsForRound(
+      final Map<OverTimeStatisticType, IStat> overTimeStatisticSources,
+      final List<GamePlayer> players,
+      final List<String> alliances,
+      final Round round) {
+    final RoundStatistics statistics = round.getStatistics();
+    if (statistics == null) {
+      return false;
+    }
+    final Map<OverTimeStatisticType, Map<GamePlayer, Double>> values = new HashMap<>();
+    for (final Map.Entry<OverTimeStatisticType, IStat> entry :
+        overTimeStatisticSources.entrySet()) {
+      final Map<GamePlayer, Double> playerValues = new HashMap<>();
+      for (final GamePlayer player : players) {
+        final OptionalDouble value = entry.getValue().getValue(player, statistics, game, mapData);
+        if (value.isEmpty()) {
+          return false;
+        }
+        playerValues.put(player, value.getAsDouble());
+      }
+      values.put(entry.getKey(), playerValues);
     }
+    values.forEach(
+        (type, playerValues) -> {
+          final Table<String, Round, Double> table =
+              underConstruction.getOverTimeStatistics().get(type);
+          playerValues.forEach((player, value) -> table.put(player.getName(), round, value));
+          for (final String alliance : alliances) {
+            table.put(
+                alliance,
+                round,
+                game.getAllianceTracker().getPlayersInAlliance(alliance).stream()
+                    .mapToDouble(player -> playerValues.getOrDefault(player, 0.0))
+                    .sum());
+          }
+        });
+    return true;
   }
 
   private void collectOverTimeStatisticsForRound(
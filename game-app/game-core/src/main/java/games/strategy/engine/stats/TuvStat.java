@@ -9,6 +9,7 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.util.TuvCostsCalculator;
 import java.util.Collection;
+import java.util.OptionalDouble;
 import java.util.function.Predicate;
 import org.triplea.java.collections.IntegerMap;
 
@@ -30,4 +31,20 @@ public class TuvStat implements IStat {
         .mapToInt(unit -> costs.getInt(unit.getType()))
         .sum();
   }
+
+  @Override
+  public OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    final IntegerMap<UnitType> costs = new TuvCostsCalculator().getCostsForTuv(player);
+    final IntegerMap<String> units = statistics.getUnits(player);
+    return OptionalDouble.of(
+        units.keySet().stream()
+            .filter(mapData::shouldDrawUnit)
+            .mapToInt(
+                type -> units.getInt(type) * costs.getInt(data.getUnitTypeList().getUnitType(type)))
+            .sum());
+  }
 }
@@ -7,7 +7,9 @@ import games.strategy.engine.data.UnitHolder;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.util.Collection;
+import java.util.OptionalDouble;
 import java.util.function.Predicate;
+import org.triplea.java.collections.IntegerMap;
 
 public class UnitsStat implements IStat {
   @Override
@@ -27,4 +29,18 @@ public class UnitsStat implements IStat {
         .filter(visible)
         .count();
   }
+
+  @Override
+  public OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    final IntegerMap<String> units = statistics.getUnits(player);
+    return OptionalDouble.of(
+        units.keySet().stream()
+            .filter(mapData::shouldDrawUnit)
+            .mapToInt(units::getInt)
+            .sum());
+  }
 }
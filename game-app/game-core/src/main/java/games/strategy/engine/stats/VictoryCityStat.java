@@ -6,6 +6,7 @@ import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.ui.mapdata.MapData;
 import java.util.Objects;
+import java.util.OptionalDouble;
 
 public class VictoryCityStat implements IStat {
   @Override
@@ -23,4 +24,13 @@ public class VictoryCityStat implements IStat {
         .mapToInt(TerritoryAttachment::getVictoryCity)
         .sum();
   }
+
+  @Override
+  public OptionalDouble getValue(
+      final GamePlayer player,
+      final RoundStatistics statistics,
+      final GameData data,
+      final MapData mapData) {
+    return OptionalDouble.of(statistics.getVictoryCities(player));
+  }
 }
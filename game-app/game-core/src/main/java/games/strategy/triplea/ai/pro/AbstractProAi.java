@@ -1,6 +1,7 @@
 package games.strategy.triplea.ai.pro;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataEvent;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameSequence;
 import games.strategy.engine.data.GameState;
@@ -10,6 +11,7 @@ import games.strategy.engine.data.Unit;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.player.PlayerBridge;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.AbstractAi;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
@@ -19,12 +21,14 @@ import games.strategy.triplea.ai.pro.logging.ProLogUi;
 import games.strategy.triplea.ai.pro.logging.ProLogger;
 import games.strategy.triplea.ai.pro.simulate.ProDummyDelegateBridge;
 import games.strategy.triplea.ai.pro.simulate.ProSimulateTurnUtils;
+import games.strategy.triplea.ai.pro.util.ProBattleResultCache;
 import games.strategy.triplea.ai.pro.util.ProBattleUtils;
 import games.strategy.triplea.ai.pro.util.ProMatches;
 import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
 import games.strategy.triplea.ai.pro.util.ProPurchaseUtils;
 import games.strategy.triplea.ai.pro.util.ProTransportUtils;
 import games.strategy.triplea.attachments.PoliticalActionAttachment;
+import games.strategy.triplea.attachments.RulesAttachment;
 import games.strategy.triplea.delegate.DiceRoll;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.PoliticsDelegate;
@@ -38,6 +42,7 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
 import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
+import games.strategy.triplea.settings.ClientSetting;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -47,7 +52,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import lombok.Getter;
+import lombok.Value;
+import org.triplea.debug.Tracing;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.util.Tuple;
 
@@ -64,6 +72,8 @@ public abstract class AbstractProAi extends AbstractAi {
   private final ProRetreatAi retreatAi;
   private final ProScrambleAi scrambleAi;
   private final ProPoliticsAi politicsAi;
+  private final ProPonderer ponderer;
+  private final Runnable stepChangedListener;
 
   // Data shared across phases
   private Map<Territory, ProTerritory> storedCombatMoveMap;
@@ -72,6 +82,16 @@ public abstract class AbstractProAi extends AbstractAi {
   private List<PoliticalActionAttachment> storedPoliticalActions;
   private List<Territory> storedStrafingTerritories;
 
+  /** A turn pondered by {@link #ponderTurn}, see {@link ProPonderer}. */
+  @Value
+  static class PonderedTurn {
+    AbstractProAi ponderingAi;
+    /** The copy of the game the turn was pondered from, which the stored moves refer to. */
+    GameData snapshotData;
+    /** The copy of the game after the simulated turn, null if place/end of turn isn't reached. */
+    @Nullable GameData simulatedData;
+  }
+
   public AbstractProAi(
       final String name,
       final IBattleCalculator battleCalculator,
@@ -86,6 +106,8 @@ public abstract class AbstractProAi extends AbstractAi {
     retreatAi = new ProRetreatAi(this);
     scrambleAi = new ProScrambleAi(this);
     politicsAi = new ProPoliticsAi(this);
+    ponderer = new ProPonderer(this);
+    stepChangedListener = ponderer::stepChanged;
     storedCombatMoveMap = null;
     storedFactoryMoveMap = null;
     storedPurchaseTerritories = null;
@@ -93,9 +115,20 @@ public abstract class AbstractProAi extends AbstractAi {
     storedStrafingTerritories = new ArrayList<>();
   }
 
+  @Override
+  public void initialize(final PlayerBridge playerBridge, final GamePlayer gamePlayer) {
+    super.initialize(playerBridge, gamePlayer);
+    getGameData().addGameDataEventListener(GameDataEvent.GAME_STEP_CHANGED, stepChangedListener);
+  }
+
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
+    if (getPlayerBridge() != null) {
+      getGameData()
+          .removeGameDataEventListener(GameDataEvent.GAME_STEP_CHANGED, stepChangedListener);
+    }
+    ponderer.stop();
     calc.stop();
   }
 
@@ -117,6 +150,12 @@ public abstract class AbstractProAi extends AbstractAi {
    */
   protected abstract void prepareData(GameData data);
 
+  /** Starts a phase of the turn, whose trace ends when the returned span is closed. */
+  private Tracing.Span startPhase(final String phase) {
+    calc.startPhase(phase, Duration.ofSeconds(ClientSetting.aiPhaseTimeBudget.getValueOrThrow()));
+    return Tracing.start("phase", phase);
+  }
+
   @Override
   protected void move(
       final boolean nonCombat,
@@ -129,25 +168,30 @@ public abstract class AbstractProAi extends AbstractAi {
     prepareData(data);
     boolean didCombatMove = false;
     boolean didNonCombatMove = false;
-    if (nonCombat) {
-      nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
-      storedFactoryMoveMap = null;
-      didNonCombatMove = true;
-    } else {
-      if (storedCombatMoveMap == null) {
-        combatMoveAi.doCombatMove(moveDel);
-      } else {
-        combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
-        storedCombatMoveMap = null;
-      }
-      didCombatMove = true;
-      // Some maps only have a single "combat" move phase. For these, do "non-combat" moves too,
-      // after combat moves.
-      if (!hasNonCombatMove(getGameStepsForPlayer(data, player, 0))) {
+    try (Tracing.Span ignored =
+        startPhase(player.getName() + (nonCombat ? " non-combat move" : " combat move"))) {
+      if (nonCombat) {
         nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
         storedFactoryMoveMap = null;
         didNonCombatMove = true;
+      } else {
+        if (storedCombatMoveMap == null) {
+          combatMoveAi.doCombatMove(moveDel);
+        } else {
+          combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
+          storedCombatMoveMap = null;
+        }
+        didCombatMove = true;
+        // Some maps only have a single "combat" move phase. For these, do "non-combat" moves too,
+        // after combat moves.
+        if (!hasNonCombatMove(getGameStepsForPlayer(data, player, 0))) {
+          nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
+          storedFactoryMoveMap = null;
+          didNonCombatMove = true;
+        }
       }
+    } finally {
+      calc.endPhase();
     }
 
     Duration delta = Duration.between(start, Instant.now());
@@ -174,41 +218,99 @@ public abstract class AbstractProAi extends AbstractAi {
       prepareData(data);
       storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
     } else {
-      // Repair factories
-      purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
-
-      // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
-          ProPurchaseUtils.findPurchaseTerritories(proData, player);
-      final List<Territory> possibleFactoryTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(),
-              ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player));
-      if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
-        ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
-        return;
+      try (Tracing.Span ignored = startPhase(player.getName() + " purchase")) {
+        simulateTurnAndPurchase(pusToSpend, purchaseDelegate, data, player);
+      } finally {
+        calc.endPhase();
       }
-      ProLogger.info("Starting simulation for purchase phase");
+    }
+    ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
+  }
 
-      // Setup data copy and delegates
-      final GameData dataCopy = copyData(data);
-      if (dataCopy == null) {
+  private void simulateTurnAndPurchase(
+      final int pusToSpend,
+      final IPurchaseDelegate purchaseDelegate,
+      final GameData data,
+      final GamePlayer player) {
+    // Repair factories
+    purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
+
+    // Check if any place territories exist
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+        ProPurchaseUtils.findPurchaseTerritories(proData, player);
+    final List<Territory> possibleFactoryTerritories =
+        CollectionUtils.getMatches(
+            data.getMap().getTerritories(),
+            ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player));
+    if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
+      ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
+      return;
+    }
+    ProLogger.info("Starting simulation for purchase phase");
+
+    // Reuse the turn pondered during the other players' turns if the board is still the same
+    final PonderedTurn ponderedTurn = ponderer.takePonderedTurn(data);
+    final GameData simulatedData;
+    if (ponderedTurn != null) {
+      ProLogger.info("Using the pondered simulation for purchase phase");
+      simulatedData = adoptPonderedTurn(ponderedTurn, data, player);
+    } else {
+      // The game is serialized once and each data copy the simulation needs is forked from that
+      // snapshot, so the game's lock is only held once.
+      final long rulesVersion;
+      final byte[] snapshot;
+      try (GameData.Unlocker ignored = data.acquireWriteLock()) {
+        rulesVersion = ProBattleResultCache.getRulesVersion(data);
+        snapshot = GameDataUtils.gameDataToBytes(data, getSimulationOptions(data)).orElse(null);
+      }
+      if (snapshot == null) {
         return;
       }
-      final GamePlayer playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
-      final IMoveDelegate moveDel = dataCopy.getMoveDelegate();
-      final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
-      moveDel.setDelegateBridgeAndPlayer(bridge);
-
-      // Simulate the next phases until place/end of turn is reached then use simulated data for
-      // purchase
-      final GameSequence sequence = dataCopy.getSequence();
-      final int nextStepIndex = sequence.getStepIndex() + 1;
-      final List<GameStep> gameSteps = getGameStepsForPlayer(dataCopy, playerCopy, nextStepIndex);
-      for (final GameStep step : gameSteps) {
-        sequence.setRoundAndStep(sequence.getRound(), step.getDisplayName(), step.getPlayerId());
-        final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
+      // reuse the battles simulated while pondering that the board changes since didn't touch
+      calc.useBattleResultCache(ponderer.getBattleResultCache(), rulesVersion);
+      try {
+        simulatedData = simulateTurn(snapshot, data, player);
+      } finally {
+        calc.useBattleResultCache(null, 0);
+      }
+    }
+    if (simulatedData != null) {
+      proData.initializeSimulation(this, simulatedData, player);
+      storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
+    }
+  }
+
+  /**
+   * Simulates the next phases of the player's turn on a copy of the game until place/end of turn is
+   * reached, storing the moves and political actions chosen on the way transferred to the given
+   * data.
+   *
+   * @return The simulated data copy to purchase for, or null if place/end of turn isn't reached.
+   */
+  @Nullable
+  private GameData simulateTurn(
+      final byte[] snapshot, final GameData data, final GamePlayer player) {
+    // Setup data copy and delegates
+    final GameData dataCopy = forkData(snapshot);
+    if (dataCopy == null) {
+      return null;
+    }
+    final GamePlayer playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
+    final IMoveDelegate moveDel = dataCopy.getMoveDelegate();
+    final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
+    moveDel.setDelegateBridgeAndPlayer(bridge);
+
+    // Simulate the next phases until place/end of turn is reached then use simulated data for
+    // purchase
+    final GameSequence sequence = dataCopy.getSequence();
+    final int nextStepIndex = data.getSequence().getStepIndex() + 1;
+    final List<GameStep> gameSteps = getGameStepsForPlayer(dataCopy, playerCopy, nextStepIndex);
+    for (final GameStep step : gameSteps) {
+      sequence.setRoundAndStep(
+          data.getSequence().getRound(), step.getDisplayName(), step.getPlayerId());
+      final String stepName = step.getName();
+      ProLogger.info("Simulating phase: " + stepName);
+      try (Tracing.Span ignored = Tracing.start("phase", "simulate " + stepName)) {
         if (GameStep.isNonCombatMoveStep(stepName)) {
           proData.initializeSimulation(this, dataCopy, playerCopy);
           final Map<Territory, ProTerritory> factoryMoveMap =
@@ -229,9 +331,9 @@ public abstract class AbstractProAi extends AbstractAi {
           if (!hasNonCombatMove(gameSteps)) {
             // Copy the data so we can simulate battles on it, in order to choose our "non combat"
             // moves based on that (estimated) board state.
-            final GameData dataCopy2 = copyData(data);
+            final GameData dataCopy2 = forkData(snapshot);
             if (dataCopy2 == null) {
-              return;
+              return null;
             }
             final GamePlayer playerCopy2 = dataCopy2.getPlayerList().getPlayerId(player.getName());
             proData.initializeSimulation(this, dataCopy2, playerCopy2);
@@ -248,9 +350,7 @@ public abstract class AbstractProAi extends AbstractAi {
           proData.initializeSimulation(this, dataCopy, playerCopy);
           ProSimulateTurnUtils.simulateBattles(proData, dataCopy, playerCopy, bridge, calc);
         } else if (GameStep.isPlaceStep(stepName) || GameStep.isEndTurnStep(stepName)) {
-          proData.initializeSimulation(this, dataCopy, player);
-          storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
-          break;
+          return dataCopy;
         } else if (GameStep.isPoliticsStep(stepName)) {
           proData.initializeSimulation(this, dataCopy, player);
           // Can only do politics if this player still owns its capital.
@@ -265,12 +365,101 @@ public abstract class AbstractProAi extends AbstractAi {
         }
       }
     }
-    ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
+    return null;
   }
 
-  private GameData copyData(GameData data) {
-    GameDataManager.Options options = GameDataManager.Options.builder().withDelegates(true).build();
-    GameData dataCopy = GameDataUtils.cloneGameData(data, options).orElse(null);
+  /**
+   * Returns a Pro AI that ponders this player's turns in the background, or null if this AI doesn't
+   * ponder. The returned AI must not share its battle calculator with this one, since it simulates
+   * battles while this one may be asked e.g. to select casualties.
+   */
+  @Nullable
+  protected AbstractProAi newPonderingAi() {
+    return null;
+  }
+
+  /**
+   * Simulates the player's next turn from a snapshot of the game taken before it. Called on the
+   * pondering AI returned by {@link #newPonderingAi()}.
+   *
+   * @return The pondered turn or null if the game has no purchase step of the player ahead.
+   */
+  @Nullable
+  PonderedTurn ponderTurn(final byte[] snapshot, final String playerName) {
+    final GameData data = forkData(snapshot);
+    if (data == null) {
+      return null;
+    }
+    final GamePlayer player = data.getPlayerList().getPlayerId(playerName);
+    // simulate the turn as if the game were at the player's purchase step, which is in the next
+    // round if the player's turn comes first in a round
+    final GameSequence sequence = data.getSequence();
+    int round = sequence.getRound();
+    GameStep purchaseStep = findPurchaseStep(data, player, sequence.getStepIndex());
+    if (purchaseStep == null) {
+      round++;
+      purchaseStep = findPurchaseStep(data, player, 0);
+    }
+    if (purchaseStep == null) {
+      return null;
+    }
+    sequence.setRoundAndStep(round, purchaseStep.getDisplayName(), player);
+    return new PonderedTurn(this, data, simulateTurn(snapshot, data, player));
+  }
+
+  private static @Nullable GameStep findPurchaseStep(
+      final GameData data, final GamePlayer player, final int startStep) {
+    return getGameStepsForPlayer(data, player, startStep).stream()
+        .filter(step -> GameStep.isPurchaseStep(step.getName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Takes over the moves and political actions of a pondered turn, transferred to the given data,
+   * which must be in the same state as the snapshot the turn was pondered from.
+   *
+   * @return The simulated data copy to purchase for, or null if place/end of turn isn't reached.
+   */
+  @Nullable
+  private GameData adoptPonderedTurn(
+      final PonderedTurn ponderedTurn, final GameData data, final GamePlayer player) {
+    final AbstractProAi ponderingAi = ponderedTurn.getPonderingAi();
+    final GameData snapshotData = ponderedTurn.getSnapshotData();
+    proData.initializeSimulation(
+        this, snapshotData, snapshotData.getPlayerList().getPlayerId(player.getName()));
+    if (storedCombatMoveMap == null && ponderingAi.storedCombatMoveMap != null) {
+      storedCombatMoveMap =
+          ProSimulateTurnUtils.transferMoveMap(
+              proData, ponderingAi.storedCombatMoveMap, data, player);
+    }
+    if (storedFactoryMoveMap == null && ponderingAi.storedFactoryMoveMap != null) {
+      storedFactoryMoveMap =
+          ProSimulateTurnUtils.transferMoveMap(
+              proData, ponderingAi.storedFactoryMoveMap, data, player);
+    }
+    if (storedPoliticalActions == null) {
+      storedPoliticalActions = ponderingAi.storedPoliticalActions;
+    }
+    Optional.ofNullable(ponderedTurn.getSimulatedData()).ifPresent(this::prepareData);
+    return ponderedTurn.getSimulatedData();
+  }
+
+  /**
+   * Returns the options the game is serialized with for the copies the AI simulates its turn on.
+   * The battle records of past rounds are only kept if the conditions of the map read them.
+   */
+  static GameDataManager.Options getSimulationOptions(final GameData data) {
+    return GameDataManager.Options.forAiSimulation(
+        RulesAttachment.isAnyConditionReadingBattleRecords(data));
+  }
+
+  /**
+   * Returns a copy of the game data deserialized from the snapshot, with the delegates set up for
+   * this AI, or null if the snapshot can't be read. Each call returns a separate copy.
+   */
+  private @Nullable GameData forkData(final byte[] snapshot) {
+    final GameData dataCopy = GameDataUtils.createGameDataFromBytes(snapshot).orElse(null);
     Optional.ofNullable(dataCopy).ifPresent(this::prepareData);
     return dataCopy;
   }
@@ -301,7 +490,9 @@ public abstract class AbstractProAi extends AbstractAi {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    purchaseAi.place(storedPurchaseTerritories, placeDelegate);
+    try (Tracing.Span ignored = Tracing.start("phase", player.getName() + " place")) {
+      purchaseAi.place(storedPurchaseTerritories, placeDelegate);
+    }
     storedPurchaseTerritories = null;
     ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
   }
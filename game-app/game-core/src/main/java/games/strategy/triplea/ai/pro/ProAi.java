@@ -3,16 +3,34 @@ package games.strategy.triplea.ai.pro;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.framework.GameShutdownRegistry;
 import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import javax.annotation.Nullable;
 
 public class ProAi extends AbstractProAi {
   // Odds calculator
-  private static final ConcurrentBattleCalculator concurrentCalc = new ConcurrentBattleCalculator();
+  private static final ConcurrentBattleCalculator sharedCalc = new ConcurrentBattleCalculator();
+
+  private final ConcurrentBattleCalculator concurrentCalc;
+  // Odds calculator of the AIs pondering this AI's turns, created when pondering starts
+  @Nullable private ConcurrentBattleCalculator ponderingCalc;
 
   public ProAi(final String name, final String playerLabel) {
-    super(name, concurrentCalc, new ProData(), playerLabel);
-    // cuncurrentCalc is static so that it can be shared across all ProAi instances
+    this(name, playerLabel, sharedCalc);
+    // sharedCalc is static so that it can be shared across all ProAi instances
     // at the end of a game, it needs to be cleared up
-    GameShutdownRegistry.registerShutdownAction(() -> concurrentCalc.setGameData(null));
+    GameShutdownRegistry.registerShutdownAction(() -> sharedCalc.setGameData(null));
+  }
+
+  /**
+   * Creates a Pro AI that simulates battles with the given calculator instead of the one shared by
+   * all Pro AIs, so that several games can be played at the same time. The calculator may be shared
+   * by the Pro AIs of one game.
+   */
+  public ProAi(
+      final String name,
+      final String playerLabel,
+      final ConcurrentBattleCalculator concurrentCalc) {
+    super(name, concurrentCalc, new ProData(), playerLabel);
+    this.concurrentCalc = concurrentCalc;
   }
 
   @Override
@@ -20,6 +38,23 @@ public class ProAi extends AbstractProAi {
     super.stopGame(); // absolutely MUST call super.stopGame() first
     concurrentCalc.cancel();
     concurrentCalc.setGameData(null);
+    synchronized (this) {
+      if (ponderingCalc != null) {
+        ponderingCalc.cancel();
+        ponderingCalc.setGameData(null);
+      }
+    }
+  }
+
+  @Override
+  protected synchronized AbstractProAi newPonderingAi() {
+    if (ponderingCalc == null) {
+      // pondering happens during the other players' turns, so it only takes half of the cores
+      ponderingCalc =
+          new ConcurrentBattleCalculator(
+              Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+    return new ProAi(getName(), getPlayerLabel(), ponderingCalc);
   }
 
   @Override
@@ -9,6 +9,7 @@ import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOption;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOptionMap;
+import games.strategy.triplea.ai.pro.data.ProReachabilityCache;
 import games.strategy.triplea.ai.pro.data.ProTerritory;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
@@ -41,6 +43,15 @@ public final class ProData {
   // future, we could add logic about moving such units to factory territories from elsewhere.
   private final Set<Unit> unitsToBeConsumed = new HashSet<>();
   private double minCostPerHitPoint = Double.MAX_VALUE;
+  // The cache of the game is kept while the turn is simulated on copies, the cache of the copy
+  // simulated last is dropped when another game data is used, so that the copy can be collected
+  @Getter(AccessLevel.NONE)
+  private @Nullable ProReachabilityCache gameReachabilityCache;
+
+  @Getter(AccessLevel.NONE)
+  private @Nullable ProReachabilityCache simulationReachabilityCache;
+
+  private ProReachabilityCache reachabilityCache;
 
   private AbstractProAi proAi;
   private GameData data;
@@ -86,6 +97,30 @@ public final class ProData {
     unitValueMap = new TuvCostsCalculator().getCostsForTuv(player);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
     minCostPerHitPoint = getMinCostPerHitPoint(purchaseOptions.getLandOptions());
+    reachabilityCache = getReachabilityCache(data, isSimulation);
+  }
+
+  private ProReachabilityCache getReachabilityCache(
+      final GameData data, final boolean isSimulation) {
+    if (simulationReachabilityCache != null
+        && (!isSimulation || !simulationReachabilityCache.isFor(data))) {
+      simulationReachabilityCache.close();
+      simulationReachabilityCache = null;
+    }
+    if (gameReachabilityCache != null && gameReachabilityCache.isFor(data)) {
+      return gameReachabilityCache;
+    }
+    if (isSimulation) {
+      if (simulationReachabilityCache == null) {
+        simulationReachabilityCache = new ProReachabilityCache(data);
+      }
+      return simulationReachabilityCache;
+    }
+    if (gameReachabilityCache != null) {
+      gameReachabilityCache.close();
+    }
+    gameReachabilityCache = new ProReachabilityCache(data);
+    return gameReachabilityCache;
   }
 
   private static Map<Unit, Territory> newUnitTerritoryMap(final GameState data) {
@@ -0,0 +1,248 @@
+package games.strategy.triplea.ai.pro;
+
+import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.GameStateVersions;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.ai.pro.AbstractProAi.PonderedTurn;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
+import games.strategy.triplea.ai.pro.util.ProBattleResultCache;
+import games.strategy.triplea.settings.ClientSetting;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.debug.Tracing;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * Ponders the next turn of a Pro AI while the other players take their turns. At each step
+ * boundary before the AI's purchase step, a snapshot of the game is taken on a background thread
+ * and a separate pondering AI simulates the AI's turn on it, the same way the AI does at the start
+ * of its purchase phase. This computes the territory values, the attack options of both sides and
+ * the battle odds of the turn ahead of time on spare cores.
+ *
+ * <p>The pondered turn is only used if it is finished and the game is in the same state when the
+ * AI's purchase phase begins as when the snapshot was taken, as far as the simulation reads it: the
+ * board and the rules the battles are simulated with, checked with the {@link GameStateVersions}
+ * of the game, and the AI's own resources. The round and the resources of the other players, e.g.
+ * their income, don't matter. Otherwise the AI simulates its turn itself, with its own battle
+ * calculator. Either way, the battles simulated while pondering are cached by their territory and
+ * units in a {@link ProBattleResultCache}, so the battles the changes since didn't touch are not
+ * simulated again.
+ */
+@Slf4j
+class ProPonderer {
+  /** The kinds of game state the simulation of the turn reads besides the AI's own resources. */
+  private static final EnumSet<GameStateVersions.Fact> SIMULATION_INPUTS =
+      EnumSet.of(
+          GameStateVersions.Fact.TERRITORY_OWNERS,
+          GameStateVersions.Fact.UNITS,
+          GameStateVersions.Fact.RELATIONSHIPS,
+          GameStateVersions.Fact.OTHER);
+
+  private final AbstractProAi proAi;
+  private final Supplier<ExecutorService> executorFactory;
+  private final ProBattleResultCache battleResultCache = new ProBattleResultCache();
+  @Nullable private ExecutorService executor;
+  @Nullable private Pondering pondering;
+
+  ProPonderer(final AbstractProAi proAi) {
+    this(
+        proAi,
+        () -> {
+          final String threadName = "Pro AI pondering for " + proAi.getName();
+          return Executors.newSingleThreadExecutor(
+              runnable -> {
+                final Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+              });
+        });
+  }
+
+  @VisibleForTesting
+  ProPonderer(final AbstractProAi proAi, final Supplier<ExecutorService> executorFactory) {
+    this.proAi = proAi;
+    this.executorFactory = executorFactory;
+  }
+
+  /** The state of the game the simulation of the turn reads, see {@link #SIMULATION_INPUTS}. */
+  @Value
+  private static class SimulationState {
+    long version;
+    IntegerMap<Resource> resources;
+
+    static SimulationState of(final GameData data, final GamePlayer player) {
+      return new SimulationState(
+          data.getStateVersions().getVersion(SIMULATION_INPUTS),
+          player.getResources().getResourcesCopy());
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Pondering {
+    private final SimulationState state;
+    private final AbstractProAi ponderingAi;
+    private final Future<PonderedTurn> ponderedTurn;
+
+    void cancel() {
+      // the battle calculator doesn't react to interrupts, stopping the pondering AI's odds
+      // calculator ends its simulation at the next battle
+      ponderingAi.getCalc().stop();
+      ponderedTurn.cancel(true);
+    }
+  }
+
+  /** Starts pondering the AI's next turn if a step before its purchase step begins. */
+  synchronized void stepChanged() {
+    if (!ClientSetting.aiPondering.getValueOrThrow()) {
+      cancel();
+      return;
+    }
+    final GameData data = proAi.getGameData();
+    final GamePlayer player = proAi.getGamePlayer();
+    if (!isPurchaseStepAhead(data.getSequence(), player)) {
+      // keep what was pondered for the purchase step during the player's own steps before it
+      return;
+    }
+    final SimulationState state = SimulationState.of(data, player);
+    if (pondering != null && pondering.state.equals(state)) {
+      return;
+    }
+    final AbstractProAi ponderingAi = proAi.newPonderingAi();
+    if (ponderingAi == null) {
+      return;
+    }
+    cancel();
+    if (executor == null) {
+      executor = executorFactory.get();
+    }
+    pondering =
+        new Pondering(
+            state,
+            ponderingAi,
+            executor.submit(() -> ponder(data, player, state, ponderingAi, battleResultCache)));
+  }
+
+  /**
+   * Returns true if another player's step began and the player's purchase step is ahead, possibly
+   * in the next round.
+   */
+  private static boolean isPurchaseStepAhead(final GameSequence sequence, final GamePlayer player) {
+    if (player.equals(sequence.getStep().getPlayerId())) {
+      return false;
+    }
+    for (int i = 1; i < sequence.size(); i++) {
+      final GameStep step = sequence.getStep((sequence.getStepIndex() + i) % sequence.size());
+      if (player.equals(step.getPlayerId()) && GameStep.isPurchaseStep(step.getName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Nullable
+  private static PonderedTurn ponder(
+      final GameData data,
+      final GamePlayer player,
+      final SimulationState state,
+      final AbstractProAi ponderingAi,
+      final ProBattleResultCache battleResultCache) {
+    final String playerName = player.getName();
+    try (Tracing.Span ignored = Tracing.start("phase", playerName + " pondering")) {
+      final byte[] snapshot;
+      // the write lock, since serializing the game data takes it and a read lock can't be upgraded
+      try (GameData.Unlocker ignored2 = data.acquireWriteLock()) {
+        if (!SimulationState.of(data, player).equals(state)) {
+          // the game has moved on since the step began, the next step starts over
+          return null;
+        }
+        ponderingAi
+            .getCalc()
+            .useBattleResultCache(battleResultCache, ProBattleResultCache.getRulesVersion(data));
+        snapshot =
+            GameDataUtils.gameDataToBytes(data, AbstractProAi.getSimulationOptions(data))
+                .orElse(null);
+      }
+      return snapshot == null ? null : ponderingAi.ponderTurn(snapshot, playerName);
+    } catch (final RuntimeException e) {
+      if (!Thread.currentThread().isInterrupted()) {
+        log.warn("Failed to ponder the turn of " + playerName, e);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Returns the turn pondered from the current state of the game if it is finished, or null if
+   * there is none. A pondering that is still running is cancelled rather than waited for, so that
+   * the AI simulates its turn itself with its own battle calculator. Pondering stops until the next
+   * step begins.
+   */
+  @Nullable
+  PonderedTurn takePonderedTurn(final GameData data) {
+    final Pondering taken;
+    synchronized (this) {
+      taken = pondering;
+      pondering = null;
+    }
+    if (taken == null) {
+      return null;
+    }
+    if (!taken.state.equals(SimulationState.of(data, proAi.getGamePlayer()))) {
+      ProLogger.info("Discarding the pondered turn since the board has changed");
+      taken.cancel();
+      return null;
+    }
+    if (!taken.ponderedTurn.isDone()) {
+      ProLogger.info("Discarding the pondered turn since it isn't finished yet");
+      taken.cancel();
+      return null;
+    }
+    try {
+      return taken.ponderedTurn.get();
+    } catch (final ExecutionException | CancellationException e) {
+      return null;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  /**
+   * Returns the cache of the battles simulated while pondering, for the AI to use when it
+   * simulates its turn itself, or null if the AI doesn't ponder.
+   */
+  @Nullable
+  ProBattleResultCache getBattleResultCache() {
+    return ClientSetting.aiPondering.getValueOrThrow() ? battleResultCache : null;
+  }
+
+  private synchronized void cancel() {
+    if (pondering != null) {
+      pondering.cancel();
+      pondering = null;
+    }
+  }
+
+  /** Stops pondering for good, e.g. when the game ends. */
+  synchronized void stop() {
+    cancel();
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package games.strategy.triplea.ai.pro.data;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStateVersions;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.events.TerritoryListener;
+import games.strategy.triplea.ai.pro.util.ProMatches;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.Value;
+
+/**
+ * Caches the territories each unit can reach with its movement left, so that the move options
+ * analyses of the different phases of a turn (purchase, combat move, non-combat move) don't have to
+ * search the map again for units that haven't moved.
+ *
+ * <p>The territories a unit can reach depend on the owners and attachments of the territories
+ * around it, on the relationships between the players and on the rules, e.g. the movement
+ * restrictions of rules attachments and the game properties. An entry is dropped when the owner or
+ * an attachment of a territory the search examined changes, and the whole cache is dropped when the
+ * relationships, the round or any other state, such as the rules, change. A unit that moved or
+ * whose movement left changed is looked up under a different key, and its stale entries are dropped
+ * when the units of the territory they start from change.
+ */
+public final class ProReachabilityCache implements TerritoryListener {
+  private static final EnumSet<GameStateVersions.Fact> CLEARED_ON =
+      EnumSet.of(
+          GameStateVersions.Fact.RELATIONSHIPS,
+          GameStateVersions.Fact.ROUND,
+          GameStateVersions.Fact.OTHER);
+
+  /** How a unit moves, which determines the territories it can move through. */
+  public enum Movement {
+    LAND,
+    SEA,
+    AIR
+  }
+
+  @Value
+  private static class Key {
+    Unit unit;
+    Territory from;
+    GamePlayer player;
+    BigDecimal range;
+    Movement movement;
+    boolean isCombatMove;
+    boolean isIgnoringRelationships;
+  }
+
+  @Value
+  private static class Entry {
+    Set<Territory> reachable;
+    Set<Territory> examined;
+  }
+
+  private final GameData data;
+  private final GameMap map;
+  private final GameStateVersions stateVersions;
+  private final Map<Key, Entry> entries = new HashMap<>();
+  private final Map<Territory, Set<Key>> keysByExaminedTerritory = new HashMap<>();
+  private long stateVersion;
+  private long invalidations;
+
+  /** Creates a cache for the given game data, which notifies it of changes to its territories. */
+  public ProReachabilityCache(final GameData data) {
+    this.data = data;
+    map = data.getMap();
+    stateVersions = data.getStateVersions();
+    stateVersion = stateVersions.getVersion(CLEARED_ON);
+    data.addTerritoryListener(this);
+  }
+
+  /**
+   * Returns the territories the unit can reach from the given territory with the given range, the
+   * same as {@link GameMap#getNeighborsByMovementCost(Territory, BigDecimal, Predicate)} with the
+   * matching {@link ProMatches} condition for the movement. The returned set may be modified.
+   */
+  public Set<Territory> getReachableTerritories(
+      final Unit unit,
+      final Territory from,
+      final BigDecimal range,
+      final GamePlayer player,
+      final Movement movement,
+      final boolean isCombatMove,
+      final boolean isIgnoringRelationships) {
+    final Key key =
+        new Key(
+            unit,
+            from,
+            player,
+            range.stripTrailingZeros(),
+            movement,
+            isCombatMove,
+            isIgnoringRelationships);
+    final long invalidationsBefore;
+    synchronized (this) {
+      clearIfStateChanged();
+      final Entry entry = entries.get(key);
+      if (entry != null) {
+        return new HashSet<>(entry.getReachable());
+      }
+      invalidationsBefore = invalidations;
+    }
+
+    // Search outside the lock, so that the analyses of different players can run in parallel
+    final Set<Territory> reachable =
+        map.getNeighborsByMovementCost(from, range, newMoveCondition(key));
+    final Set<Territory> examined = new HashSet<>(reachable);
+    examined.add(from);
+    for (final Territory territory : List.copyOf(examined)) {
+      examined.addAll(map.getNeighbors(territory));
+    }
+
+    synchronized (this) {
+      // Don't cache a result that a change during the search may have made stale
+      if (invalidations == invalidationsBefore) {
+        entries.put(key, new Entry(Set.copyOf(reachable), examined));
+        for (final Territory territory : examined) {
+          keysByExaminedTerritory.computeIfAbsent(territory, t -> new HashSet<>()).add(key);
+        }
+      }
+    }
+    return reachable;
+  }
+
+  private static Predicate<Territory> newMoveCondition(final Key key) {
+    final GamePlayer player = key.getPlayer();
+    switch (key.getMovement()) {
+      case LAND:
+        return key.isIgnoringRelationships()
+            ? ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, key.getUnit())
+            : ProMatches.territoryCanMoveSpecificLandUnit(
+                player, key.isCombatMove(), key.getUnit());
+      case SEA:
+        return ProMatches.territoryCanMoveSeaUnits(player, key.isCombatMove());
+      case AIR:
+        return key.isIgnoringRelationships()
+            ? ProMatches.territoryCanPotentiallyMoveAirUnits(player)
+            : ProMatches.territoryCanMoveAirUnits(player.getData(), player, key.isCombatMove());
+      default:
+        throw new IllegalStateException("Unknown movement: " + key.getMovement());
+    }
+  }
+
+  /** Returns whether this cache is for the given game data. */
+  public boolean isFor(final GameData data) {
+    return this.data == data;
+  }
+
+  /**
+   * Stops listening to the changes of the game data, so that a game data copy the cache is no
+   * longer used for can be garbage collected.
+   */
+  public void close() {
+    data.removeTerritoryListener(this);
+  }
+
+  private void clearIfStateChanged() {
+    final long currentStateVersion = stateVersions.getVersion(CLEARED_ON);
+    if (currentStateVersion != stateVersion) {
+      stateVersion = currentStateVersion;
+      entries.clear();
+      keysByExaminedTerritory.clear();
+      invalidations++;
+    }
+  }
+
+  private void remove(final Key key) {
+    final Entry entry = entries.remove(key);
+    if (entry == null) {
+      return;
+    }
+    for (final Territory territory : entry.getExamined()) {
+      final Set<Key> keys = keysByExaminedTerritory.get(territory);
+      if (keys != null) {
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          keysByExaminedTerritory.remove(territory);
+        }
+      }
+    }
+  }
+
+  private void invalidate(final Territory territory) {
+    invalidations++;
+    final Set<Key> keys = keysByExaminedTerritory.get(territory);
+    if (keys != null) {
+      List.copyOf(keys).forEach(this::remove);
+    }
+  }
+
+  private void removeUnitsThatLeft(final Territory territory) {
+    final Set<Key> keys = keysByExaminedTerritory.get(territory);
+    if (keys == null) {
+      return;
+    }
+    for (final Key key : List.copyOf(keys)) {
+      if (key.getFrom().equals(territory)
+          && !territory.getUnitCollection().contains(key.getUnit())) {
+        remove(key);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void unitsChanged(final Territory territory) {
+    removeUnitsThatLeft(territory);
+  }
+
+  @Override
+  public synchronized void ownerChanged(final Territory territory) {
+    invalidate(territory);
+  }
+
+  @Override
+  public synchronized void attachmentChanged(final Territory territory) {
+    invalidate(territory);
+  }
+
+  @Override
+  public synchronized void territoriesChanged(
+      final Collection<Territory> unitsChanged,
+      final Collection<Territory> ownerChanged,
+      final Collection<Territory> attachmentChanged) {
+    unitsChanged.forEach(this::removeUnitsThatLeft);
+    ownerChanged.forEach(this::invalidate);
+    attachmentChanged.forEach(this::invalidate);
+  }
+}
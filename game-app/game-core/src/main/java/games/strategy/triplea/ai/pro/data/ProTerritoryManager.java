@@ -33,7 +33,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.mutable.MutableObject;
+import org.triplea.debug.Tracing;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.util.Tuple;
 
@@ -78,59 +80,69 @@ public class ProTerritoryManager {
 
   /** Sets 'alliedAttackOptions' field to possible available attack options. */
   public void populateAttackOptions() {
-    findAttackOptions(
-        proData,
-        player,
-        proData.getMyUnitTerritories(),
-        attackOptions.getTerritoryMap(),
-        attackOptions.getUnitMoveMap(),
-        attackOptions.getTransportMoveMap(),
-        attackOptions.getBombardMap(),
-        attackOptions.getTransportList(),
-        new ArrayList<>(),
-        new ArrayList<>(),
-        new ArrayList<>(),
-        false,
-        false);
-    findBombingOptions();
-    alliedAttackOptions = findAlliedAttackOptions(player);
+    try (Tracing.Span ignored = Tracing.start("options", "attack options")) {
+      findAttackOptions(
+          proData,
+          player,
+          proData.getMyUnitTerritories(),
+          attackOptions.getTerritoryMap(),
+          attackOptions.getUnitMoveMap(),
+          attackOptions.getTransportMoveMap(),
+          attackOptions.getBombardMap(),
+          attackOptions.getTransportList(),
+          new ArrayList<>(),
+          new ArrayList<>(),
+          new ArrayList<>(),
+          false,
+          false);
+      findBombingOptions();
+      alliedAttackOptions = findAlliedAttackOptions(player);
+    }
   }
 
   public void populatePotentialAttackOptions() {
-    findPotentialAttackOptions(
-        proData,
-        player,
-        proData.getMyUnitTerritories(),
-        potentialAttackOptions.getTerritoryMap(),
-        potentialAttackOptions.getUnitMoveMap(),
-        potentialAttackOptions.getTransportMoveMap(),
-        potentialAttackOptions.getBombardMap(),
-        potentialAttackOptions.getTransportList());
+    try (Tracing.Span ignored = Tracing.start("options", "potential attack options")) {
+      findPotentialAttackOptions(
+          proData,
+          player,
+          proData.getMyUnitTerritories(),
+          potentialAttackOptions.getTerritoryMap(),
+          potentialAttackOptions.getUnitMoveMap(),
+          potentialAttackOptions.getTransportMoveMap(),
+          potentialAttackOptions.getBombardMap(),
+          potentialAttackOptions.getTransportList());
+    }
   }
 
   public void populateDefenseOptions(final List<Territory> clearedTerritories) {
-    findDefendOptions(
-        proData,
-        player,
-        proData.getMyUnitTerritories(),
-        defendOptions.getTerritoryMap(),
-        defendOptions.getUnitMoveMap(),
-        defendOptions.getTransportMoveMap(),
-        defendOptions.getTransportList(),
-        clearedTerritories,
-        false);
+    try (Tracing.Span ignored = Tracing.start("options", "defense options")) {
+      findDefendOptions(
+          proData,
+          player,
+          proData.getMyUnitTerritories(),
+          defendOptions.getTerritoryMap(),
+          defendOptions.getUnitMoveMap(),
+          defendOptions.getTransportMoveMap(),
+          defendOptions.getTransportList(),
+          clearedTerritories,
+          false);
+    }
   }
 
   public void populateEnemyAttackOptions(
       final Collection<Territory> clearedTerritories,
       final Collection<Territory> territoriesToCheck) {
-    enemyAttackOptions =
-        findEnemyAttackOptions(proData, player, clearedTerritories, territoriesToCheck);
+    try (Tracing.Span ignored = Tracing.start("options", "enemy attack options")) {
+      enemyAttackOptions =
+          findEnemyAttackOptions(proData, player, clearedTerritories, territoriesToCheck);
+    }
   }
 
   public void populateEnemyDefenseOptions() {
-    findScrambleOptions(proData, player, attackOptions.getTerritoryMap());
-    enemyDefendOptions = findEnemyDefendOptions(proData, player);
+    try (Tracing.Span ignored = Tracing.start("options", "enemy defense options")) {
+      findScrambleOptions(proData, player, attackOptions.getTerritoryMap());
+      enemyDefendOptions = findEnemyDefendOptions(proData, player);
+    }
   }
 
   public List<ProTerritory> removeTerritoriesThatCantBeConquered() {
@@ -495,37 +507,40 @@ public class ProTerritoryManager {
   private ProOtherMoveOptions findAlliedAttackOptions(final GamePlayer player) {
     final GameState data = proData.getData();
 
-    // Get enemy players in order of turn
+    // Get allied players in order of turn
     final List<GamePlayer> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
-    final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<>();
 
-    // Loop through each enemy to determine the maximum number of enemy units that can attack each
-    // territory
-    for (final GamePlayer alliedPlayer : alliedPlayers) {
-      final List<Territory> alliedUnitTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(alliedPlayer));
-      final Map<Territory, ProTerritory> attackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> unitAttackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> transportAttackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> bombardMap = new HashMap<>();
-      final List<ProTransport> transportMapList = new ArrayList<>();
-      alliedAttackMaps.add(attackMap);
-      findAttackOptions(
-          proData,
-          alliedPlayer,
-          alliedUnitTerritories,
-          attackMap,
-          unitAttackMap,
-          transportAttackMap,
-          bombardMap,
-          transportMapList,
-          new ArrayList<>(),
-          new ArrayList<>(),
-          new ArrayList<>(),
-          false,
-          false);
-    }
+    // Determine the maximum number of units of each ally that can attack each territory. The allies
+    // are independent of each other, so they are analyzed in parallel and collected in turn order.
+    final List<Map<Territory, ProTerritory>> alliedAttackMaps =
+        alliedPlayers.parallelStream()
+            .map(
+                alliedPlayer -> {
+                  final List<Territory> alliedUnitTerritories =
+                      CollectionUtils.getMatches(
+                          data.getMap().getTerritories(),
+                          Matches.territoryHasUnitsOwnedBy(alliedPlayer));
+                  final Map<Territory, ProTerritory> attackMap = new HashMap<>();
+                  try (Tracing.Span ignored =
+                      Tracing.start("options", "attack options of " + alliedPlayer.getName())) {
+                    findAttackOptions(
+                        proData,
+                        alliedPlayer,
+                        alliedUnitTerritories,
+                        attackMap,
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        false,
+                        false);
+                  }
+                  return attackMap;
+                })
+            .collect(Collectors.toList());
     return new ProOtherMoveOptions(alliedAttackMaps, player, true);
   }
 
@@ -543,7 +558,8 @@ public class ProTerritoryManager {
     final List<Territory> enemyTerritories = new ArrayList<>(clearedTerritories);
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each
-    // territory
+    // territory. Unlike the other analyses this one stays sequential, since each enemy's options
+    // depend on the territories the enemies before it in turn order can take.
     for (final GamePlayer enemyPlayer : enemyPlayers) {
       final List<Territory> enemyUnitTerritories =
           CollectionUtils.getMatches(
@@ -704,34 +720,38 @@ public class ProTerritoryManager {
 
     // Get enemy players in order of turn
     final List<GamePlayer> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
-    final List<Map<Territory, ProTerritory>> enemyMoveMaps = new ArrayList<>();
     final List<Territory> clearedTerritories =
         CollectionUtils.getMatches(
             data.getMap().getTerritories(), Matches.isTerritoryAllied(player));
 
-    // Loop through each enemy to determine the maximum number of enemy units that can defend each
-    // territory
-    for (final GamePlayer enemyPlayer : enemyPlayers) {
-      final List<Territory> enemyUnitTerritories =
-          CollectionUtils.getMatches(
-              data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(enemyPlayer));
-      final Map<Territory, ProTerritory> moveMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> unitMoveMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> transportMoveMap = new HashMap<>();
-      final List<ProTransport> transportMapList = new ArrayList<>();
-      enemyMoveMaps.add(moveMap);
-      findDefendOptions(
-          proData,
-          enemyPlayer,
-          enemyUnitTerritories,
-          moveMap,
-          unitMoveMap,
-          transportMoveMap,
-          transportMapList,
-          clearedTerritories,
-          true);
-    }
-
+    // Determine the maximum number of units of each enemy that can defend each territory. The
+    // enemies are independent of each other, so they are analyzed in parallel and collected in turn
+    // order.
+    final List<Map<Territory, ProTerritory>> enemyMoveMaps =
+        enemyPlayers.parallelStream()
+            .map(
+                enemyPlayer -> {
+                  final List<Territory> enemyUnitTerritories =
+                      CollectionUtils.getMatches(
+                          data.getMap().getTerritories(),
+                          Matches.territoryHasUnitsOwnedBy(enemyPlayer));
+                  final Map<Territory, ProTerritory> moveMap = new HashMap<>();
+                  try (Tracing.Span ignored =
+                      Tracing.start("options", "defend options of " + enemyPlayer.getName())) {
+                    findDefendOptions(
+                        proData,
+                        enemyPlayer,
+                        enemyUnitTerritories,
+                        moveMap,
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        new ArrayList<>(),
+                        clearedTerritories,
+                        true);
+                  }
+                  return moveMap;
+                })
+            .collect(Collectors.toList());
     return new ProOtherMoveOptions(enemyMoveMaps, player, false);
   }
 
@@ -777,8 +797,16 @@ public class ProTerritoryManager {
 
         // Find list of potential territories to move to
         final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, isCombatMove));
+            proData
+                .getReachabilityCache()
+                .getReachableTerritories(
+                    mySeaUnit,
+                    myUnitTerritory,
+                    range,
+                    player,
+                    ProReachabilityCache.Movement.SEA,
+                    isCombatMove,
+                    false);
         possibleMoveTerritories.add(myUnitTerritory);
         final Set<Territory> potentialTerritories =
             new HashSet<>(
@@ -836,9 +864,6 @@ public class ProTerritoryManager {
       final boolean isCombatMove,
       final boolean isCheckingEnemyAttacks,
       final boolean isIgnoringRelationships) {
-    final GameData data = proData.getData();
-    final GameMap gameMap = data.getMap();
-
     for (final Territory myUnitTerritory : myUnitTerritories) {
 
       // Find my land units that have movement left
@@ -853,12 +878,16 @@ public class ProTerritoryManager {
         // Should this use getUnitRange()?
         final BigDecimal range = u.getMovementLeft();
         final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory,
-                range,
-                isIgnoringRelationships
-                    ? ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, u)
-                    : ProMatches.territoryCanMoveSpecificLandUnit(player, isCombatMove, u));
+            proData
+                .getReachabilityCache()
+                .getReachableTerritories(
+                    u,
+                    myUnitTerritory,
+                    range,
+                    player,
+                    ProReachabilityCache.Movement.LAND,
+                    isCombatMove,
+                    isIgnoringRelationships);
         possibleMoveTerritories.add(myUnitTerritory);
         final Set<Territory> potentialTerritories =
             new HashSet<>(
@@ -990,12 +1019,16 @@ public class ProTerritoryManager {
 
         // Find potential territories to move to
         final Set<Territory> possibleMoveTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory,
-                range,
-                isIgnoringRelationships
-                    ? ProMatches.territoryCanPotentiallyMoveAirUnits(player)
-                    : ProMatches.territoryCanMoveAirUnits(data, player, isCombatMove));
+            proData
+                .getReachabilityCache()
+                .getReachableTerritories(
+                    myAirUnit,
+                    myUnitTerritory,
+                    range,
+                    player,
+                    ProReachabilityCache.Movement.AIR,
+                    isCombatMove,
+                    isIgnoringRelationships);
         possibleMoveTerritories.add(myUnitTerritory);
         final Set<Territory> potentialTerritories =
             new HashSet<>(
@@ -1245,8 +1278,16 @@ public class ProTerritoryManager {
 
         // Find list of potential territories to move to
         final Set<Territory> potentialTerritories =
-            gameMap.getNeighborsByMovementCost(
-                myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, true));
+            proData
+                .getReachabilityCache()
+                .getReachableTerritories(
+                    mySeaUnit,
+                    myUnitTerritory,
+                    range,
+                    player,
+                    ProReachabilityCache.Movement.SEA,
+                    true,
+                    false);
         potentialTerritories.add(myUnitTerritory);
         potentialTerritories.retainAll(unloadFromTerritories);
         for (final Territory bombardFromTerritory : potentialTerritories) {
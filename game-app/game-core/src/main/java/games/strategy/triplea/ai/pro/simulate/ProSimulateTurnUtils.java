@@ -83,13 +83,15 @@ public final class ProSimulateTurnUtils {
         ProLogger.debug("attackersToRemove=" + attackersToRemove);
         ProLogger.debug("defendersToRemove=" + defendersToRemove);
         ProLogger.debug("infrastructureToChangeOwner=" + infrastructureToChangeOwner);
-        final Change attackersKilledChange = ChangeFactory.removeUnits(t, attackersToRemove);
-        delegateBridge.addChange(attackersKilledChange);
-        final Change defendersKilledChange = ChangeFactory.removeUnits(t, defendersToRemove);
-        delegateBridge.addChange(defendersKilledChange);
-        BattleTracker.captureOrDestroyUnits(t, player, player, delegateBridge, null);
-        if (!checkIfCapturedTerritoryIsAlliedCapital(t, data, player, delegateBridge)) {
-          delegateBridge.addChange(ChangeFactory.changeOwner(t, player));
+        try (GameData.ChangeBatch ignored = data.beginChangeBatch()) {
+          final Change attackersKilledChange = ChangeFactory.removeUnits(t, attackersToRemove);
+          delegateBridge.addChange(attackersKilledChange);
+          final Change defendersKilledChange = ChangeFactory.removeUnits(t, defendersToRemove);
+          delegateBridge.addChange(defendersKilledChange);
+          BattleTracker.captureOrDestroyUnits(t, player, player, delegateBridge, null);
+          if (!checkIfCapturedTerritoryIsAlliedCapital(t, data, player, delegateBridge)) {
+            delegateBridge.addChange(ChangeFactory.changeOwner(t, player));
+          }
         }
         battleDelegate.getBattleTracker().getConquered().add(t);
         battleDelegate.getBattleTracker().removeBattle(battle, data);
@@ -0,0 +1,189 @@
+package games.strategy.triplea.ai.pro.util;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStateVersions;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * Caches the results of the battles the Pro AI simulates on copies of the game, keyed by the
+ * battle's territory and the state of the units fighting it, so that a battle is only simulated
+ * once even if the board changes elsewhere in between. The turns pondered during the other
+ * players' turns (see {@code ProPonderer}) and the turn simulated at the start of the purchase
+ * phase share one cache.
+ *
+ * <p>The result of a battle also depends on the rules in effect, e.g. technologies, territory
+ * effects and relationships, whose modifications are counted as {@link #RULES} by the {@link
+ * GameStateVersions} of the game. Resources, e.g. income and purchases, are counted separately, so
+ * they don't change the rules. Each result is stored for the version of the rules of the game the
+ * simulated copy was taken from, and results of older versions are dropped. Battles on a copy that
+ * modified its rules since it was taken are not cached.
+ */
+public final class ProBattleResultCache {
+  public static final EnumSet<GameStateVersions.Fact> RULES =
+      EnumSet.of(GameStateVersions.Fact.RELATIONSHIPS, GameStateVersions.Fact.OTHER);
+
+  /** The number of results from which the cache is cleared, so that it doesn't grow unbounded. */
+  private static final int MAX_SIZE = 10_000;
+
+  /** The state of a unit that the result of a battle it fights depends on. */
+  @Value
+  private static class UnitState {
+    UUID id;
+    String owner;
+    int hits;
+    int unitDamage;
+    boolean isTransported;
+    boolean wasAmphibious;
+    boolean isSubmerged;
+
+    static UnitState of(final Unit unit) {
+      return new UnitState(
+          unit.getId(),
+          unit.getOwner().getName(),
+          unit.getHits(),
+          unit.getUnitDamage(),
+          unit.getTransportedBy() != null,
+          unit.getWasAmphibious(),
+          unit.getSubmerged());
+    }
+  }
+
+  /** A battle, see {@link #newKey}. */
+  @Value
+  static class Key {
+    String territory;
+    String attacker;
+    String defender;
+    Set<UnitState> attackingUnits;
+    Set<UnitState> defendingUnits;
+    Set<UnitState> bombardingUnits;
+    boolean checkSubmerge;
+    boolean retreatWhenOnlyAirLeft;
+  }
+
+  /** A battle result, with the units referred to by their ids. */
+  @Value
+  private static class Entry {
+    double winPercentage;
+    double tuvSwing;
+    boolean hasLandUnitRemaining;
+    List<UUID> attackersRemaining;
+    List<UUID> defendersRemaining;
+    double battleRounds;
+  }
+
+  private final Map<Key, Entry> entries = new HashMap<>();
+  private long rulesVersion;
+  private long hitCount;
+
+  /** Returns the version of the rules of the given game data, see {@link #RULES}. */
+  public static long getRulesVersion(final GameData data) {
+    return data.getStateVersions().getVersion(RULES);
+  }
+
+  static Key newKey(
+      final Territory t,
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean checkSubmerge,
+      final boolean retreatWhenOnlyAirLeft) {
+    return new Key(
+        t.getName(),
+        attacker.getName(),
+        defender.getName(),
+        toUnitStates(attackingUnits),
+        toUnitStates(defendingUnits),
+        toUnitStates(bombardingUnits),
+        checkSubmerge,
+        retreatWhenOnlyAirLeft);
+  }
+
+  private static Set<UnitState> toUnitStates(final Collection<Unit> units) {
+    return units.stream().map(UnitState::of).collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the cached result of the battle for the given version of the rules, with the remaining
+   * units taken from the given units, or null if the battle hasn't been simulated yet.
+   */
+  @Nullable
+  synchronized ProBattleResult get(
+      final Key key,
+      final long rulesVersion,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
+    if (rulesVersion != this.rulesVersion) {
+      return null;
+    }
+    final Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    hitCount++;
+    return new ProBattleResult(
+        entry.getWinPercentage(),
+        entry.getTuvSwing(),
+        entry.isHasLandUnitRemaining(),
+        toUnits(entry.getAttackersRemaining(), attackingUnits),
+        toUnits(entry.getDefendersRemaining(), defendingUnits),
+        entry.getBattleRounds());
+  }
+
+  private static List<Unit> toUnits(final List<UUID> ids, final Collection<Unit> units) {
+    final Map<UUID, Unit> unitsById =
+        units.stream().collect(Collectors.toMap(Unit::getId, Function.identity(), (a, b) -> a));
+    return ids.stream().map(unitsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  /** Caches the result of the battle for the given version of the rules. */
+  synchronized void put(final Key key, final long rulesVersion, final ProBattleResult result) {
+    if (rulesVersion < this.rulesVersion) {
+      return;
+    }
+    if (rulesVersion > this.rulesVersion || entries.size() >= MAX_SIZE) {
+      entries.clear();
+      this.rulesVersion = rulesVersion;
+    }
+    entries.put(
+        key,
+        new Entry(
+            result.getWinPercentage(),
+            result.getTuvSwing(),
+            result.isHasLandUnitRemaining(),
+            toIds(result.getAverageAttackersRemaining()),
+            toIds(result.getAverageDefendersRemaining()),
+            result.getBattleRounds()));
+  }
+
+  private static List<UUID> toIds(final Collection<Unit> units) {
+    return units.stream().map(Unit::getId).collect(Collectors.toList());
+  }
+
+  /** Returns the number of cached results. */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /** Returns the number of times a cached result has been reused. */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+}
@@ -8,6 +8,7 @@ import games.strategy.engine.data.GameState;
 import games.strategy.engine.data.Route;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
@@ -23,6 +24,7 @@ import games.strategy.triplea.delegate.power.calculator.CombatValueBuilder;
 import games.strategy.triplea.delegate.power.calculator.PowerStrengthAndRolls;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +33,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.triplea.java.collections.CollectionUtils;
+import org.triplea.java.collections.IntegerMap;
 
 /** Pro AI battle utilities. */
 public final class ProBattleUtils {
@@ -116,19 +119,78 @@ public final class ProBattleUtils {
       final Collection<Unit> myUnits,
       final Collection<Unit> enemyUnits,
       final boolean attacking) {
-    final GameState data = t.getData();
+    final int myHitPoints =
+        CasualtyUtil.getTotalHitpointsLeft(getUnitsThatCanTakeHits(t, myUnits, attacking));
+    final double myPower = estimatePower(t, myUnits, enemyUnits, attacking);
+    return (2.0 * myHitPoints) + myPower;
+  }
 
-    List<Unit> unitsThatCanFight =
+  /**
+   * Estimates the ratio of the fighting strengths of the attackers and the defenders by
+   * Lanchester's square law, where the fighting strength of a side is its power times its hit
+   * points. The side with the larger fighting strength is expected to win, and the larger the
+   * ratio, the more decisively. If the ratio is r > 1, the attackers are expected to be left with
+   * sqrt(1 - 1 / r) of their hit points.
+   *
+   * @return The ratio, 0 if the attackers can't hit and infinite if the defenders can't.
+   */
+  public static double estimateLanchesterRatio(
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
+    final double attackerStrength =
+        estimatePower(t, attackingUnits, defendingUnits, true)
+            * CasualtyUtil.getTotalHitpointsLeft(getUnitsThatCanTakeHits(t, attackingUnits, true));
+    final double defenderStrength =
+        estimatePower(t, defendingUnits, attackingUnits, false)
+            * CasualtyUtil.getTotalHitpointsLeft(
+                getUnitsThatCanTakeHits(t, defendingUnits, false));
+    if (attackerStrength <= 0) {
+      return 0;
+    }
+    return defenderStrength <= 0 ? Double.POSITIVE_INFINITY : attackerStrength / defenderStrength;
+  }
+
+  /**
+   * Estimates the units the winning side of a battle is left with by Lanchester's square law, see
+   * {@link #estimateLanchesterRatio}. The winners lose 1 - sqrt(1 - 1 / r) of their hit points,
+   * where r >= 1 is the ratio of their fighting strength to the losers', and their cheapest units
+   * are taken as casualties first.
+   */
+  public static List<Unit> estimateUnitsRemaining(
+      final Territory t,
+      final Collection<Unit> winningUnits,
+      final boolean attacking,
+      final double lanchesterRatio,
+      final IntegerMap<UnitType> unitValueMap) {
+    final List<Unit> unitsThatCanTakeHits =
+        new ArrayList<>(getUnitsThatCanTakeHits(t, winningUnits, attacking));
+    unitsThatCanTakeHits.sort(Comparator.comparingInt(u -> unitValueMap.getInt(u.getType())));
+    final double survivingFraction = Math.sqrt(1 - 1 / Math.max(1, lanchesterRatio));
+    long hitPointsLost =
+        Math.round(
+            (1 - survivingFraction) * CasualtyUtil.getTotalHitpointsLeft(unitsThatCanTakeHits));
+    final List<Unit> unitsRemaining = new ArrayList<>(winningUnits);
+    for (final Unit u : unitsThatCanTakeHits) {
+      if (hitPointsLost <= 0) {
+        break;
+      }
+      unitsRemaining.remove(u);
+      hitPointsLost -= CasualtyUtil.getTotalHitpointsLeft(List.of(u));
+    }
+    return unitsRemaining;
+  }
+
+  private static List<Unit> getUnitsThatCanTakeHits(
+      final Territory t, final Collection<Unit> myUnits, final boolean attacking) {
+    final List<Unit> unitsThatCanFight =
         CollectionUtils.getMatches(
             myUnits, Matches.unitCanBeInBattle(attacking, !t.isWater(), 1, true));
-    if (Properties.getTransportCasualtiesRestricted(data.getProperties())) {
-      unitsThatCanFight =
-          CollectionUtils.getMatches(
-              unitsThatCanFight, Matches.unitIsSeaTransportButNotCombatSeaTransport().negate());
+    if (Properties.getTransportCasualtiesRestricted(t.getData().getProperties())) {
+      return CollectionUtils.getMatches(
+          unitsThatCanFight, Matches.unitIsSeaTransportButNotCombatSeaTransport().negate());
     }
-    final int myHitPoints = CasualtyUtil.getTotalHitpointsLeft(unitsThatCanFight);
-    final double myPower = estimatePower(t, myUnits, enemyUnits, attacking);
-    return (2.0 * myHitPoints) + myPower;
+    return unitsThatCanFight;
   }
 
   private static double estimatePower(
@@ -439,7 +439,21 @@ public final class ProMoveUtils {
       }
     }
 
-    // Move units
+    // Move units, notifying the listeners of a simulated game once for all moves
+    if (proData.isSimulation()) {
+      try (GameData.ChangeBatch ignored = proData.getData().beginChangeBatch()) {
+        performMoves(data, moves, moveDel, false);
+      }
+    } else {
+      performMoves(data, moves, moveDel, true);
+    }
+  }
+
+  private static void performMoves(
+      final GameState data,
+      final List<MoveDescription> moves,
+      final IMoveDelegate moveDel,
+      final boolean pauseAfterEachMove) {
     for (final MoveDescription move : moves) {
       final String result = moveDel.performMove(move);
       if (result != null) {
@@ -454,7 +468,7 @@ public final class ProMoveUtils {
                 + " because: "
                 + result);
       }
-      if (!proData.isSimulation()) {
+      if (pauseAfterEachMove) {
         AbstractAi.movePause();
       }
     }
@@ -1,5 +1,6 @@
 package games.strategy.triplea.ai.pro.util;
 
+import com.google.common.annotations.VisibleForTesting;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameState;
@@ -9,21 +10,41 @@ import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
 import games.strategy.triplea.ai.pro.data.ProTerritory;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.odds.calculator.AggregateResults;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
 import games.strategy.triplea.util.TuvUtils;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import javax.annotation.Nullable;
+import org.triplea.debug.Tracing;
 import org.triplea.java.collections.CollectionUtils;
 
 /** Pro AI odds calculator. */
 public class ProOddsCalculator {
 
+  /**
+   * The ratio of the Lanchester fighting strengths from which a battle is considered decisive, at
+   * which the winner is expected to keep sqrt(1 - 1 / 4), about 87%, of its hit points.
+   */
+  private static final double DECISIVE_LANCHESTER_RATIO = 4;
+
+  /**
+   * The number of runs of the sample simulation of a decisive battle. A battle the attacker wins
+   * 90% of the time still wins all of them about 19% of the time, so only battles the Lanchester
+   * ratio calls decisive are sampled.
+   */
+  @VisibleForTesting static final int SAMPLE_RUN_COUNT = 16;
+
   private final IBattleCalculator calc;
-  private boolean stopped = false;
+  private volatile boolean stopped = false;
+  private ProTimeBudget timeBudget = ProTimeBudget.unlimited();
+  @Nullable private ProBattleResultCache battleResultCache;
+  private long rulesVersion;
 
   public ProOddsCalculator(final IBattleCalculator calc) {
     this.calc = calc;
@@ -33,6 +54,30 @@ public class ProOddsCalculator {
     stopped = true;
   }
 
+  /**
+   * Reuses and caches the results of the battles simulated on copies of the game taken at the given
+   * version of its rules, see {@link ProBattleResultCache}. A null cache stops using one.
+   */
+  public void useBattleResultCache(
+      @Nullable final ProBattleResultCache battleResultCache, final long rulesVersion) {
+    this.battleResultCache = battleResultCache;
+    this.rulesVersion = rulesVersion;
+  }
+
+  /**
+   * Starts a phase of the AI's turn, whose battles are simulated more coarsely as it uses up the
+   * given time budget. See {@link ProTimeBudget}.
+   */
+  public void startPhase(final String phase, final Duration budget) {
+    timeBudget = ProTimeBudget.start(phase, budget);
+  }
+
+  /** Ends the current phase and logs where its time was spent. */
+  public void endPhase() {
+    ProLogger.info(timeBudget.getSummary());
+    timeBudget = ProTimeBudget.unlimited();
+  }
+
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the attacker's
    * chance to win the battle. If the estimate indicates the attacker has almost no chance to win,
@@ -227,7 +272,10 @@ public class ProOddsCalculator {
         proData, t, attackingUnits, defendingUnits, bombardingUnits, checkSubmerge, false);
   }
 
-  /** Simulates the specified battle. */
+  /**
+   * Simulates the specified battle, unless its result is cached. Battles that are not simulated
+   * with the full number of runs because the time budget runs short are not cached.
+   */
   private ProBattleResult callBattleCalc(
       final ProData proData,
       final Territory t,
@@ -236,27 +284,184 @@ public class ProOddsCalculator {
       final Collection<Unit> bombardingUnits,
       final boolean checkSubmerge,
       final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = t.getData();
-
     if (stopped || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
+    final ProBattleResultCache cache = battleResultCache;
+    final ProBattleResultCache.Key cacheKey =
+        cache == null || ProBattleResultCache.getRulesVersion(proData.getData()) != 0
+            ? null
+            : ProBattleResultCache.newKey(
+                t,
+                CollectionUtils.getAny(attackingUnits).getOwner(),
+                CollectionUtils.getAny(defendingUnits).getOwner(),
+                attackingUnits,
+                defendingUnits,
+                bombardingUnits,
+                checkSubmerge,
+                retreatWhenOnlyAirLeft);
+    if (cacheKey != null) {
+      final ProBattleResult cached =
+          cache.get(cacheKey, rulesVersion, attackingUnits, defendingUnits);
+      if (cached != null) {
+        timeBudget.recordReusedBattle();
+        return cached;
+      }
+    }
+
+    if (timeBudget.isExhausted()) {
+      timeBudget.recordEstimatedBattle();
+      try (Tracing.Span ignored = Tracing.start("battle", "battle estimate")) {
+        return estimateBattleResult(proData, t, attackingUnits, defendingUnits);
+      }
+    }
+
+    final boolean isRunningShort = timeBudget.isRunningShort();
+    final ProBattleResult result =
+        simulateBattle(
+            proData,
+            t,
+            attackingUnits,
+            defendingUnits,
+            bombardingUnits,
+            checkSubmerge,
+            retreatWhenOnlyAirLeft);
+    if (cacheKey != null && !isRunningShort && !stopped) {
+      cache.put(cacheKey, rulesVersion, result);
+    }
+    return result;
+  }
+
+  /**
+   * Simulates the specified battle, as coarsely as the result allows. Battles that are not
+   * contested by their strengths and that are decisive by Lanchester's square law are first
+   * simulated with a small sample, which is the result if it settles them. Otherwise the runs of
+   * the sample are topped up to the full number of runs.
+   */
+  private ProBattleResult simulateBattle(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean checkSubmerge,
+      final boolean retreatWhenOnlyAirLeft) {
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
-    final GamePlayer attacker = CollectionUtils.getAny(attackingUnits).getOwner();
-    final GamePlayer defender = CollectionUtils.getAny(defendingUnits).getOwner();
+    final int fullRunCount = Math.max(16, 100 - minArmySize);
+    final boolean isContested = isContested(t, attackingUnits, defendingUnits);
+    if (timeBudget.isRunningShort() && !isContested) {
+      final AggregateResults results =
+          simulate(
+              t,
+              attackingUnits,
+              defendingUnits,
+              bombardingUnits,
+              retreatWhenOnlyAirLeft,
+              ProTimeBudget.COARSE_RUN_COUNT);
+      return toBattleResult(proData, t, attackingUnits, defendingUnits, checkSubmerge, results);
+    }
+
+    // Battles that both the strength and the Lanchester estimates call decisively are first
+    // simulated with a small sample, which settles them if it agrees with the estimates
+    final double lanchesterRatio =
+        isContested
+            ? 1
+            : ProBattleUtils.estimateLanchesterRatio(t, attackingUnits, defendingUnits);
+    if (lanchesterRatio >= DECISIVE_LANCHESTER_RATIO
+        || lanchesterRatio <= 1 / DECISIVE_LANCHESTER_RATIO) {
+      final AggregateResults sample =
+          simulate(
+              t,
+              attackingUnits,
+              defendingUnits,
+              bombardingUnits,
+              retreatWhenOnlyAirLeft,
+              SAMPLE_RUN_COUNT);
+      if (isSettledBySample(sample, lanchesterRatio > 1)) {
+        timeBudget.recordSettledBySample();
+        return toBattleResult(proData, t, attackingUnits, defendingUnits, checkSubmerge, sample);
+      }
+      // the runs of the sample count towards the full number of runs
+      if (fullRunCount > SAMPLE_RUN_COUNT) {
+        sample.addResults(
+            simulate(
+                    t,
+                    attackingUnits,
+                    defendingUnits,
+                    bombardingUnits,
+                    retreatWhenOnlyAirLeft,
+                    fullRunCount - SAMPLE_RUN_COUNT)
+                .getResults());
+      }
+      return toBattleResult(proData, t, attackingUnits, defendingUnits, checkSubmerge, sample);
+    }
     final AggregateResults results =
-        calc.calculate(
-            attacker,
-            defender,
+        simulate(
             t,
             attackingUnits,
             defendingUnits,
-            new ArrayList<>(bombardingUnits),
-            TerritoryEffectHelper.getEffects(t),
+            bombardingUnits,
             retreatWhenOnlyAirLeft,
-            runCount);
+            fullRunCount);
+    return toBattleResult(proData, t, attackingUnits, defendingUnits, checkSubmerge, results);
+  }
+
+  private AggregateResults simulate(
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft,
+      final int runCount) {
+    final GamePlayer attacker = CollectionUtils.getAny(attackingUnits).getOwner();
+    final GamePlayer defender = CollectionUtils.getAny(defendingUnits).getOwner();
+    final long start = System.nanoTime();
+    final AggregateResults results;
+    try (Tracing.Span ignored =
+        Tracing.start("battle", "battle calc")
+            .withArg("territory", t.getName())
+            .withArg("runs", runCount)
+            .withArg("attackers", attackingUnits.size())
+            .withArg("defenders", defendingUnits.size())) {
+      results =
+          calc.calculate(
+              attacker,
+              defender,
+              t,
+              attackingUnits,
+              defendingUnits,
+              new ArrayList<>(bombardingUnits),
+              TerritoryEffectHelper.getEffects(t),
+              retreatWhenOnlyAirLeft,
+              runCount);
+    }
+    timeBudget.recordBattleCalc(runCount, System.nanoTime() - start);
+    return results;
+  }
+
+  /**
+   * Returns true if a sample simulation settles a battle: all of its runs were won by the side the
+   * estimates expect to win. Anything less is borderline and is simulated in full.
+   */
+  @VisibleForTesting
+  static boolean isSettledBySample(
+      final AggregateResults sample, final boolean isAttackerExpectedToWin) {
+    final double attackerWinPercent = sample.getAttackerWinPercent();
+    return isAttackerExpectedToWin ? attackerWinPercent >= 1 : attackerWinPercent <= 0;
+  }
+
+  /** Converts the statistics of simulated runs of the specified battle to a battle result. */
+  private static ProBattleResult toBattleResult(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final boolean checkSubmerge,
+      final AggregateResults results) {
+    final GameData data = t.getData();
+    final GamePlayer attacker = CollectionUtils.getAny(attackingUnits).getOwner();
+    final GamePlayer defender = CollectionUtils.getAny(defendingUnits).getOwner();
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
@@ -322,4 +527,65 @@ public class ProOddsCalculator {
             averageDefendersRemaining,
             results.getAverageBattleRoundsFought());
   }
+
+  /** Returns true if the estimated strengths of the sides are too close to call the battle. */
+  private static boolean isContested(
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
+    final double strengthDifference =
+        ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    return strengthDifference > 30 && strengthDifference < 70;
+  }
+
+  /**
+   * Estimates the result of the specified battle from the strengths of the sides, for when there
+   * is no time left to simulate it. The stronger side is assumed to win, with the losses
+   * Lanchester's square law estimates for it, see {@link ProBattleUtils#estimateUnitsRemaining},
+   * and the TUV swing is that of the units lost by both sides.
+   */
+  @VisibleForTesting
+  static ProBattleResult estimateBattleResult(
+      final ProData proData,
+      final Territory t,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
+    final double winPercentage =
+        Math.min(
+            100,
+            Math.max(
+                0, ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits)));
+    final boolean attackerWins = winPercentage >= 50;
+    final double lanchesterRatio =
+        ProBattleUtils.estimateLanchesterRatio(t, attackingUnits, defendingUnits);
+    final List<Unit> attackersRemaining =
+        attackerWins
+            ? ProBattleUtils.estimateUnitsRemaining(
+                t, attackingUnits, true, lanchesterRatio, proData.getUnitValueMap())
+            : new ArrayList<>();
+    final List<Unit> defendersRemaining =
+        attackerWins
+            ? new ArrayList<>()
+            : ProBattleUtils.estimateUnitsRemaining(
+                t, defendingUnits, false, 1 / lanchesterRatio, proData.getUnitValueMap());
+
+    final List<Unit> attackersLost = new ArrayList<>(attackingUnits);
+    attackersLost.removeAll(attackersRemaining);
+    final List<Unit> defendersLost = new ArrayList<>(defendingUnits);
+    defendersLost.removeAll(defendersRemaining);
+    final double tuvSwing =
+        (Matches.territoryIsNeutralButNotWater().test(t)
+                ? 0
+                : TuvUtils.getTuv(defendersLost, proData.getUnitValueMap()))
+            - TuvUtils.getTuv(attackersLost, proData.getUnitValueMap());
+    return new ProBattleResult(
+        winPercentage,
+        tuvSwing,
+        t.isWater()
+            ? !attackersRemaining.isEmpty()
+            : attackersRemaining.stream().anyMatch(Matches.unitIsLand()),
+        attackersRemaining,
+        defendersRemaining,
+        1);
+  }
 }
@@ -0,0 +1,97 @@
+package games.strategy.triplea.ai.pro.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * The time the Pro AI aims to spend on a phase of its turn, e.g. the combat move, and where that
+ * time was spent. Once half of the budget is used, only contested battles are still simulated with
+ * the full number of runs and the others are simulated coarsely. Once all of it is used, battles
+ * are only estimated from the strengths of the units, so that the AI settles on the best plan it
+ * has found instead of taking unbounded time. A budget of zero doesn't limit the phase.
+ */
+public final class ProTimeBudget {
+  /** The number of runs of a coarse battle simulation. */
+  static final int COARSE_RUN_COUNT = 8;
+
+  private final String phase;
+  private final long budgetNanos;
+  private final LongSupplier nanoTime;
+  private final long startNanos;
+  private int battleCalcCount;
+  private int coarseBattleCalcCount;
+  private long battleCalcNanos;
+  private int estimatedBattleCount;
+  private int settledBySampleCount;
+  private int reusedBattleCount;
+
+  @VisibleForTesting
+  ProTimeBudget(final String phase, final Duration budget, final LongSupplier nanoTime) {
+    this.phase = phase;
+    budgetNanos = budget.toNanos();
+    this.nanoTime = nanoTime;
+    startNanos = nanoTime.getAsLong();
+  }
+
+  /** Starts measuring a phase with the given budget, zero for no limit. */
+  public static ProTimeBudget start(final String phase, final Duration budget) {
+    return new ProTimeBudget(phase, budget, System::nanoTime);
+  }
+
+  static ProTimeBudget unlimited() {
+    return start("", Duration.ZERO);
+  }
+
+  private double getUsedFraction() {
+    return budgetNanos > 0 ? (double) (nanoTime.getAsLong() - startNanos) / budgetNanos : 0;
+  }
+
+  /** Returns true if battles that aren't contested should only be simulated coarsely. */
+  boolean isRunningShort() {
+    return getUsedFraction() >= 0.5;
+  }
+
+  /** Returns true if battles should only be estimated instead of simulated. */
+  boolean isExhausted() {
+    return getUsedFraction() >= 1;
+  }
+
+  void recordBattleCalc(final int runCount, final long nanos) {
+    battleCalcCount++;
+    if (runCount <= COARSE_RUN_COUNT) {
+      coarseBattleCalcCount++;
+    }
+    battleCalcNanos += nanos;
+  }
+
+  void recordEstimatedBattle() {
+    estimatedBattleCount++;
+  }
+
+  void recordSettledBySample() {
+    settledBySampleCount++;
+  }
+
+  void recordReusedBattle() {
+    reusedBattleCount++;
+  }
+
+  /** Returns a summary of where the time of the phase was spent, for logging. */
+  public String getSummary() {
+    return String.format(
+        "%s took %d ms%s, %d ms in %d battle simulations (%d coarse%s), "
+            + "%d battles only estimated%s",
+        phase,
+        Duration.ofNanos(nanoTime.getAsLong() - startNanos).toMillis(),
+        budgetNanos > 0
+            ? " of a budget of " + Duration.ofNanos(budgetNanos).toMillis() + " ms"
+            : "",
+        Duration.ofNanos(battleCalcNanos).toMillis(),
+        battleCalcCount,
+        coarseBattleCalcCount,
+        settledBySampleCount > 0 ? ", " + settledBySampleCount + " settling the battle" : "",
+        estimatedBattleCount,
+        reusedBattleCount > 0 ? ", " + reusedBattleCount + " reused from earlier simulations" : "");
+  }
+}
@@ -73,6 +73,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
       case ARCHETYPE_ALLIED:
       case ARCHETYPE_NEUTRAL:
         this.archeType = lowerArcheType.intern();
+        archeTypeChanged();
         break;
       default:
         throw new GameParseException(
@@ -97,6 +98,14 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
 
   private void resetArcheType() {
     archeType = ARCHETYPE_WAR;
+    archeTypeChanged();
+  }
+
+  /** The relationship tracker caches which players are allied or at war by archetype. */
+  private void archeTypeChanged() {
+    if (getData() != null) {
+      getData().getRelationshipTracker().relationshipArchetypeChanged();
+    }
   }
 
   /**
@@ -9,6 +9,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameMap;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.GameState;
+import games.strategy.engine.data.GameStateVersions;
 import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.RelationshipTracker.Relationship;
@@ -30,6 +31,7 @@ import games.strategy.triplea.formatter.MyFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
 import org.triplea.java.Interruptibles;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
@@ -80,6 +83,16 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
   // used with above 3 to determine the type of unit that must be present
   private @Nullable IntegerMap<String> unitPresence = null;
 
+  // the last result of isSatisfied, reused until the game state it was computed from is modified
+  private transient volatile @Nullable CachedResult cachedResult;
+
+  @AllArgsConstructor
+  private static final class CachedResult {
+    private final long stateVersion;
+    private final boolean satisfied;
+    private final int eachMultiple;
+  }
+
   public RulesAttachment(final String name, final Attachable attachable, final GameData gameData) {
     super(name, attachable, gameData);
   }
@@ -124,6 +137,18 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
     return null;
   }
 
+  /**
+   * Returns true if any condition of the game reads the battle records, whose past rounds are
+   * otherwise only kept for the statistics.
+   */
+  public static boolean isAnyConditionReadingBattleRecords(final GameState data) {
+    return data.getPlayerList().getPlayers().stream()
+        .flatMap(player -> player.getAttachments().values().stream())
+        .filter(RulesAttachment.class::isInstance)
+        .map(RulesAttachment.class::cast)
+        .anyMatch(condition -> condition.destroyedTuv != null || !condition.getBattle().isEmpty());
+  }
+
   /**
    * Convenience method, for use returning any RulesAttachment that begins with
    * "objectiveAttachment" National Objectives are just conditions that also give money to a player
@@ -585,6 +610,69 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
     if (testedConditions != null && testedConditions.containsKey(this)) {
       return testedConditions.get(this);
     }
+    final GameData data = delegateBridge.getData();
+    final GameStateVersions stateVersions = data == getData() ? data.getStateVersions() : null;
+    final Set<GameStateVersions.Fact> stateInputs =
+        stateVersions == null ? null : getStateInputs(new HashSet<>());
+    if (stateInputs == null) {
+      return testCondition(testedConditions, delegateBridge);
+    }
+    final long stateVersion = stateVersions.getVersion(stateInputs);
+    final CachedResult cached = cachedResult;
+    if (cached != null && cached.stateVersion == stateVersion) {
+      eachMultiple = cached.eachMultiple;
+      return cached.satisfied;
+    }
+    final boolean satisfied = testCondition(testedConditions, delegateBridge);
+    cachedResult = new CachedResult(stateVersion, satisfied, eachMultiple);
+    return satisfied;
+  }
+
+  /**
+   * Returns the kinds of game state the result of this condition depends on, or null if the result
+   * can not be reused, e.g. because it is left to chance.
+   */
+  private @Nullable Set<GameStateVersions.Fact> getStateInputs(
+      final Set<RulesAttachment> visited) {
+    if (!visited.add(this)
+        || gameProperty != null
+        || destroyedTuv != null
+        || !getBattle().isEmpty()
+        || getChanceToHit() != getChanceDiceSides()
+        || getChanceIncrementOnFailure() != 0
+        || getChanceDecrementOnSuccess() != 0) {
+      return null;
+    }
+    final Set<GameStateVersions.Fact> inputs =
+        EnumSet.of(
+            GameStateVersions.Fact.OTHER,
+            GameStateVersions.Fact.TERRITORY_OWNERS,
+            GameStateVersions.Fact.RELATIONSHIPS);
+    // relationships have to exist for a number of rounds
+    if (turns != null || !getRelationship().isEmpty()) {
+      inputs.add(GameStateVersions.Fact.ROUND);
+    }
+    if (directPresenceTerritories != null
+        || alliedPresenceTerritories != null
+        || enemyPresenceTerritories != null
+        || directExclusionTerritories != null
+        || alliedExclusionTerritories != null
+        || enemyExclusionTerritories != null
+        || enemySurfaceExclusionTerritories != null) {
+      inputs.add(GameStateVersions.Fact.UNITS);
+    }
+    for (final RulesAttachment condition : getConditions()) {
+      final Set<GameStateVersions.Fact> conditionInputs = condition.getStateInputs(visited);
+      if (conditionInputs == null) {
+        return null;
+      }
+      inputs.addAll(conditionInputs);
+    }
+    return inputs;
+  }
+
+  private boolean testCondition(
+      final Map<ICondition, Boolean> testedConditions, final IDelegateBridge delegateBridge) {
     boolean objectiveMet = true;
     final List<GamePlayer> players = getPlayers();
     final GameState data = delegateBridge.getData();
@@ -1045,7 +1133,12 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
   }
 
   @Override
-  public MutableProperty<?> getPropertyOrNull(String propertyName) {
+  public MutableProperty<?> getPropertyOrNull(final String propertyName) {
+    final MutableProperty<?> property = getRulesPropertyOrNull(propertyName);
+    return property == null ? null : property.andThen(this::clearCachedResult);
+  }
+
+  private MutableProperty<?> getRulesPropertyOrNull(String propertyName) {
     switch (propertyName) {
       case "techs":
         return MutableProperty.of(this::setTechs, this::setTechs, this::getTechs, this::resetTechs);
@@ -1135,4 +1228,8 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
         return super.getPropertyOrNull(propertyName);
     }
   }
+
+  private void clearCachedResult() {
+    cachedResult = null;
+  }
 }
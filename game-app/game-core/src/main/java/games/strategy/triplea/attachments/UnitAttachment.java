@@ -68,6 +68,9 @@ public class UnitAttachment extends DefaultAttachment {
 
   private static final long serialVersionUID = -2946748686268541820L;
 
+  /** Built on first use, see {@link #getCapabilities()}. */
+  @Nullable private transient UnitCapabilities capabilities;
+
   // movement related
   private boolean isAir = false;
   private boolean isSea = false;
@@ -622,6 +625,7 @@ public class UnitAttachment extends DefaultAttachment {
     isSub = s;
     resetCanNotTarget();
     resetCanNotBeTargetedBy();
+    clearCapabilities();
   }
 
   private void setCanEvade(final Boolean s) {
@@ -635,6 +639,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsFirstStrike(final Boolean s) {
     isFirstStrike = s;
+    clearCapabilities();
   }
 
   public boolean getIsFirstStrike() {
@@ -757,6 +762,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsDestroyer(final Boolean s) {
     isDestroyer = s;
+    clearCapabilities();
   }
 
   public boolean getIsDestroyer() {
@@ -795,6 +801,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsAir(final Boolean s) {
     isAir = s;
+    clearCapabilities();
   }
 
   public boolean getIsAir() {
@@ -812,6 +819,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public UnitAttachment setIsSea(final Boolean s) {
     isSea = s;
+    clearCapabilities();
     return this;
   }
 
@@ -1337,6 +1345,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setHitPoints(final int value) {
     hitPoints = value;
+    clearCapabilities();
   }
 
   public int getHitPoints() {
@@ -1735,6 +1744,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public UnitAttachment setIsInfrastructure(final Boolean s) {
     isInfrastructure = s;
+    clearCapabilities();
     return this;
   }
 
@@ -1783,6 +1793,7 @@ public class UnitAttachment extends DefaultAttachment {
   public void setIsSuicide(final Boolean s) {
     isSuicide = s;
     resetCanNotTarget();
+    clearCapabilities();
   }
 
   @Deprecated
@@ -1793,6 +1804,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public void setIsSuicideOnAttack(final Boolean s) {
     isSuicideOnAttack = s;
+    clearCapabilities();
   }
 
   public boolean getIsSuicideOnAttack() {
@@ -1818,6 +1830,7 @@ public class UnitAttachment extends DefaultAttachment {
   @VisibleForTesting
   public UnitAttachment setIsSuicideOnHit(final Boolean s) {
     isSuicideOnHit = s;
+    clearCapabilities();
     return this;
   }
 
@@ -3537,8 +3550,30 @@ public class UnitAttachment extends DefaultAttachment {
         .collect(Collectors.joining(" or "));
   }
 
+  /**
+   * Returns the capabilities of this unit type compiled into a bit mask. They are compiled on first
+   * use and compiled again after any property of this attachment has changed.
+   */
+  public final UnitCapabilities getCapabilities() {
+    UnitCapabilities capabilities = this.capabilities;
+    if (capabilities == null) {
+      capabilities = new UnitCapabilities(this);
+      this.capabilities = capabilities;
+    }
+    return capabilities;
+  }
+
+  private void clearCapabilities() {
+    capabilities = null;
+  }
+
   @Override
-  public MutableProperty<?> getPropertyOrNull(String propertyName) {
+  public MutableProperty<?> getPropertyOrNull(final String propertyName) {
+    final MutableProperty<?> property = getUnitPropertyOrNull(propertyName);
+    return property == null ? null : property.andThen(this::clearCapabilities);
+  }
+
+  private MutableProperty<?> getUnitPropertyOrNull(String propertyName) {
     switch (propertyName) {
       case "isAir":
         return MutableProperty.of(this::setIsAir, this::setIsAir, this::getIsAir, this::resetIsAir);
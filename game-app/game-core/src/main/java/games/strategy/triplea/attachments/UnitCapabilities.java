@@ -0,0 +1,116 @@
+package games.strategy.triplea.attachments;
+
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The capabilities of a unit type compiled from its {@link UnitAttachment} into a bit mask, next
+ * to the transport, carrier and hit point stats. Predicates that filter units test bits of the
+ * mask instead of calling several attachment getters per unit.
+ *
+ * <p>Only capabilities that depend on nothing but the attachment itself are compiled, getters that
+ * also depend on the owner of a unit (e.g. technology) or on game properties are not. The
+ * capabilities of an attachment are compiled on first use and dropped whenever a property of the
+ * attachment changes, see {@link UnitAttachment#getCapabilities()}.
+ */
+@Getter
+public final class UnitCapabilities {
+  /** A capability that a unit type either has or has not. */
+  public enum Capability {
+    AIR(UnitAttachment::getIsAir),
+    SEA(UnitAttachment::getIsSea),
+    INFRASTRUCTURE(UnitAttachment::getIsInfrastructure),
+    CAN_BE_DAMAGED(UnitAttachment::getCanBeDamaged),
+    DESTROYER(UnitAttachment::getIsDestroyer),
+    FIRST_STRIKE(UnitAttachment::getIsFirstStrike),
+    CAN_EVADE(UnitAttachment::getCanEvade),
+    STRATEGIC_BOMBER(UnitAttachment::getIsStrategicBomber),
+    ROCKET(UnitAttachment::getIsRocket),
+    AIR_BASE(UnitAttachment::getIsAirBase),
+    CAN_SCRAMBLE(UnitAttachment::getCanScramble),
+    CAN_INTERCEPT(UnitAttachment::getCanIntercept),
+    CAN_ESCORT(UnitAttachment::getCanEscort),
+    CAN_AIR_BATTLE(UnitAttachment::getCanAirBattle),
+    CAN_PRODUCE_UNITS(UnitAttachment::getCanProduceUnits),
+    CAN_NOT_MOVE_DURING_COMBAT_MOVE(UnitAttachment::getCanNotMoveDuringCombatMove),
+    SUICIDE_ON_ATTACK(UnitAttachment::getIsSuicideOnAttack),
+    SUICIDE_ON_HIT(UnitAttachment::getIsSuicideOnHit),
+    KAMIKAZE(UnitAttachment::getIsKamikaze),
+    ARTILLERY(UnitAttachment::getArtillery),
+    ARTILLERY_SUPPORTABLE(UnitAttachment::getArtillerySupportable),
+    LAND_TRANSPORT(UnitAttachment::getIsLandTransport),
+    LAND_TRANSPORTABLE(UnitAttachment::getIsLandTransportable),
+    AIR_TRANSPORT(UnitAttachment::getIsAirTransport),
+    AIR_TRANSPORTABLE(UnitAttachment::getIsAirTransportable),
+    COMBAT_TRANSPORT(UnitAttachment::getIsCombatTransport),
+    /** Has a transport capacity. */
+    TRANSPORT(ua -> ua.getTransportCapacity() != -1),
+    /** Has a transport cost, i.e. can be transported. */
+    TRANSPORTABLE(ua -> ua.getTransportCost() != -1),
+    /** Has a carrier capacity. */
+    CARRIER(ua -> ua.getCarrierCapacity() != -1),
+    /** Has a carrier cost, i.e. can land on carriers. */
+    CARRIER_LANDABLE(ua -> ua.getCarrierCost() != -1),
+    MULTIPLE_HIT_POINTS(ua -> ua.getHitPoints() > 1);
+
+    private final Predicate<UnitAttachment> test;
+
+    Capability(final Predicate<UnitAttachment> test) {
+      this.test = test;
+    }
+
+    private long bit() {
+      return 1L << ordinal();
+    }
+  }
+
+  @Getter(AccessLevel.NONE)
+  private final long mask;
+
+  private final int hitPoints;
+  private final int transportCapacity;
+  private final int transportCost;
+  private final int carrierCapacity;
+  private final int carrierCost;
+
+  UnitCapabilities(final UnitAttachment unitAttachment) {
+    long mask = 0;
+    for (final Capability capability : Capability.values()) {
+      if (capability.test.test(unitAttachment)) {
+        mask |= capability.bit();
+      }
+    }
+    this.mask = mask;
+    hitPoints = unitAttachment.getHitPoints();
+    transportCapacity = unitAttachment.getTransportCapacity();
+    transportCost = unitAttachment.getTransportCost();
+    carrierCapacity = unitAttachment.getCarrierCapacity();
+    carrierCost = unitAttachment.getCarrierCost();
+  }
+
+  /** Returns the mask of a combination of capabilities, to be tested with {@link #hasAll}. */
+  public static long maskOf(final Capability... capabilities) {
+    long mask = 0;
+    for (final Capability capability : capabilities) {
+      mask |= capability.bit();
+    }
+    return mask;
+  }
+
+  public boolean has(final Capability capability) {
+    return (mask & capability.bit()) != 0;
+  }
+
+  public boolean hasAll(final long capabilities) {
+    return (mask & capabilities) == capabilities;
+  }
+
+  public boolean hasAny(final long capabilities) {
+    return (mask & capabilities) != 0;
+  }
+
+  public boolean hasNone(final long capabilities) {
+    return (mask & capabilities) == 0;
+  }
+}
@@ -25,6 +25,8 @@ import games.strategy.triplea.attachments.RulesAttachment;
 import games.strategy.triplea.attachments.TechAttachment;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitCapabilities;
+import games.strategy.triplea.attachments.UnitCapabilities.Capability;
 import games.strategy.triplea.attachments.UnitSupportAttachment;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.DependentBattle;
@@ -74,8 +76,22 @@ import org.triplea.util.Tuple;
  */
 @UtilityClass
 public final class Matches {
+  private static final long SEA_OR_AIR = UnitCapabilities.maskOf(Capability.SEA, Capability.AIR);
+  private static final long SEA_TRANSPORT =
+      UnitCapabilities.maskOf(Capability.SEA, Capability.TRANSPORT);
+  private static final long COMBAT_SEA_TRANSPORT =
+      UnitCapabilities.maskOf(Capability.SEA, Capability.COMBAT_TRANSPORT);
+
+  private static UnitCapabilities capabilities(final Unit unit) {
+    return unit.getUnitAttachment().getCapabilities();
+  }
+
+  private static UnitCapabilities capabilities(final UnitType unitType) {
+    return unitType.getUnitAttachment().getCapabilities();
+  }
+
   public static Predicate<UnitType> unitTypeHasMoreThanOneHitPointTotal() {
-    return ut -> ut.getUnitAttachment().getHitPoints() > 1;
+    return ut -> capabilities(ut).has(Capability.MULTIPLE_HIT_POINTS);
   }
 
   public static Predicate<Unit> unitHasMoreThanOneHitPointTotal() {
@@ -91,7 +107,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSea() {
-    return unit -> unit.getUnitAttachment().getIsSea();
+    return unit -> capabilities(unit).has(Capability.SEA);
   }
 
   public static Predicate<Unit> unitHasSubBattleAbilities() {
@@ -99,11 +115,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanEvade() {
-    return unit -> unit.getUnitAttachment().getCanEvade();
+    return unit -> capabilities(unit).has(Capability.CAN_EVADE);
   }
 
   public static Predicate<Unit> unitIsFirstStrike() {
-    return unit -> unit.getUnitAttachment().getIsFirstStrike();
+    return unit -> capabilities(unit).has(Capability.FIRST_STRIKE);
   }
 
   public static Predicate<Unit> unitIsFirstStrikeOnDefense(final GameProperties properties) {
@@ -136,10 +152,7 @@ public final class Matches {
   }
 
   private static Predicate<Unit> unitIsCombatSeaTransport() {
-    return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getIsCombatTransport() && ua.getIsSea();
-    };
+    return unit -> capabilities(unit).hasAll(COMBAT_SEA_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotCombatSeaTransport() {
@@ -148,31 +161,28 @@ public final class Matches {
 
   public static Predicate<Unit> unitIsSeaTransportButNotCombatSeaTransport() {
     return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() != -1 && ua.getIsSea() && !ua.getIsCombatTransport();
+      final UnitCapabilities capabilities = capabilities(unit);
+      return capabilities.hasAll(SEA_TRANSPORT) && !capabilities.has(Capability.COMBAT_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsNotSeaTransportButCouldBeCombatSeaTransport() {
     return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() == -1 || (ua.getIsCombatTransport() && ua.getIsSea());
+      final UnitCapabilities capabilities = capabilities(unit);
+      return !capabilities.has(Capability.TRANSPORT) || capabilities.hasAll(COMBAT_SEA_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsDestroyer() {
-    return unit -> unit.getUnitAttachment().getIsDestroyer();
+    return unit -> capabilities(unit).has(Capability.DESTROYER);
   }
 
   public static Predicate<UnitType> unitTypeIsDestroyer() {
-    return type -> type.getUnitAttachment().getIsDestroyer();
+    return type -> capabilities(type).has(Capability.DESTROYER);
   }
 
   public static Predicate<Unit> unitIsSeaTransport() {
-    return unit -> {
-      final UnitAttachment ua = unit.getUnitAttachment();
-      return ua.getTransportCapacity() != -1 && ua.getIsSea();
-    };
+    return unit -> capabilities(unit).hasAll(SEA_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsNotSeaTransport() {
@@ -187,7 +197,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsStrategicBomber() {
-    return unitType -> unitType.getUnitAttachment().getIsStrategicBomber();
+    return unitType -> capabilities(unitType).has(Capability.STRATEGIC_BOMBER);
   }
 
   public static Predicate<Unit> unitIsStrategicBomber() {
@@ -263,30 +273,27 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsNotSea() {
-    return unit -> !unit.getUnitAttachment().getIsSea();
+    return unit -> !capabilities(unit).has(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSea() {
-    return type -> type.getUnitAttachment().getIsSea();
+    return type -> capabilities(type).has(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsNotSea() {
-    return type -> !type.getUnitAttachment().getIsSea();
+    return type -> !capabilities(type).has(Capability.SEA);
   }
 
   public static Predicate<UnitType> unitTypeIsSeaOrAir() {
-    return type -> {
-      final UnitAttachment ua = type.getUnitAttachment();
-      return ua.getIsSea() || ua.getIsAir();
-    };
+    return type -> capabilities(type).hasAny(SEA_OR_AIR);
   }
 
   public static Predicate<Unit> unitIsAir() {
-    return unit -> unit.getUnitAttachment().getIsAir();
+    return unit -> capabilities(unit).has(Capability.AIR);
   }
 
   public static Predicate<Unit> unitIsNotAir() {
-    return unit -> !unit.getUnitAttachment().getIsAir();
+    return unit -> !capabilities(unit).has(Capability.AIR);
   }
 
   public static Predicate<UnitType> unitTypeCanBombard(final GamePlayer gamePlayer) {
@@ -351,11 +358,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsAirBase() {
-    return unit -> unit.getUnitAttachment().getIsAirBase();
+    return unit -> capabilities(unit).has(Capability.AIR_BASE);
   }
 
   public static Predicate<UnitType> unitTypeCanBeDamaged() {
-    return ut -> ut.getUnitAttachment().getCanBeDamaged();
+    return ut -> capabilities(ut).has(Capability.CAN_BE_DAMAGED);
   }
 
   public static Predicate<Unit> unitCanBeDamaged() {
@@ -429,7 +436,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsInfrastructure() {
-    return ut -> ut.getUnitAttachment().getIsInfrastructure();
+    return ut -> capabilities(ut).has(Capability.INFRASTRUCTURE);
   }
 
   public static Predicate<Unit> unitIsInfrastructure() {
@@ -474,7 +481,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanScramble() {
-    return unit -> unit.getUnitAttachment().getCanScramble();
+    return unit -> capabilities(unit).has(Capability.CAN_SCRAMBLE);
   }
 
   public static Predicate<Unit> unitWasScrambled() {
@@ -494,7 +501,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLandTransport() {
-    return unit -> unit.getUnitAttachment().getIsLandTransport();
+    return unit -> capabilities(unit).has(Capability.LAND_TRANSPORT);
   }
 
   public static Predicate<Unit> unitIsLandTransportWithCapacity() {
@@ -508,12 +515,12 @@ public final class Matches {
   public static Predicate<Unit> unitIsNotInfrastructureAndNotCapturedOnEntering(
       final GamePlayer player, final Territory territory) {
     return unit ->
-        !unit.getUnitAttachment().getIsInfrastructure()
+        !capabilities(unit).has(Capability.INFRASTRUCTURE)
             && !unitCanBeCapturedOnEnteringThisTerritory(player, territory).test(unit);
   }
 
   public static Predicate<UnitType> unitTypeIsSuicideOnAttack() {
-    return type -> type.getUnitAttachment().getIsSuicideOnAttack();
+    return type -> capabilities(type).has(Capability.SUICIDE_ON_ATTACK);
   }
 
   public static Predicate<UnitType> unitTypeIsSuicideOnDefense() {
@@ -521,7 +528,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSuicideOnAttack() {
-    return unit -> unit.getUnitAttachment().getIsSuicideOnAttack();
+    return unit -> capabilities(unit).has(Capability.SUICIDE_ON_ATTACK);
   }
 
   public static Predicate<Unit> unitIsSuicideOnDefense() {
@@ -529,27 +536,27 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsSuicideOnHit() {
-    return unit -> unit.getUnitAttachment().getIsSuicideOnHit();
+    return unit -> capabilities(unit).has(Capability.SUICIDE_ON_HIT);
   }
 
   public static Predicate<Unit> unitIsKamikaze() {
-    return unit -> unit.getUnitAttachment().getIsKamikaze();
+    return unit -> capabilities(unit).has(Capability.KAMIKAZE);
   }
 
   public static Predicate<UnitType> unitTypeIsAir() {
-    return type -> type.getUnitAttachment().getIsAir();
+    return type -> capabilities(type).has(Capability.AIR);
   }
 
   private static Predicate<UnitType> unitTypeIsNotAir() {
-    return type -> !type.getUnitAttachment().getIsAir();
+    return type -> !capabilities(type).has(Capability.AIR);
   }
 
   public static Predicate<Unit> unitCanLandOnCarrier() {
-    return unit -> unit.getUnitAttachment().getCarrierCost() != -1;
+    return unit -> capabilities(unit).has(Capability.CARRIER_LANDABLE);
   }
 
   public static Predicate<Unit> unitIsCarrier() {
-    return unit -> unit.getUnitAttachment().getCarrierCapacity() != -1;
+    return unit -> capabilities(unit).has(Capability.CARRIER);
   }
 
   public static Predicate<Territory> territoryHasOwnedCarrier(final GamePlayer player) {
@@ -557,11 +564,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsAlliedCarrier(final GamePlayer player) {
-    return u -> u.getUnitAttachment().getCarrierCapacity() != -1 && player.isAllied(u.getOwner());
+    return u -> capabilities(u).has(Capability.CARRIER) && player.isAllied(u.getOwner());
   }
 
   public static Predicate<Unit> unitCanBeTransported() {
-    return unit -> unit.getUnitAttachment().getTransportCost() != -1;
+    return unit -> capabilities(unit).has(Capability.TRANSPORTABLE);
   }
 
   public static Predicate<Unit> unitWasAmphibious() {
@@ -589,11 +596,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanTransport() {
-    return unit -> unit.getUnitAttachment().getTransportCapacity() != -1;
+    return unit -> capabilities(unit).has(Capability.TRANSPORT);
   }
 
   public static Predicate<UnitType> unitTypeCanProduceUnits() {
-    return ut -> ut.getUnitAttachment().getCanProduceUnits();
+    return ut -> capabilities(ut).has(Capability.CAN_PRODUCE_UNITS);
   }
 
   public static Predicate<Unit> unitCanProduceUnits() {
@@ -605,7 +612,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsRocket() {
-    return ut -> ut.getUnitAttachment().getIsRocket();
+    return ut -> capabilities(ut).has(Capability.ROCKET);
   }
 
   static Predicate<Unit> unitIsRocket() {
@@ -621,7 +628,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeCanNotMoveDuringCombatMove() {
-    return u -> u.getUnitAttachment().getCanNotMoveDuringCombatMove();
+    return u -> capabilities(u).has(Capability.CAN_NOT_MOVE_DURING_COMBAT_MOVE);
   }
 
   public static Predicate<Unit> unitCanNotMoveDuringCombatMove() {
@@ -780,7 +787,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLandTransportable() {
-    return unit -> unit.getUnitAttachment().getIsLandTransportable();
+    return unit -> capabilities(unit).has(Capability.LAND_TRANSPORTABLE);
   }
 
   public static Predicate<Unit> unitIsAirTransportable() {
@@ -789,7 +796,7 @@ public final class Matches {
       if (!ta.getParatroopers()) {
         return false;
       }
-      return u.getUnitAttachment().getIsAirTransportable();
+      return capabilities(u).has(Capability.AIR_TRANSPORTABLE);
     };
   }
 
@@ -799,16 +806,16 @@ public final class Matches {
       if (!ta.getParatroopers()) {
         return false;
       }
-      return u.getUnitAttachment().getIsAirTransport();
+      return capabilities(u).has(Capability.AIR_TRANSPORT);
     };
   }
 
   public static Predicate<Unit> unitIsArtillery() {
-    return u -> u.getUnitAttachment().getArtillery();
+    return u -> capabilities(u).has(Capability.ARTILLERY);
   }
 
   public static Predicate<Unit> unitIsArtillerySupportable() {
-    return u -> u.getUnitAttachment().getArtillerySupportable();
+    return u -> capabilities(u).has(Capability.ARTILLERY_SUPPORTABLE);
   }
 
   public static Predicate<Territory> territoryIsWater() {
@@ -1419,11 +1426,11 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitIsLand() {
-    return unitIsNotSea().and(unitIsNotAir());
+    return unit -> capabilities(unit).hasNone(SEA_OR_AIR);
   }
 
   public static Predicate<UnitType> unitTypeIsLand() {
-    return unitTypeIsNotSea().and(unitTypeIsNotAir());
+    return type -> capabilities(type).hasNone(SEA_OR_AIR);
   }
 
   public static Predicate<Unit> unitIsNotLand() {
@@ -1451,7 +1458,7 @@ public final class Matches {
   }
 
   public static Predicate<UnitType> unitTypeIsFirstStrike() {
-    return type -> type.getUnitAttachment().getIsFirstStrike();
+    return type -> capabilities(type).has(Capability.FIRST_STRIKE);
   }
 
   public static Predicate<Unit> unitOwnerHasImprovedArtillerySupportTech() {
@@ -2088,7 +2095,7 @@ public final class Matches {
   }
 
   public static Predicate<Unit> unitCanIntercept() {
-    return u -> u.getUnitAttachment().getCanIntercept();
+    return u -> capabilities(u).has(Capability.CAN_INTERCEPT);
   }
 
   public static Predicate<Unit> unitRequiresAirBaseToIntercept() {
@@ -2096,11 +2103,11 @@ public final class Matches {
   }
 
   static Predicate<Unit> unitCanEscort() {
-    return u -> u.getUnitAttachment().getCanEscort();
+    return u -> capabilities(u).has(Capability.CAN_ESCORT);
   }
 
   public static Predicate<Unit> unitCanAirBattle() {
-    return u -> u.getUnitAttachment().getCanAirBattle();
+    return u -> capabilities(u).has(Capability.CAN_AIR_BATTLE);
   }
 
   public static Predicate<Territory> territoryOwnerRelationshipTypeCanMoveIntoDuringCombatMove(
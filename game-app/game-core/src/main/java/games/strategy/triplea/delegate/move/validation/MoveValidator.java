@@ -51,6 +51,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
+import org.triplea.debug.Tracing;
 import org.triplea.java.PredicateBuilder;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
@@ -100,6 +101,13 @@ public class MoveValidator {
   /** Validates the specified move. */
   public MoveValidationResult validateMove(
       final MoveDescription move, final GamePlayer player, final List<UndoableMove> undoableMoves) {
+    try (Tracing.Span ignored = Tracing.startNested("validation", "validate move")) {
+      return validate(move, player, undoableMoves);
+    }
+  }
+
+  private MoveValidationResult validate(
+      final MoveDescription move, final GamePlayer player, final List<UndoableMove> undoableMoves) {
     final Collection<Unit> units = move.getUnits();
     final Route route = move.getRoute();
     final Map<Unit, Unit> unitsToSeaTransports = move.getUnitsToSeaTransports();
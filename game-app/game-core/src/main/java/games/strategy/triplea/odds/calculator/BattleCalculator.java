@@ -1,16 +1,20 @@
 package games.strategy.triplea.odds.calculator;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
-import games.strategy.engine.data.MutableProperty;
+import games.strategy.engine.data.GameSequence;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.IRandomSource;
+import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.triplea.delegate.battle.BattleResults;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
@@ -20,12 +24,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Setter;
 
 class BattleCalculator implements IBattleCalculator {
   @Nonnull private final GameData gameData;
   // Use a single TuvCostsCalculator so its computations are cached.
   private final TuvCostsCalculator tuvCalculator = new TuvCostsCalculator();
+  private IRandomSource randomSource = new PlainRandomSource();
   @Setter private boolean keepOneAttackingLandUnit = false;
   @Setter private boolean amphibious = false;
   @Setter private int retreatAfterRound = -1;
@@ -76,64 +82,126 @@ class BattleCalculator implements IBattleCalculator {
           GameDataUtils.translateIntoOtherGameData(bombarding, gameData);
       final Collection<TerritoryEffect> territoryEffects2 =
           GameDataUtils.translateIntoOtherGameData(territoryEffects, gameData);
-      gameData.performChange(ChangeFactory.removeUnits(location2, location2.getUnits()));
-      gameData.performChange(
-          ChangeFactory.addUnits(location2, mergeUnitCollections(attackingUnits, defendingUnits)));
-      final long start = System.currentTimeMillis();
-      final AggregateResults aggregateResults = new AggregateResults(runCount);
-      final BattleTracker battleTracker = new BattleTracker();
-      final List<Unit> attackerOrderOfLosses =
-          OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
-              this.attackerOrderOfLosses, attackingUnits, gameData);
-      final List<Unit> defenderOrderOfLosses =
-          OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
-              this.defenderOrderOfLosses, defendingUnits, gameData);
-      for (int i = 0; i < runCount && !cancelled; i++) {
-        final CompositeChange allChanges = new CompositeChange();
-        final DummyDelegateBridge bridge =
-            new DummyDelegateBridge(
-                attacker2,
-                gameData,
-                allChanges,
-                attackerOrderOfLosses,
-                defenderOrderOfLosses,
-                keepOneAttackingLandUnit,
-                retreatAfterRound,
-                retreatAfterXUnitsLeft,
-                retreatWhenOnlyAirLeft,
-                tuvCalculator);
-        final MustFightBattle battle =
-            new MustFightBattle(location2, attacker2, gameData, battleTracker);
-        battle.setHeadless(true);
-        if (amphibious) {
-          attackingUnits.forEach(
-              unit ->
-                  unit.getProperty(Unit.UNLOADED_AMPHIBIOUS)
-                      .ifPresent(
-                          property -> {
-                            try {
-                              property.setValue(true);
-                            } catch (final MutableProperty.InvalidValueException e) {
-                              // ignore
-                            }
-                          }));
-        }
-        battle.setUnits(
-            defendingUnits, attackingUnits, bombardingUnits, defender2, territoryEffects2);
-        bridge.setBattle(battle);
+      // undone after the calculation, so that the game data can be brought up to date with
+      // the changes of the game data it was copied from, see update
+      final CompositeChange setUp =
+          new CompositeChange(
+              ChangeFactory.removeUnits(location2, location2.getUnits()),
+              ChangeFactory.addUnits(
+                  location2, mergeUnitCollections(attackingUnits, defendingUnits)));
+      if (amphibious) {
+        attackingUnits.forEach(
+            unit ->
+                setUp.add(ChangeFactory.unitPropertyChange(unit, true, Unit.UNLOADED_AMPHIBIOUS)));
+      }
+      gameData.performChange(setUp);
+      try {
+        return fightBattles(
+            attacker2,
+            defender2,
+            location2,
+            attackingUnits,
+            defendingUnits,
+            bombardingUnits,
+            territoryEffects2,
+            retreatWhenOnlyAirLeft,
+            runCount);
+      } finally {
+        gameData.performChange(setUp.invert());
+      }
+    } finally {
+      isRunning.set(false);
+    }
+  }
+
+  private AggregateResults fightBattles(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final int runCount) {
+    final long start = System.currentTimeMillis();
+    final AggregateResults aggregateResults = new AggregateResults(runCount);
+    final BattleTracker battleTracker = new BattleTracker();
+    final List<Unit> attackerOrderOfLosses =
+        OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
+            this.attackerOrderOfLosses, attackingUnits, gameData);
+    final List<Unit> defenderOrderOfLosses =
+        OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
+            this.defenderOrderOfLosses, defendingUnits, gameData);
+    for (int i = 0; i < runCount && !cancelled; i++) {
+      final CompositeChange allChanges = new CompositeChange();
+      final DummyDelegateBridge bridge =
+          new DummyDelegateBridge(
+              attacker,
+              gameData,
+              allChanges,
+              attackerOrderOfLosses,
+              defenderOrderOfLosses,
+              keepOneAttackingLandUnit,
+              retreatAfterRound,
+              retreatAfterXUnitsLeft,
+              retreatWhenOnlyAirLeft,
+              tuvCalculator,
+              randomSource);
+      final MustFightBattle battle =
+          new MustFightBattle(location, attacker, gameData, battleTracker);
+      battle.setHeadless(true);
+      battle.setUnits(defendingUnits, attackingUnits, bombardingUnits, defender, territoryEffects);
+      bridge.setBattle(battle);
+      // the listeners of the game data are notified once per run rather than once per change
+      try (GameData.ChangeBatch ignored = gameData.beginChangeBatch()) {
         battle.fight(bridge);
         aggregateResults.addResult(new BattleResults(battle, gameData));
         // restore the game to its original state
         gameData.performChange(allChanges.invert());
-        battleTracker.clear();
-        battleTracker.clearBattleRecords();
       }
-      aggregateResults.setTime(System.currentTimeMillis() - start);
-      cancelled = false;
-      return aggregateResults;
-    } finally {
-      isRunning.set(false);
+      battleTracker.clear();
+      battleTracker.clearBattleRecords();
     }
+    aggregateResults.setTime(System.currentTimeMillis() - start);
+    cancelled = false;
+    return aggregateResults;
+  }
+
+  /**
+   * Brings the game data up to date with the game data it was copied from by performing the changes
+   * made to it since, and moving to its current round and step.
+   *
+   * @param serializedChange The changes, serialized with {@link
+   *     GameDataUtils#gameObjectsToBytes(Object)}.
+   */
+  void update(
+      final byte[] serializedChange,
+      final int round,
+      final String stepDisplayName,
+      @Nullable final String stepPlayerName) {
+    Preconditions.checkState(!isRunning.get(), "Can't update while operation is still running!");
+    final Change change = GameDataUtils.gameObjectsFromBytes(serializedChange, gameData);
+    gameData.performChange(change);
+    final GameSequence sequence = gameData.getSequence();
+    sequence.setRoundAndStep(
+        round - sequence.getRoundOffset(),
+        stepDisplayName,
+        stepPlayerName == null ? null : gameData.getPlayerList().getPlayerId(stepPlayerName));
+  }
+
+  @VisibleForTesting
+  void setRandomSource(final IRandomSource randomSource) {
+    this.randomSource = randomSource;
+  }
+
+  @VisibleForTesting
+  GameData getGameData() {
+    return gameData;
+  }
+
+  int getUnitCount() {
+    return gameData.getUnits().getUnits().size();
   }
 
   private Collection<Unit> mergeUnitCollections(Collection<Unit> c1, Collection<Unit> c2) {
@@ -1,12 +1,18 @@
 package games.strategy.triplea.odds.calculator;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.history.History;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -26,7 +32,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ConcurrentBattleCalculator implements IBattleCalculator {
   private static final int MAX_THREADS = Runtime.getRuntime().availableProcessors();
+  // above this many changes, copying the game data again is expected to be faster than replaying
+  private static final int MAX_CHANGES_TO_REPLAY = 1000;
 
+  private final int maxThreads;
   private final List<BattleCalculator> workers = new CopyOnWriteArrayList<>();
   // do not let calc be set up til data is set
   private volatile boolean isDataSet = false;
@@ -42,6 +51,25 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
 
+  // the game data the workers are copies of, and the last change of its history they include
+  @Nullable private GameData workersData;
+  @Nullable private History workersHistory;
+  private int workersChangeCount;
+  @Nullable private Change workersLastChange;
+
+  public ConcurrentBattleCalculator() {
+    this(MAX_THREADS);
+  }
+
+  /**
+   * Creates a calculator that uses at most the given number of worker threads, e.g. so that several
+   * games that run at the same time don't each use all processors.
+   */
+  public ConcurrentBattleCalculator(final int maxThreads) {
+    checkArgument(maxThreads > 0, "maxThreads must be > 0");
+    this.maxThreads = maxThreads;
+  }
+
   /** Return value may be ignored. Exceptions are being handled properly. */
   public CompletableFuture<Boolean> setGameData(@Nullable final GameData data) {
     // cancel any current setting of data
@@ -65,7 +93,7 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     synchronized (mutexCalcIsRunning) {
       cancel();
       cancelCurrentOperation.incrementAndGet();
-      isDataSet = createWorkers(data);
+      isDataSet = (isDataSet && updateWorkers(data)) || createWorkers(data);
       return isDataSet;
     }
   }
@@ -85,9 +113,8 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   }
 
   // use both time and memory left to determine how many copies to make
-  private static int getThreadsToUse(
-      final long timeToCopyInMillis, final long memoryUsedBeforeCopy) {
-    if (timeToCopyInMillis > 20000 || MAX_THREADS == 1) {
+  private int getThreadsToUse(final long timeToCopyInMillis, final long memoryUsedBeforeCopy) {
+    if (timeToCopyInMillis > 20000 || maxThreads == 1) {
       // just use 1 thread if we took more than 20 seconds to copy
       return 1;
     }
@@ -104,14 +131,69 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
 
     if (timeToCopyInMillis > 3000) {
       // use half the number of threads available if we took more than 3 seconds to copy
-      return Math.min(numberOfTimesWeCanCopyMax, Math.max(1, (MAX_THREADS / 2)));
+      return Math.min(numberOfTimesWeCanCopyMax, Math.max(1, (maxThreads / 2)));
     }
     // use all threads
-    return Math.min(numberOfTimesWeCanCopyMax, MAX_THREADS);
+    return Math.min(numberOfTimesWeCanCopyMax, maxThreads);
+  }
+
+  /**
+   * Brings the workers up to date with the game data they are copies of, by replaying the changes
+   * recorded in its history since they were copied. Returns false if they have to be copied again
+   * instead, e.g. because the game data is a different one or too many changes were made since.
+   */
+  private boolean updateWorkers(@Nullable final GameData data) {
+    if (data == null || data != workersData || workers.isEmpty()) {
+      return false;
+    }
+    final byte[] serializedChange;
+    final GameStep step;
+    final int round;
+    final int changeCount;
+    final Change lastChange;
+    try (GameData.Unlocker ignored = data.acquireReadLock()) {
+      final History history = data.getHistory();
+      final List<Change> changes =
+          history == workersHistory
+              ? history.getChangesSince(workersChangeCount, workersLastChange).orElse(null)
+              : null;
+      if (changes == null || changes.size() > MAX_CHANGES_TO_REPLAY) {
+        return false;
+      }
+      final int unitCount = data.getUnits().getUnits().size();
+      // units the workers were given to calculate with are never removed from their game data
+      if (workers.stream().anyMatch(worker -> worker.getUnitCount() > 2 * unitCount)) {
+        return false;
+      }
+      serializedChange = GameDataUtils.gameObjectsToBytes(new CompositeChange(changes));
+      step = data.getSequence().getStep();
+      round = data.getSequence().getRound();
+      changeCount = history.getChangeCount();
+      lastChange = history.getLastChange();
+    }
+    try {
+      final String stepPlayerName =
+          step.getPlayerId() == null ? null : step.getPlayerId().getName();
+      workers.parallelStream()
+          .filter(worker -> cancelCurrentOperation.get() >= 0)
+          .forEach(
+              worker ->
+                  worker.update(serializedChange, round, step.getDisplayName(), stepPlayerName));
+    } catch (final RuntimeException e) {
+      log.warn("Failed to replay changes to the battle calculator, copying the game data", e);
+      return false;
+    }
+    if (cancelCurrentOperation.get() < 0) {
+      return false;
+    }
+    workersChangeCount = changeCount;
+    workersLastChange = lastChange;
+    return true;
   }
 
   private boolean createWorkers(@Nullable final GameData data) {
     workers.clear();
+    workersData = null;
     if (data != null && cancelCurrentOperation.get() >= 0) {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
@@ -127,6 +209,9 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
         if (serializedData == null) {
           return false;
         }
+        workersHistory = data.getHistory();
+        workersChangeCount = workersHistory.getChangeCount();
+        workersLastChange = workersHistory.getLastChange();
       }
       if (cancelCurrentOperation.get() >= 0) {
         // Create the first battle calc on the current thread to measure the end-to-end copy time.
@@ -146,6 +231,7 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
       workers.clear();
       return false;
     }
+    workersData = data;
     // should make sure that all workers have their game data set before
     // we can call calculate and other things
     return true;
@@ -55,6 +55,10 @@ public abstract class ClientSetting<T> implements GameSetting<T> {
       new IntegerClientSetting("AI_PAUSE_DURATION", 300);
   public static final ClientSetting<Integer> aiCombatStepPauseDuration =
       new IntegerClientSetting("AI_COMBAT_STEP_PAUSE_DURATION", 1000);
+  public static final ClientSetting<Integer> aiPhaseTimeBudget =
+      new IntegerClientSetting("AI_PHASE_TIME_BUDGET", 0);
+  public static final ClientSetting<Boolean> aiPondering =
+      new BooleanClientSetting("AI_PONDERING", false);
   public static final ClientSetting<Integer> arrowKeyScrollSpeed =
       new IntegerClientSetting("ARROW_KEY_SCROLL_SPEED", 70);
   public static final ClientSetting<Integer> battleCalcSimulationCountDice =
@@ -46,6 +46,28 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
     }
   },
 
+  AI_PHASE_TIME_BUDGET_BINDING(
+      "AI Phase Time Budget",
+      SettingType.AI,
+      "Time (in seconds) the AI aims to spend on each phase of its turn, 0 for no limit. When "
+          + "the time runs short, the AI judges battles more coarsely to finish in time") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiPhaseTimeBudget, 0, 600);
+    }
+  },
+
+  AI_PONDERING_BINDING(
+      "AI Pondering",
+      SettingType.AI,
+      "Whether the AI prepares its next turn while the other players take theirs. This uses "
+          + "spare processor cores and speeds up the AI's turn if the board is unchanged by then") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return booleanRadioButtons(ClientSetting.aiPondering);
+    }
+  },
+
   ARROW_KEY_SCROLL_SPEED_BINDING(
       "Arrow Key Scroll Speed",
       SettingType.MAP_SCROLLING,
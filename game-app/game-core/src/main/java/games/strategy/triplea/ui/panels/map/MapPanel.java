@@ -129,6 +129,20 @@ public class MapPanel extends ImageScrollerLargeView {
         public void attachmentChanged(final Territory territory) {
           updateCountries(Set.of(territory));
         }
+
+        @Override
+        public void territoriesChanged(
+            final Collection<Territory> unitsChanged,
+            final Collection<Territory> ownerChanged,
+            final Collection<Territory> attachmentChanged) {
+          for (final Territory territory : ownerChanged) {
+            smallMapImageManager.updateTerritoryOwner(territory, gameData, uiContext.getMapData());
+          }
+          final Set<Territory> territories = new HashSet<>(unitsChanged);
+          territories.addAll(ownerChanged);
+          territories.addAll(attachmentChanged);
+          updateCountries(territories);
+        }
       };
 
   private final GameDataChangeListener dataChangeListener =
@@ -344,12 +358,8 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   public boolean getEditMode() {
-    final boolean isEditMode;
     // use GameData from mapPanel since it will follow current history node
-    try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
-      isEditMode = EditDelegate.getEditMode(gameData.getProperties());
-    }
-    return isEditMode;
+    return gameData.readOptimistically(() -> EditDelegate.getEditMode(gameData.getProperties()));
   }
 
   // Beagle Code used to change map skin
@@ -872,14 +882,14 @@ public class MapPanel extends ImageScrollerLargeView {
         movementLeft.getMinimum()
             + (movementLeft.getMaximum().compareTo(movementLeft.getMinimum()) > 0 ? "+" : "");
     if (routeDescription != null) {
-      try (GameData.Unlocker ignored = gameData.acquireReadLock()) {
-        movementFuelCost =
-            Route.getMovementFuelCostCharge(
-                units,
-                routeDescription.getRoute(),
-                CollectionUtils.getAny(units).getOwner(),
-                gameData);
-      }
+      movementFuelCost =
+          gameData.readOptimistically(
+              () ->
+                  Route.getMovementFuelCostCharge(
+                      units,
+                      routeDescription.getRoute(),
+                      CollectionUtils.getAny(units).getOwner(),
+                      gameData));
     }
 
     final Set<UnitCategory> categories = UnitSeparator.categorize(units);
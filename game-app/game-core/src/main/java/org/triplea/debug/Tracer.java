@@ -0,0 +1,167 @@
+package org.triplea.debug;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records spans of time to a trace in the Chrome trace event format. Each thread buffers the spans
+ * it records and writes them when its outermost span closes, so that threads rarely contend for the
+ * writer. A thread whose outermost span stays open for long, e.g. a whole AI turn, writes its buffer
+ * whenever it is full instead.
+ */
+@Slf4j
+final class Tracer {
+  private static final int PROCESS_ID = 1;
+  /** The number of spans a thread buffers at most before writing them. */
+  @VisibleForTesting static final int MAX_BUFFERED_EVENTS = 1000;
+
+  private final Writer out;
+  private final LongSupplier nanoTime;
+  private final long startNanos;
+  private final ThreadLocal<ThreadTrace> threadTraces = ThreadLocal.withInitial(ThreadTrace::new);
+  private boolean isFirstEvent = true;
+  private boolean isClosed;
+
+  @VisibleForTesting
+  Tracer(final Writer out, final LongSupplier nanoTime) {
+    this.out = out;
+    this.nanoTime = nanoTime;
+    startNanos = nanoTime.getAsLong();
+    write("[");
+  }
+
+  private static final class ThreadTrace {
+    private final List<String> events = new ArrayList<>();
+    private int depth;
+    private boolean isNamed;
+  }
+
+  Tracing.Span start(final String category, final String name) {
+    final ThreadTrace threadTrace = threadTraces.get();
+    if (!threadTrace.isNamed) {
+      threadTrace.isNamed = true;
+      threadTrace.events.add(
+          String.format(
+              Locale.ROOT,
+              "{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":%d,\"tid\":%d,"
+                  + "\"args\":{\"name\":\"%s\"}}",
+              PROCESS_ID,
+              Thread.currentThread().getId(),
+              escape(Thread.currentThread().getName())));
+    }
+    threadTrace.depth++;
+    return new RecordedSpan(threadTrace, category, name, nanoTime.getAsLong());
+  }
+
+  Tracing.Span startNested(final String category, final String name) {
+    return threadTraces.get().depth > 0 ? start(category, name) : Tracing.NO_OP_SPAN;
+  }
+
+  private synchronized void write(final List<String> events) {
+    final StringBuilder builder = new StringBuilder();
+    for (final String event : events) {
+      // the closing bracket is optional, so that a trace can be read while it is still written
+      builder.append(isFirstEvent ? "\n" : ",\n").append(event);
+      isFirstEvent = false;
+    }
+    write(builder.toString());
+  }
+
+  private synchronized void write(final String text) {
+    if (isClosed) {
+      return;
+    }
+    try {
+      out.write(text);
+      out.flush();
+    } catch (final IOException e) {
+      log.warn("Failed to write the trace, no longer tracing", e);
+      isClosed = true;
+    }
+  }
+
+  /** Ends the trace; spans that close afterwards are no longer recorded. */
+  synchronized void close() {
+    write("\n]\n");
+    isClosed = true;
+    try {
+      out.close();
+    } catch (final IOException e) {
+      log.warn("Failed to close the trace", e);
+    }
+  }
+
+  private static String escape(final String text) {
+    final StringBuilder builder = new StringBuilder(text.length());
+    for (final char c : text.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        builder.append('\\').append(c);
+      } else if (c < ' ') {
+        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+      } else {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private final class RecordedSpan implements Tracing.Span {
+    private final ThreadTrace threadTrace;
+    private final String category;
+    private final String name;
+    private final long spanStartNanos;
+    @Nullable private StringBuilder args;
+
+    RecordedSpan(
+        final ThreadTrace threadTrace,
+        final String category,
+        final String name,
+        final long spanStartNanos) {
+      this.threadTrace = threadTrace;
+      this.category = category;
+      this.name = name;
+      this.spanStartNanos = spanStartNanos;
+    }
+
+    @Override
+    public Tracing.Span withArg(final String key, final Object value) {
+      args = args == null ? new StringBuilder() : args.append(',');
+      args.append('"').append(escape(key)).append("\":");
+      if (value instanceof Number || value instanceof Boolean) {
+        args.append(value);
+      } else {
+        args.append('"').append(escape(String.valueOf(value))).append('"');
+      }
+      return this;
+    }
+
+    @Override
+    public void close() {
+      final long endNanos = nanoTime.getAsLong();
+      threadTrace.events.add(
+          String.format(
+              Locale.ROOT,
+              "{\"name\":\"%s\",\"cat\":\"%s\",\"ph\":\"X\",\"ts\":%d,\"dur\":%d,\"pid\":%d,"
+                  + "\"tid\":%d%s}",
+              escape(name),
+              escape(category),
+              (spanStartNanos - startNanos) / 1000,
+              (endNanos - spanStartNanos) / 1000,
+              PROCESS_ID,
+              Thread.currentThread().getId(),
+              args == null ? "" : ",\"args\":{" + args + "}"));
+      threadTrace.depth--;
+      if (threadTrace.depth == 0 || threadTrace.events.size() >= MAX_BUFFERED_EVENTS) {
+        write(threadTrace.events);
+        threadTrace.events.clear();
+      }
+    }
+  }
+}
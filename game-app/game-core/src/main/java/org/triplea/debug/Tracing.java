@@ -0,0 +1,83 @@
+package org.triplea.debug;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Traces where the time of a run goes, e.g. of the phases of an AI's turn and of the battle
+ * simulations and route searches they make. Tracing is enabled by setting the system property
+ * {@value #TRACE_FILE} to the file to write the trace to, e.g. with "-Ptriplea.trace.file=ai.json"
+ * for a headless run. The trace is in the Chrome trace event format, which chrome://tracing,
+ * Perfetto and speedscope show as a flame chart per thread. When tracing is disabled, spans cost
+ * nothing but a check.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * try (Tracing.Span ignored = Tracing.start("ai", "combat move")) {
+ *   ...
+ * }
+ * }</pre>
+ */
+@Slf4j
+public final class Tracing {
+  public static final String TRACE_FILE = "triplea.trace.file";
+
+  static final Span NO_OP_SPAN =
+      new Span() {
+        @Override
+        public Span withArg(final String key, final Object value) {
+          return this;
+        }
+
+        @Override
+        public void close() {}
+      };
+
+  @Nullable private static final Tracer tracer = newTracer();
+
+  private Tracing() {}
+
+  /** A span of time of a trace, which ends when it is closed. */
+  public interface Span extends AutoCloseable {
+    /** Adds an argument to the span, e.g. the number of runs of a battle simulation. */
+    Span withArg(String key, Object value);
+
+    @Override
+    void close();
+  }
+
+  @Nullable
+  private static Tracer newTracer() {
+    final String traceFile = System.getProperty(TRACE_FILE, "");
+    if (traceFile.isEmpty()) {
+      return null;
+    }
+    try {
+      final Tracer tracer =
+          new Tracer(Files.newBufferedWriter(Path.of(traceFile)), System::nanoTime);
+      Runtime.getRuntime().addShutdownHook(new Thread(tracer::close));
+      log.info("Writing trace to " + Path.of(traceFile).toAbsolutePath());
+      return tracer;
+    } catch (final IOException e) {
+      log.warn("Failed to create trace file " + traceFile + ", not tracing", e);
+      return null;
+    }
+  }
+
+  /** Starts a span of the current thread, which must be closed on the same thread. */
+  public static Span start(final String category, final String name) {
+    return tracer == null ? NO_OP_SPAN : tracer.start(category, name);
+  }
+
+  /**
+   * Starts a span only if the current thread is already in a span, e.g. to trace the route searches
+   * made by the AI but not the ones made for the user interface.
+   */
+  public static Span startNested(final String category, final String name) {
+    return tracer == null ? NO_OP_SPAN : tracer.startNested(category, name);
+  }
+}
@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameObjectStreamFactory;
 import games.strategy.triplea.Constants;
+import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -317,4 +319,50 @@ class ChangeTest {
     compositeChange.add(ChangeFactory.removeUnits(can, units));
     assertFalse(compositeChange.isEmpty());
   }
+
+  @Test
+  void testCompactDropsOverwrittenUnitPropertyChanges() {
+    final Territory can = gameData.getMap().getTerritory("canada");
+    final Unit unit = can.getUnitCollection().iterator().next();
+    final List<Change> changes = new ArrayList<>();
+    for (final Change change :
+        List.of(
+            ChangeFactory.unitPropertyChange(unit, BigDecimal.ONE, Unit.ALREADY_MOVED),
+            ChangeFactory.addUnits(
+                can,
+                gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(2, null)))) {
+      gameData.performChange(change);
+      changes.add(change);
+    }
+    final Change lastPropertyChange =
+        ChangeFactory.unitPropertyChange(unit, BigDecimal.TEN, Unit.ALREADY_MOVED);
+    gameData.performChange(lastPropertyChange);
+    changes.add(lastPropertyChange);
+
+    final CompositeChange compacted = (CompositeChange) ChangeFactory.compact(changes);
+    assertEquals(List.of(changes.get(1), lastPropertyChange), compacted.getChanges());
+
+    gameData.performChange(ChangeFactory.compact(List.of(new CompositeChange(changes).invert())));
+    assertEquals(BigDecimal.ZERO, unit.getAlreadyMoved());
+    assertEquals(5, can.getUnitCollection().getUnitCount());
+  }
+
+  @Test
+  void testAttachmentPropertyChangeAppliesToReplacedAttachment() {
+    final Territory can = gameData.getMap().getTerritory("canada");
+    final TerritoryAttachment attachment =
+        new TerritoryAttachment(Constants.TERRITORY_ATTACHMENT_NAME, can, gameData);
+    can.addAttachment(Constants.TERRITORY_ATTACHMENT_NAME, attachment);
+    final Change change = ChangeFactory.attachmentPropertyChange(attachment, 5, "production");
+    gameData.performChange(change);
+    assertEquals(5, attachment.getProduction());
+
+    final TerritoryAttachment replacement =
+        new TerritoryAttachment(Constants.TERRITORY_ATTACHMENT_NAME, can, gameData);
+    can.addAttachment(Constants.TERRITORY_ATTACHMENT_NAME, replacement);
+    gameData.performChange(change);
+    assertEquals(5, replacement.getProduction());
+    gameData.performChange(change.invert());
+    assertEquals(0, replacement.getProduction());
+  }
 }
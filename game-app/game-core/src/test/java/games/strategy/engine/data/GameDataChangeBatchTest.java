@@ -0,0 +1,64 @@
+package games.strategy.engine.data;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.data.events.TerritoryListener;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameDataChangeBatchTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final Territory canada = gameData.getMap().getTerritory("canada");
+  private final TerritoryListener territoryListener = mock(TerritoryListener.class);
+  private final GameDataChangeListener changeListener = mock(GameDataChangeListener.class);
+
+  @BeforeEach
+  void addListeners() {
+    gameData.addTerritoryListener(territoryListener);
+    gameData.addDataChangeListener(changeListener);
+  }
+
+  private Change addInfantry() {
+    return ChangeFactory.addUnits(
+        canada, gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(1, null));
+  }
+
+  @Test
+  void compositeChangeNotifiesEachTerritoryOnce() {
+    gameData.performChange(new CompositeChange(addInfantry(), addInfantry(), addInfantry()));
+
+    verify(territoryListener).territoriesChanged(Set.of(canada), Set.of(), Set.of());
+  }
+
+  @Test
+  void batchNotifiesListenersWhenClosed() {
+    final Change first = addInfantry();
+    final Change second = addInfantry();
+
+    try (GameData.ChangeBatch ignored = gameData.beginChangeBatch()) {
+      gameData.performChange(first);
+      gameData.performChange(second);
+
+      verify(changeListener, never()).gameDataChanged(any());
+      verify(territoryListener, never()).territoriesChanged(any(), any(), any());
+    }
+
+    verify(changeListener)
+        .gameDataChanged(
+            argThat(
+                change ->
+                    change instanceof CompositeChange
+                        && ((CompositeChange) change).getChanges().equals(List.of(first, second))));
+    verify(territoryListener).territoriesChanged(Set.of(canada), Set.of(), Set.of());
+  }
+}
@@ -0,0 +1,46 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GameDataOptimisticReadTest {
+  private final GameData gameData = new GameData();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  @Test
+  void readerRunsOnceIfTheGameDataIsNotWritten() {
+    assertThat(gameData.readOptimistically(reads::incrementAndGet), is(1));
+  }
+
+  @Test
+  void readerRunsAgainUnderTheLockIfTheGameDataIsWrittenMeanwhile() {
+    final int value =
+        gameData.readOptimistically(
+            () -> {
+              if (reads.incrementAndGet() == 1) {
+                gameData.acquireWriteLock().close();
+              }
+              return reads.get();
+            });
+
+    assertThat(value, is(2));
+  }
+
+  @Test
+  void readerFailureIsDiscardedIfTheGameDataIsWrittenMeanwhile() {
+    final int value =
+        gameData.readOptimistically(
+            () -> {
+              if (reads.incrementAndGet() == 1) {
+                gameData.acquireWriteLock().close();
+                throw new IllegalStateException("inconsistent state");
+              }
+              return reads.get();
+            });
+
+    assertThat(value, is(2));
+  }
+}
@@ -0,0 +1,85 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import games.strategy.engine.data.GameStateVersions.Fact;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class GameStateVersionsTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final GameStateVersions stateVersions = gameData.getStateVersions();
+  private final Territory canada = gameData.getMap().getTerritory("canada");
+  private final GamePlayer chretian = gameData.getPlayerList().getPlayerId("chretian");
+
+  @Test
+  void ownerChangeOnlyModifiesTerritoryOwners() {
+    final Set<Fact> owners = EnumSet.of(Fact.TERRITORY_OWNERS);
+    final Set<Fact> others = EnumSet.complementOf(EnumSet.of(Fact.TERRITORY_OWNERS));
+    final long ownersVersion = stateVersions.getVersion(owners);
+    final long othersVersion = stateVersions.getVersion(others);
+
+    gameData.performChange(
+        ChangeFactory.changeOwner(canada, gameData.getPlayerList().getNullPlayer()));
+
+    assertThat(stateVersions.getVersion(owners), is(not(ownersVersion)));
+    assertThat(stateVersions.getVersion(others), is(othersVersion));
+  }
+
+  @Test
+  void addedUnitsModifyUnits() {
+    final long units = stateVersions.getVersion(EnumSet.of(Fact.UNITS));
+
+    gameData.performChange(
+        ChangeFactory.addUnits(
+            canada,
+            gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_INF).create(1, null)));
+
+    assertThat(stateVersions.getVersion(EnumSet.of(Fact.UNITS)), is(not(units)));
+  }
+
+  @Test
+  void resourceChangesOnlyModifyResources() {
+    final Set<Fact> resources = EnumSet.of(Fact.RESOURCES);
+    final Set<Fact> others = EnumSet.complementOf(EnumSet.of(Fact.RESOURCES));
+    final long resourcesVersion = stateVersions.getVersion(resources);
+    final long othersVersion = stateVersions.getVersion(others);
+
+    gameData.performChange(
+        ChangeFactory.changeResourcesChange(
+            chretian, gameData.getResourceList().getResource("gold"), 50));
+
+    assertThat(stateVersions.getVersion(resources), is(not(resourcesVersion)));
+    assertThat(stateVersions.getVersion(others), is(othersVersion));
+  }
+
+  @Test
+  void changesOfOtherStateModifyOther() {
+    final Set<Fact> other = EnumSet.of(Fact.OTHER);
+    final long version = stateVersions.getVersion(other);
+
+    gameData.performChange(
+        ChangeFactory.changeResourcesChange(
+            chretian, gameData.getResourceList().getResource("gold"), 50));
+    assertThat(stateVersions.getVersion(other), is(version));
+
+    gameData.performChange(
+        ChangeFactory.changeProductionFrontier(chretian, chretian.getProductionFrontier()));
+    assertThat(stateVersions.getVersion(other), is(not(version)));
+  }
+
+  @Test
+  void roundChangeModifiesRound() {
+    final long round = stateVersions.getVersion(EnumSet.of(Fact.ROUND));
+
+    gameData.getSequence().setRoundOffset(1);
+
+    assertThat(stateVersions.getVersion(EnumSet.of(Fact.ROUND)), is(not(round)));
+  }
+}
@@ -1,9 +1,18 @@
 package games.strategy.engine.data;
 
+import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.japanese;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 import games.strategy.engine.data.RelationshipTracker.RelatedPlayers;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.Set;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Nested;
@@ -43,4 +52,57 @@ final class RelationshipTrackerTest {
       }
     }
   }
+
+  @Nested
+  final class AlliesAndEnemiesTest {
+    private final GameData gameData = TestMapGameData.REVISED.getGameData();
+    private final RelationshipTracker relationshipTracker = gameData.getRelationshipTracker();
+    private final GamePlayer germans = germans(gameData);
+    private final GamePlayer japanese = japanese(gameData);
+    private final GamePlayer russians = russians(gameData);
+
+    @Test
+    void alliesAndEnemiesFromMap() {
+      assertThat(relationshipTracker.isAllied(germans, japanese), is(true));
+      assertThat(relationshipTracker.isAtWar(germans, russians), is(true));
+      assertThat(relationshipTracker.getAllies(germans, false), is(Set.of(japanese)));
+      assertThat(relationshipTracker.getAllies(germans, true), is(Set.of(germans, japanese)));
+      assertThat(
+          relationshipTracker.getEnemies(germans),
+          is(Set.of(russians, british(gameData), americans(gameData))));
+    }
+
+    @Test
+    void alliesAndEnemiesFollowRelationshipChanges() {
+      assertThat(relationshipTracker.isAllied(germans, russians), is(false));
+
+      gameData.performChange(
+          ChangeFactory.relationshipChange(
+              germans,
+              russians,
+              relationshipTracker.getRelationshipType(germans, russians),
+              gameData.getRelationshipTypeList().getDefaultAlliedRelationship()));
+
+      assertThat(relationshipTracker.isAllied(germans, russians), is(true));
+      assertThat(relationshipTracker.isAtWar(russians, germans), is(false));
+      assertThat(relationshipTracker.getAllies(germans, false), is(Set.of(japanese, russians)));
+      assertThat(relationshipTracker.getEnemies(russians), is(Set.of(japanese)));
+    }
+
+    @Test
+    void alliesAndEnemiesFollowArchetypeChanges() {
+      assertThat(relationshipTracker.isAtWar(germans, russians), is(true));
+
+      gameData.performChange(
+          ChangeFactory.attachmentPropertyChange(
+              relationshipTracker
+                  .getRelationshipType(germans, russians)
+                  .getAttachment(Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME),
+              "neutral",
+              "archeType"));
+
+      assertThat(relationshipTracker.isAtWar(germans, russians), is(false));
+      assertThat(relationshipTracker.getEnemies(germans), is(Set.of()));
+    }
+  }
 }
@@ -1,5 +1,10 @@
 package games.strategy.engine.data;
 
+import static games.strategy.triplea.delegate.GameDataTestUtil.addTo;
+import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.battle.steps.MockGameData.givenGameData;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -8,10 +13,13 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -288,6 +296,44 @@ class UnitCollectionTest {
         allPlayersUnitCollection.getUnitCount(otherGamePlayer), is(equalTo(unitCountOtherPlayer)));
   }
 
+  @Test
+  void countsAreUpdatedWhenUnitsAreRemoved() {
+    addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(unitCollection.getUnitCount(unitTypeOne), is(equalTo(unitCountUnitTypeOne)));
+
+    unitCollection.remove(unitOtherPlayer1);
+    unitCollection.removeAll(getDefaultPlayerUnitsOfUnitTypeTwo());
+    unitCollection.retainAll(List.of(unitDefaultPlayer1, unitOtherPlayer2, unitOtherPlayer4));
+
+    assertThat(unitCollection.getUnitCount(unitTypeOne, otherGamePlayer), is(equalTo(1)));
+    assertThat(unitCollection.getUnitCount(unitTypeTwo, otherGamePlayer), is(equalTo(1)));
+    assertThat(unitCollection.getUnitCount(unitTypeTwo, defaultGamePlayer), is(equalTo(0)));
+    assertThat(unitCollection.getUnitCount(defaultGamePlayer), is(equalTo(1)));
+    assertThat(unitCollection.contains(unitOtherPlayer1), is(equalTo(false)));
+    assertThat(unitCollection.contains(unitOtherPlayer2), is(equalTo(true)));
+  }
+
+  @Test
+  void countsAreUpdatedWhenUnitChangesOwner() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final Territory territory = territory("Germany", gameData);
+    final Unit tank = armour(gameData).create(americans(gameData));
+    addTo(territory, List.of(tank));
+    assertThat(
+        territory.getUnitCollection().getUnitCount(armour(gameData), americans(gameData)),
+        is(equalTo(1)));
+
+    gameData.performChange(ChangeFactory.changeOwner(List.of(tank), germans(gameData), territory));
+
+    assertThat(
+        territory.getUnitCollection().getUnitCount(armour(gameData), americans(gameData)),
+        is(equalTo(0)));
+    assertThat(territory.getUnitCollection().getUnitCount(americans(gameData)), is(equalTo(0)));
+    assertThat(
+        territory.getUnitCollection().getUnitsByType(germans(gameData)).getInt(armour(gameData)),
+        is(equalTo(1)));
+  }
+
   @Test
   void containsAll() {
     final Collection<Unit> unitsOfDefaultPlayerOfUnitTypeOne = getDefaultPlayerUnitsOfUnitTypeOne();
@@ -0,0 +1,107 @@
+package games.strategy.engine.framework;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import games.strategy.triplea.delegate.battle.IBattle;
+import games.strategy.triplea.delegate.battle.IBattle.BattleType;
+import games.strategy.triplea.delegate.data.BattleRecord;
+import games.strategy.triplea.delegate.data.BattleRecords;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+final class GameDataUtilsTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+
+  @Test
+  void copiesCreatedFromOneSnapshotAreIndependentOfTheGameAndOfEachOther() {
+    final byte[] snapshot =
+        GameDataUtils.gameDataToBytes(gameData, GameDataManager.Options.forAiSimulation())
+            .orElseThrow();
+    final GameData copy = GameDataUtils.createGameDataFromBytes(snapshot).orElseThrow();
+    final GameData otherCopy = GameDataUtils.createGameDataFromBytes(snapshot).orElseThrow();
+
+    copy.performChange(ChangeFactory.changeOwner(territory("Germany", copy), russians(copy)));
+
+    assertThat(territory("Germany", copy).getOwner(), is(russians(copy)));
+    assertThat(territory("Germany", otherCopy).getOwner(), is(germans(otherCopy)));
+    assertThat(territory("Germany", gameData).getOwner(), is(germans(gameData)));
+    assertThat(
+        "The snapshot is unchanged",
+        GameDataUtils.createGameDataFromBytes(snapshot)
+            .map(data -> territory("Germany", data).getOwner().getName())
+            .orElseThrow(),
+        is(germans(gameData).getName()));
+  }
+
+  @Test
+  void copiesForAiSimulationHaveTheDelegates() {
+    final GameData copy =
+        GameDataUtils.cloneGameData(gameData, GameDataManager.Options.forAiSimulation())
+            .orElseThrow();
+
+    assertThat(copy.getMoveDelegate(), is(notNullValue()));
+    assertThat(copy.getBattleDelegate(), is(notNullValue()));
+  }
+
+  @Test
+  void copiesForAiSimulationLeaveOutTheBattleRecordsOfPastRounds() {
+    gameData.getBattleRecordsList().putRecords(Map.of(1, newBattleRecords(50)));
+    gameData.getSequence().setRoundOffset(1);
+    final BattleRecords currentRoundRecords = newBattleRecords(1);
+    gameData.getBattleRecordsList().putRecords(Map.of(2, currentRoundRecords));
+
+    final byte[] snapshot =
+        GameDataUtils.gameDataToBytes(gameData, GameDataManager.Options.forAiSimulation())
+            .orElseThrow();
+    final byte[] snapshotWithPastRecords =
+        GameDataUtils.gameDataToBytes(gameData, GameDataManager.Options.forAiSimulation(true))
+            .orElseThrow();
+    final GameData copy = GameDataUtils.createGameDataFromBytes(snapshot).orElseThrow();
+
+    assertThat(copy.getBattleRecordsList().getBattleRecordsMap().keySet(), contains(2));
+    assertThat(
+        "The 50 units left after the battle of the past round aren't serialized",
+        snapshot.length,
+        is(lessThan(snapshotWithPastRecords.length)));
+    assertThat(
+        gameData.getBattleRecordsList().getBattleRecordsMap().keySet(), containsInAnyOrder(1, 2));
+  }
+
+  private BattleRecords newBattleRecords(final int remainingAttackers) {
+    final List<Unit> attackers = infantry(gameData).create(remainingAttackers, germans(gameData));
+    final IBattle battle = mock(IBattle.class);
+    when(battle.getRemainingAttackingUnits()).thenReturn(attackers);
+    when(battle.getRemainingDefendingUnits()).thenReturn(List.of());
+    final BattleRecords records = new BattleRecords();
+    final UUID battleId = UUID.randomUUID();
+    records.addBattle(
+        germans(gameData), battleId, territory("Karelia S.S.R.", gameData), BattleType.NORMAL);
+    records.addResultToBattle(
+        germans(gameData),
+        battleId,
+        russians(gameData),
+        0,
+        3,
+        BattleRecord.BattleResultDescription.CONQUERED,
+        new BattleResults(battle, IBattle.WhoWon.ATTACKER, gameData));
+    return records;
+  }
+}
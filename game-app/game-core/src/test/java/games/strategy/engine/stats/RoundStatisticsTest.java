@@ -0,0 +1,51 @@
+package games.strategy.engine.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class RoundStatisticsTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final MapData mapData = mock(MapData.class);
+
+  @Test
+  void recordedStatisticsMatchTheGameState() {
+    when(mapData.shouldDrawUnit(any())).thenReturn(true);
+    final RoundStatistics statistics = RoundStatistics.collect(gameData);
+
+    for (final IStat stat :
+        List.of(
+            new TuvStat(),
+            new ProductionStat(),
+            new UnitsStat(),
+            new VictoryCityStat(),
+            new ResourceStat(gameData.getResourceList().getResource("PUs")))) {
+      for (final GamePlayer player : gameData.getPlayerList().getPlayers()) {
+        assertThat(
+            stat.getName() + " of " + player.getName(),
+            stat.getValue(player, statistics, gameData, mapData),
+            is(OptionalDouble.of(stat.getValue(player, gameData, mapData))));
+      }
+    }
+  }
+
+  @Test
+  void recordedUnitsOnlyCountUnitsThatAreDrawn() {
+    when(mapData.shouldDrawUnit(any())).thenReturn(false);
+    final GamePlayer player = gameData.getPlayerList().getPlayerId("Germans");
+
+    assertThat(
+        new UnitsStat().getValue(player, RoundStatistics.collect(gameData), gameData, mapData),
+        is(OptionalDouble.of(0)));
+  }
+}
@@ -0,0 +1,70 @@
+package games.strategy.triplea.ai.pro;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.ai.pro.data.ProReachabilityCache;
+import games.strategy.triplea.xml.TestMapGameData;
+import org.junit.jupiter.api.Test;
+
+class ProDataTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final AbstractProAi proAi = mock(AbstractProAi.class);
+  private final ProData proData = new ProData();
+
+  private GameData newCopy() {
+    return GameDataUtils.cloneGameData(gameData, GameDataManager.Options.forAiSimulation())
+        .orElseThrow();
+  }
+
+  private void initializeSimulation(final GameData data) {
+    proData.initializeSimulation(proAi, data, germans(data));
+  }
+
+  @Test
+  void theReachabilityCacheOfTheGameIsKeptWhileCopiesAreSimulated() {
+    when(proAi.getGameData()).thenReturn(gameData);
+    when(proAi.getGamePlayer()).thenReturn(germans(gameData));
+    proData.initialize(proAi);
+    final ProReachabilityCache gameCache = proData.getReachabilityCache();
+    initializeSimulation(newCopy());
+    assertThat(proData.getReachabilityCache(), is(not(sameInstance(gameCache))));
+
+    proData.initialize(proAi);
+
+    assertThat(proData.getReachabilityCache(), is(sameInstance(gameCache)));
+  }
+
+  @Test
+  void theReachabilityCacheOfACopyIsKeptWhileTheCopyIsSimulated() {
+    final GameData copy = newCopy();
+    initializeSimulation(copy);
+    final ProReachabilityCache copyCache = proData.getReachabilityCache();
+
+    initializeSimulation(copy);
+
+    assertThat(proData.getReachabilityCache(), is(sameInstance(copyCache)));
+  }
+
+  @Test
+  void theReachabilityCacheOfACopyIsClosedOnceAnotherCopyIsSimulated() {
+    final GameData droppedCopy = spy(newCopy());
+    initializeSimulation(droppedCopy);
+    final ProReachabilityCache droppedCache = proData.getReachabilityCache();
+
+    initializeSimulation(newCopy());
+
+    // the dropped copy no longer refers to the cache, so it can be garbage collected
+    verify(droppedCopy).removeTerritoryListener(droppedCache);
+  }
+}
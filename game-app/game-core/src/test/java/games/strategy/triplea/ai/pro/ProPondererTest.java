@@ -0,0 +1,265 @@
+package games.strategy.triplea.ai.pro;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.ai.pro.AbstractProAi.PonderedTurn;
+import games.strategy.triplea.ai.pro.util.ProBattleResultCache;
+import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
+import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.triplea.java.Interruptibles;
+
+class ProPondererTest extends AbstractClientSettingTestCase {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final AbstractProAi proAi = mock(AbstractProAi.class);
+  private final ProOddsCalculator ponderingCalc = mock(ProOddsCalculator.class);
+  private final CountDownLatch ponderingReleased = new CountDownLatch(1);
+  private ProPonderer ponderer;
+
+  @BeforeEach
+  void setUp() {
+    ClientSetting.aiPondering.setValue(true);
+    when(proAi.getGameData()).thenReturn(gameData);
+    when(proAi.getGamePlayer()).thenReturn(germans(gameData));
+  }
+
+  @AfterEach
+  void tearDown() {
+    ponderingReleased.countDown();
+    if (ponderer != null) {
+      ponderer.stop();
+    }
+  }
+
+  private AbstractProAi mockPonderingAi(
+      final ProOddsCalculator calc, final Answer<PonderedTurn> ponderTurn) {
+    final AbstractProAi ponderingAi = mock(AbstractProAi.class);
+    when(ponderingAi.getCalc()).thenReturn(calc);
+    when(ponderingAi.ponderTurn(any(), eq(germans(gameData).getName()))).thenAnswer(ponderTurn);
+    return ponderingAi;
+  }
+
+  private AbstractProAi mockPonderingAi() {
+    return mockPonderingAi(
+        ponderingCalc,
+        invocation -> new PonderedTurn((AbstractProAi) invocation.getMock(), gameData, null));
+  }
+
+  /** Returns a pondering AI whose pondering doesn't finish until it is interrupted. */
+  private AbstractProAi mockBlockedPonderingAi(final ProOddsCalculator calc) {
+    return mockPonderingAi(
+        calc,
+        invocation -> {
+          Interruptibles.await(ponderingReleased);
+          return null;
+        });
+  }
+
+  private void changeBoard() {
+    gameData.performChange(
+        ChangeFactory.changeOwner(territory("Germany", gameData), russians(gameData)));
+  }
+
+  private void goToStep(final String stepName) {
+    final GameSequence sequence = gameData.getSequence();
+    for (final GameStep step : sequence) {
+      if (step.getName().equals(stepName)) {
+        sequence.setRoundAndStep(1, step.getDisplayName(), step.getPlayerId());
+      }
+    }
+  }
+
+  private void addPus(final GamePlayer player, final int quantity) {
+    gameData.performChange(
+        ChangeFactory.changeResourcesChange(
+            player, gameData.getResourceList().getResource(Constants.PUS), quantity));
+  }
+
+  @Test
+  void theTurnPonderedFromAnUnchangedBoardIsReused() {
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+
+    ponderer.stepChanged();
+    ponderer.stepChanged();
+    final PonderedTurn ponderedTurn = ponderer.takePonderedTurn(gameData);
+
+    assertThat(ponderedTurn, is(notNullValue()));
+    assertThat(ponderedTurn.getPonderingAi(), is(sameInstance(ponderingAi)));
+    // the second step in the same state kept the pondering
+    verify(proAi, times(1)).newPonderingAi();
+    verify(ponderingCalc, never()).stop();
+  }
+
+  @Test
+  void theTurnPonderedFromAChangedBoardIsDiscarded() {
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    ponderer.stepChanged();
+
+    changeBoard();
+
+    assertThat(ponderer.takePonderedTurn(gameData), is(nullValue()));
+    verify(ponderingCalc).stop();
+  }
+
+  @Test
+  void theTurnPonderedBeforeTheIncomeOfAnotherPlayerIsReused() {
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    ponderer.stepChanged();
+
+    addPus(russians(gameData), 30);
+
+    assertThat(ponderer.takePonderedTurn(gameData), is(notNullValue()));
+    verify(ponderingCalc, never()).stop();
+  }
+
+  @Test
+  void theTurnPonderedBeforeAChangeOfTheAisOwnResourcesIsDiscarded() {
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    ponderer.stepChanged();
+
+    addPus(germans(gameData), 30);
+
+    assertThat(ponderer.takePonderedTurn(gameData), is(nullValue()));
+  }
+
+  @Test
+  void theFirstPlayerOfARoundPondersDuringTheTurnsOfThePreviousRound() {
+    when(proAi.getGamePlayer()).thenReturn(russians(gameData));
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    goToStep("endRoundStep");
+
+    ponderer.stepChanged();
+
+    verify(proAi).newPonderingAi();
+  }
+
+  @Test
+  void theAiDoesNotPonderDuringItsOwnTurn() {
+    final AbstractProAi ponderingAi = mockPonderingAi();
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    goToStep("germanCombatMove");
+
+    ponderer.stepChanged();
+
+    verify(proAi, never()).newPonderingAi();
+  }
+
+  @Test
+  void theBattlesOfATurnPonderedByARealAiAreReusedAfterTheBoardChanged() {
+    final ConcurrentBattleCalculator battleCalculator = new ConcurrentBattleCalculator(2);
+    final AbstractProAi ponderingAi = new ProAi("Germans", "Germans", battleCalculator);
+    final AbstractProAi secondPonderingAi = new ProAi("Germans", "Germans", battleCalculator);
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi, secondPonderingAi);
+    ponderer = new ProPonderer(proAi, MoreExecutors::newDirectExecutorService);
+    try {
+      ponderer.stepChanged();
+      addPus(russians(gameData), 30);
+
+      final PonderedTurn ponderedTurn = ponderer.takePonderedTurn(gameData);
+
+      assertThat("Income of another player", ponderedTurn, is(notNullValue()));
+      assertThat(ponderedTurn.getSimulatedData(), is(notNullValue()));
+      final ProBattleResultCache battleResultCache = ponderer.getBattleResultCache();
+      assertThat(battleResultCache, is(notNullValue()));
+      assertThat(battleResultCache.getHitCount(), is(0L));
+
+      // far from the german front, so the battles of the german turn are the same
+      gameData.performChange(
+          ChangeFactory.changeOwner(territory("Alaska", gameData), british(gameData)));
+      ponderer.stepChanged();
+
+      assertThat(battleResultCache.getHitCount(), is(greaterThan(0L)));
+    } finally {
+      battleCalculator.setGameData(null);
+    }
+  }
+
+  @Test
+  void anUnfinishedPonderingIsCancelledRatherThanWaitedFor() {
+    final AbstractProAi ponderingAi = mockBlockedPonderingAi(ponderingCalc);
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, Executors::newSingleThreadExecutor);
+    ponderer.stepChanged();
+
+    final PonderedTurn ponderedTurn =
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(5), () -> ponderer.takePonderedTurn(gameData));
+
+    assertThat(ponderedTurn, is(nullValue()));
+    verify(ponderingCalc).stop();
+  }
+
+  @Test
+  void aStepInAChangedStateCancelsThePonderingAndPondersAgain() {
+    final ProOddsCalculator secondPonderingCalc = mock(ProOddsCalculator.class);
+    final AbstractProAi ponderingAi = mockBlockedPonderingAi(ponderingCalc);
+    final AbstractProAi secondPonderingAi = mockBlockedPonderingAi(secondPonderingCalc);
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi, secondPonderingAi);
+    ponderer = new ProPonderer(proAi, Executors::newSingleThreadExecutor);
+    ponderer.stepChanged();
+
+    changeBoard();
+    ponderer.stepChanged();
+
+    verify(ponderingCalc).stop();
+    verify(secondPonderingCalc, never()).stop();
+    verify(proAi, times(2)).newPonderingAi();
+  }
+
+  @Test
+  void stopCancelsThePondering() {
+    final AbstractProAi ponderingAi = mockBlockedPonderingAi(ponderingCalc);
+    when(proAi.newPonderingAi()).thenReturn(ponderingAi);
+    ponderer = new ProPonderer(proAi, Executors::newSingleThreadExecutor);
+    ponderer.stepChanged();
+
+    ponderer.stop();
+
+    verify(ponderingCalc).stop();
+    assertThat(ponderer.takePonderedTurn(gameData), is(nullValue()));
+  }
+}
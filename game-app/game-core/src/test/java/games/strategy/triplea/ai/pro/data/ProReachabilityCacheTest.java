@@ -0,0 +1,115 @@
+package games.strategy.triplea.ai.pro.data;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.ai.pro.util.ProMatches;
+import games.strategy.triplea.attachments.RulesAttachment;
+import games.strategy.triplea.attachments.TerritoryAttachment;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.math.BigDecimal;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ProReachabilityCacheTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final GamePlayer germans = germans(gameData);
+  private final Territory germany = territory("Germany", gameData);
+  private final Territory easternEurope = territory("Eastern Europe", gameData);
+  private final Unit tank =
+      germany.getUnitCollection().getMatches(Matches.unitIsOfType(armour(gameData))).get(0);
+  private final ProReachabilityCache cache = new ProReachabilityCache(gameData);
+
+  private Set<Territory> getReachableTerritories() {
+    return cache.getReachableTerritories(
+        tank,
+        germany,
+        BigDecimal.valueOf(2),
+        germans,
+        ProReachabilityCache.Movement.LAND,
+        false,
+        false);
+  }
+
+  @Test
+  void reachableTerritoriesMatchTheSearchOfTheMap() {
+    final Set<Territory> expected =
+        gameData
+            .getMap()
+            .getNeighborsByMovementCost(
+                germany,
+                BigDecimal.valueOf(2),
+                ProMatches.territoryCanMoveSpecificLandUnit(germans, false, tank));
+
+    assertThat(getReachableTerritories(), is(expected));
+    assertThat(getReachableTerritories(), is(expected));
+  }
+
+  @Test
+  void reachableTerritoriesAreCachedPerPlayer() {
+    final GamePlayer russians = russians(gameData);
+    final Set<Territory> expected =
+        gameData
+            .getMap()
+            .getNeighborsByMovementCost(
+                germany,
+                BigDecimal.valueOf(2),
+                ProMatches.territoryCanMoveSpecificLandUnit(russians, false, tank));
+    getReachableTerritories();
+
+    assertThat(
+        cache.getReachableTerritories(
+            tank,
+            germany,
+            BigDecimal.valueOf(2),
+            russians,
+            ProReachabilityCache.Movement.LAND,
+            false,
+            false),
+        is(expected));
+  }
+
+  @Test
+  void reachableTerritoriesAreSearchedAgainWhenAnExaminedTerritoryChanges() {
+    assertThat(getReachableTerritories(), hasItem(easternEurope));
+
+    gameData.performChange(
+        ChangeFactory.attachmentPropertyChange(
+            TerritoryAttachment.get(easternEurope), true, "isImpassable"));
+    easternEurope.notifyAttachmentChanged();
+
+    assertThat(getReachableTerritories(), not(hasItem(easternEurope)));
+  }
+
+  @Test
+  void reachableTerritoriesAreSearchedAgainWhenTheMovementRestrictionsChange() {
+    gameData.getProperties().set(Constants.MOVEMENT_BY_TERRITORY_RESTRICTED, true);
+    final RulesAttachment rulesAttachment =
+        new RulesAttachment(Constants.RULES_ATTACHMENT_NAME, germans, gameData);
+    germans.addAttachment(Constants.RULES_ATTACHMENT_NAME, rulesAttachment);
+    gameData.performChange(
+        ChangeFactory.attachmentPropertyChange(
+            rulesAttachment, "disallowed", "movementRestrictionType"));
+    assertThat(getReachableTerritories(), hasItem(easternEurope));
+
+    // restrictions of rules attachments don't notify the territories they list
+    gameData.performChange(
+        ChangeFactory.attachmentPropertyChange(
+            rulesAttachment, easternEurope.getName(), "movementRestrictionTerritories"));
+
+    assertThat(getReachableTerritories(), not(hasItem(easternEurope)));
+  }
+}
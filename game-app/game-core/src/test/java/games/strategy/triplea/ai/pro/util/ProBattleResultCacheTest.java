@@ -0,0 +1,101 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProBattleResultCacheTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final ProBattleResultCache cache = new ProBattleResultCache();
+
+  private static List<Unit> getAttackers(final GameData data) {
+    return territory("Germany", data).getUnitCollection().getMatches(u -> true);
+  }
+
+  private static List<Unit> getDefenders(final GameData data) {
+    return territory("Karelia S.S.R.", data).getUnitCollection().getMatches(u -> true);
+  }
+
+  private static ProBattleResultCache.Key newKey(final GameData data) {
+    final Territory karelia = territory("Karelia S.S.R.", data);
+    return ProBattleResultCache.newKey(
+        karelia,
+        germans(data),
+        russians(data),
+        getAttackers(data),
+        getDefenders(data),
+        List.of(),
+        true,
+        false);
+  }
+
+  private void putAttackerWinning(final long rulesVersion) {
+    final Unit survivor = getAttackers(gameData).get(0);
+    cache.put(
+        newKey(gameData),
+        rulesVersion,
+        new ProBattleResult(90, 12, true, List.of(survivor), List.of(), 2));
+  }
+
+  @Test
+  void theResultOfTheSameBattleOnACopyRefersToTheUnitsOfTheCopy() {
+    putAttackerWinning(3);
+    final GameData copy =
+        GameDataUtils.cloneGameData(gameData, GameDataManager.Options.forAiSimulation())
+            .orElseThrow();
+
+    final ProBattleResult result =
+        cache.get(newKey(copy), 3, getAttackers(copy), getDefenders(copy));
+
+    assertThat(result, is(notNullValue()));
+    assertThat(result.getWinPercentage(), is(90.0));
+    assertThat(result.getTuvSwing(), is(12.0));
+    assertThat(result.getAverageAttackersRemaining(), contains(getAttackers(copy).get(0)));
+    assertThat(result.getAverageDefendersRemaining(), is(empty()));
+  }
+
+  @Test
+  void aBattleWithUnitsInAnotherStateIsNotCached() {
+    putAttackerWinning(3);
+
+    getAttackers(gameData).get(0).setHits(1);
+
+    assertThat(
+        cache.get(newKey(gameData), 3, getAttackers(gameData), getDefenders(gameData)),
+        is(nullValue()));
+  }
+
+  @Test
+  void resultsAreOnlyReusedForTheSameVersionOfTheRules() {
+    putAttackerWinning(3);
+
+    assertThat(
+        cache.get(newKey(gameData), 4, getAttackers(gameData), getDefenders(gameData)),
+        is(nullValue()));
+
+    putAttackerWinning(4);
+    putAttackerWinning(3);
+
+    assertThat(
+        "Results of older rules are dropped",
+        cache.get(newKey(gameData), 3, getAttackers(gameData), getDefenders(gameData)),
+        is(nullValue()));
+    assertThat(cache.size(), is(1));
+  }
+}
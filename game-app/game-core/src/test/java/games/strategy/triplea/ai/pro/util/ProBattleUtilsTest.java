@@ -0,0 +1,82 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.aaGun;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.IntegerMap;
+
+class ProBattleUtilsTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final Territory germany = territory("Germany", gameData);
+
+  @Test
+  void theLanchesterRatioIsTheRatioOfPowerTimesHitPoints() {
+    // 3 infantry attacking at 1 against 1 infantry defending at 2
+    final List<Unit> attackers = infantry(gameData).create(3, russians(gameData));
+    final List<Unit> defenders = infantry(gameData).create(1, germans(gameData));
+
+    assertThat(ProBattleUtils.estimateLanchesterRatio(germany, attackers, defenders), is(4.5));
+  }
+
+  @Test
+  void theLanchesterRatioIsZeroIfTheAttackersCantHit() {
+    final List<Unit> attackers = aaGun(gameData).create(1, russians(gameData));
+    final List<Unit> defenders = infantry(gameData).create(1, germans(gameData));
+
+    assertThat(ProBattleUtils.estimateLanchesterRatio(germany, attackers, defenders), is(0.0));
+  }
+
+  @Test
+  void theLanchesterRatioIsInfiniteIfTheDefendersCantHit() {
+    final List<Unit> attackers = infantry(gameData).create(1, russians(gameData));
+    final List<Unit> defenders = aaGun(gameData).create(1, germans(gameData));
+
+    assertThat(
+        ProBattleUtils.estimateLanchesterRatio(germany, attackers, defenders),
+        is(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  void theWinnersLoseTheirCheapestUnitsByLanchestersSquareLaw() {
+    final List<Unit> infantry = infantry(gameData).create(4, russians(gameData));
+    final List<Unit> armour = armour(gameData).create(1, russians(gameData));
+    final List<Unit> winners = new ArrayList<>(armour);
+    winners.addAll(infantry);
+    final IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
+    unitValueMap.put(infantry(gameData), 3);
+    unitValueMap.put(armour(gameData), 5);
+
+    // at a ratio of 4 the winners keep sqrt(3 / 4) of their 5 hit points, so 1 is lost
+    final List<Unit> unitsRemaining =
+        ProBattleUtils.estimateUnitsRemaining(germany, winners, true, 4, unitValueMap);
+
+    assertThat(
+        unitsRemaining,
+        containsInAnyOrder(armour.get(0), infantry.get(1), infantry.get(2), infantry.get(3)));
+  }
+
+  @Test
+  void winnersThatCantBeHitLoseNothing() {
+    final List<Unit> winners = infantry(gameData).create(2, russians(gameData));
+
+    assertThat(
+        ProBattleUtils.estimateUnitsRemaining(
+            germany, winners, true, Double.POSITIVE_INFINITY, new IntegerMap<>()),
+        containsInAnyOrder(winners.toArray()));
+  }
+}
@@ -0,0 +1,163 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.AbstractProAi;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.CollectionUtils;
+
+class ProOddsCalculatorTest extends AbstractClientSettingTestCase {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final ProData proData = new ProData();
+
+  private void initializeProData() {
+    final AbstractProAi proAi = mock(AbstractProAi.class);
+    when(proAi.getGameData()).thenReturn(gameData);
+    final GamePlayer germans = germans(gameData);
+    when(proAi.getGamePlayer()).thenReturn(germans);
+    proData.initialize(proAi);
+  }
+
+  private static AggregateResults sampleWonByTheAttacker(final int runsWon) {
+    final AggregateResults sample = mock(AggregateResults.class);
+    when(sample.getAttackerWinPercent())
+        .thenReturn((double) runsWon / ProOddsCalculator.SAMPLE_RUN_COUNT);
+    return sample;
+  }
+
+  @Test
+  void aSampleSettlesTheBattleIfTheExpectedWinnerWonAllRuns() {
+    final int allRuns = ProOddsCalculator.SAMPLE_RUN_COUNT;
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(allRuns), true),
+        is(true));
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(0), false), is(true));
+  }
+
+  @Test
+  void aSampleDoesNotSettleTheBattleIfTheExpectedWinnerLostARun() {
+    final int allRunsButOne = ProOddsCalculator.SAMPLE_RUN_COUNT - 1;
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(allRunsButOne), true),
+        is(false));
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(1), false), is(false));
+  }
+
+  @Test
+  void aSampleDoesNotSettleTheBattleIfTheOtherSideWon() {
+    final int allRuns = ProOddsCalculator.SAMPLE_RUN_COUNT;
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(0), true), is(false));
+    assertThat(
+        ProOddsCalculator.isSettledBySample(sampleWonByTheAttacker(allRuns), false),
+        is(false));
+  }
+
+  @Test
+  void theEstimatedWinnerOfALopsidedBattleLosesItsCheapestUnitsByLanchestersSquareLaw() {
+    initializeProData();
+    final Territory germany = territory("Germany", gameData);
+    // 10 infantry attacking at 1 against 4 infantry defending at 2 is a ratio of 100 / 32, so the
+    // attackers keep sqrt(1 - 32 / 100) of their 10 hit points and 2 infantry are lost
+    final List<Unit> attackers = infantry(gameData).create(10, russians(gameData));
+    final List<Unit> defenders = infantry(gameData).create(4, germans(gameData));
+
+    final ProBattleResult result =
+        ProOddsCalculator.estimateBattleResult(proData, germany, attackers, defenders);
+
+    assertThat(result.getWinPercentage(), is(100.0));
+    assertThat(result.isHasLandUnitRemaining(), is(true));
+    assertThat(result.getAverageAttackersRemaining(), hasSize(8));
+    assertThat(result.getAverageDefendersRemaining(), is(empty()));
+    // 4 defending infantry lost against 2 attacking infantry lost, at 3 each
+    assertThat(result.getTuvSwing(), is(6.0));
+  }
+
+  @Test
+  void decisiveBattlesSimulatedBySampleAgreeWithFullSimulations() {
+    initializeProData();
+    final GamePlayer germans = germans(gameData);
+    final Territory karelia = territory("Karelia S.S.R.", gameData);
+    final List<Unit> strongAttackers = infantry(gameData).create(8, germans);
+    strongAttackers.addAll(armour(gameData).create(4, germans));
+    final List<Unit> weakAttackers = infantry(gameData).create(1, germans);
+    final List<Unit> strongDefenders = infantry(gameData).create(6, russians(gameData));
+    final List<Unit> weakDefenders = infantry(gameData).create(2, russians(gameData));
+    final ConcurrentBattleCalculator battleCalculator = new ConcurrentBattleCalculator(2);
+    battleCalculator.setGameData(gameData);
+    try {
+      final ProOddsCalculator calc = new ProOddsCalculator(battleCalculator);
+      assertAgreesWithFullSimulation(
+          calc, battleCalculator, karelia, strongAttackers, weakDefenders);
+      assertAgreesWithFullSimulation(
+          calc, battleCalculator, karelia, weakAttackers, strongDefenders);
+    } finally {
+      battleCalculator.setGameData(null);
+    }
+  }
+
+  private void assertAgreesWithFullSimulation(
+      final ProOddsCalculator calc,
+      final ConcurrentBattleCalculator battleCalculator,
+      final Territory t,
+      final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    final ProBattleResult result =
+        calc.calculateBattleResults(proData, t, attackingUnits, defendingUnits, List.of());
+    final AggregateResults full =
+        battleCalculator.calculate(
+            germans(gameData),
+            russians(gameData),
+            t,
+            attackingUnits,
+            defendingUnits,
+            List.of(),
+            TerritoryEffectHelper.getEffects(t),
+            false,
+            1000);
+    final double fullWinPercentage = full.getAttackerWinPercent() * 100;
+    final double fullTuvSwing =
+        full.getAverageTuvSwing(
+            germans(gameData),
+            CollectionUtils.getMatches(
+                attackingUnits, Matches.unitCanBeInBattle(true, !t.isWater(), 1, true)),
+            russians(gameData),
+            CollectionUtils.getMatches(
+                defendingUnits, Matches.unitCanBeInBattle(false, !t.isWater(), 1, true)),
+            gameData);
+
+    assertThat(
+        "The AI decides the same way",
+        result.getWinPercentage() >= proData.getWinPercentage(),
+        is(fullWinPercentage >= proData.getWinPercentage()));
+    assertThat(result.getWinPercentage(), is(closeTo(fullWinPercentage, 5)));
+    // within the value of an infantry
+    assertThat(result.getTuvSwing(), is(closeTo(fullTuvSwing, 3)));
+  }
+}
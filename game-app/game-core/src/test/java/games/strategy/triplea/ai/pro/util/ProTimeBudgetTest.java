@@ -0,0 +1,76 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ProTimeBudgetTest {
+  private final AtomicLong nanoTime = new AtomicLong(1000);
+
+  private void advance(final Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void battlesAreJudgedMoreCoarselyAsTheBudgetIsUsedUp() {
+    final ProTimeBudget timeBudget =
+        new ProTimeBudget("combat move", Duration.ofSeconds(10), nanoTime::get);
+
+    advance(Duration.ofSeconds(4));
+    assertThat(timeBudget.isRunningShort(), is(false));
+    assertThat(timeBudget.isExhausted(), is(false));
+
+    advance(Duration.ofSeconds(1));
+    assertThat(timeBudget.isRunningShort(), is(true));
+    assertThat(timeBudget.isExhausted(), is(false));
+
+    advance(Duration.ofSeconds(5));
+    assertThat(timeBudget.isRunningShort(), is(true));
+    assertThat(timeBudget.isExhausted(), is(true));
+  }
+
+  @Test
+  void zeroBudgetDoesNotLimitThePhase() {
+    final ProTimeBudget timeBudget = new ProTimeBudget("purchase", Duration.ZERO, nanoTime::get);
+
+    advance(Duration.ofHours(1));
+
+    assertThat(timeBudget.isRunningShort(), is(false));
+    assertThat(timeBudget.isExhausted(), is(false));
+  }
+
+  @Test
+  void summaryReportsWhereTheTimeWasSpent() {
+    final ProTimeBudget timeBudget =
+        new ProTimeBudget("combat move", Duration.ofSeconds(10), nanoTime::get);
+    timeBudget.recordBattleCalc(50, Duration.ofMillis(300).toNanos());
+    timeBudget.recordBattleCalc(ProTimeBudget.COARSE_RUN_COUNT, Duration.ofMillis(40).toNanos());
+    timeBudget.recordEstimatedBattle();
+    advance(Duration.ofMillis(1200));
+
+    assertThat(
+        timeBudget.getSummary(),
+        is(
+            "combat move took 1200 ms of a budget of 10000 ms, 340 ms in 2 battle simulations "
+                + "(1 coarse), 1 battles only estimated"));
+  }
+
+  @Test
+  void summaryReportsBattlesSettledBySampleSimulations() {
+    final ProTimeBudget timeBudget = new ProTimeBudget("purchase", Duration.ZERO, nanoTime::get);
+    timeBudget.recordBattleCalc(ProTimeBudget.COARSE_RUN_COUNT, Duration.ofMillis(20).toNanos());
+    timeBudget.recordSettledBySample();
+    timeBudget.recordBattleCalc(ProTimeBudget.COARSE_RUN_COUNT, Duration.ofMillis(20).toNanos());
+    timeBudget.recordBattleCalc(60, Duration.ofMillis(160).toNanos());
+    advance(Duration.ofMillis(500));
+
+    assertThat(
+        timeBudget.getSummary(),
+        is(
+            "purchase took 500 ms, 200 ms in 3 battle simulations (2 coarse, 1 settling the "
+                + "battle), 0 battles only estimated"));
+  }
+}
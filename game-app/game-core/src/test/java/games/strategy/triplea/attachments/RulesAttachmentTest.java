@@ -0,0 +1,110 @@
+package games.strategy.triplea.attachments;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.MutableProperty;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.delegate.IDelegateBridge;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RulesAttachmentTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+  private final GamePlayer germans = germans(gameData);
+  private final Territory germany = territory("Germany", gameData);
+  private final IDelegateBridge delegateBridge = mock(IDelegateBridge.class);
+
+  private RulesAttachment addCondition() {
+    final RulesAttachment condition =
+        new RulesAttachment("conditionAttachmentTest", germans, gameData);
+    germans.addAttachment(condition.getName(), condition);
+    return condition;
+  }
+
+  @BeforeEach
+  void setUp() {
+    when(delegateBridge.getData()).thenReturn(gameData);
+  }
+
+  private boolean isSatisfied(final RulesAttachment condition) {
+    return condition.isSatisfied(null, delegateBridge);
+  }
+
+  /** Verifies that the condition was not tested again, only the bridge's game data was compared. */
+  private void verifyResultReused() {
+    verify(delegateBridge, times(1)).getData();
+  }
+
+  @Test
+  void noConditionReadsTheBattleRecordsOfAMapWithoutBattleConditions()
+      throws MutableProperty.InvalidValueException {
+    addCondition().getPropertyOrThrow("players").setValue("Germans");
+
+    assertThat(RulesAttachment.isAnyConditionReadingBattleRecords(gameData), is(false));
+  }
+
+  @Test
+  void conditionsOnTheDestroyedTuvReadTheBattleRecords()
+      throws MutableProperty.InvalidValueException {
+    addCondition().getPropertyOrThrow("destroyedTUV").setValue("3:allRounds");
+
+    assertThat(RulesAttachment.isAnyConditionReadingBattleRecords(gameData), is(true));
+  }
+
+  @Test
+  void theResultOfAPresenceConditionIsReusedUntilTheUnitsMove()
+      throws MutableProperty.InvalidValueException {
+    final RulesAttachment condition = addCondition();
+    condition.getPropertyOrThrow("players").setValue("Germans");
+    condition.getPropertyOrThrow("directPresenceTerritories").setValue("Germany");
+    assertThat(isSatisfied(condition), is(true));
+
+    // the resources of the players are not an input of the condition
+    gameData.performChange(
+        ChangeFactory.changeResourcesChange(
+            germans, gameData.getResourceList().getResource(Constants.PUS), 10));
+    clearInvocations(delegateBridge);
+    assertThat(isSatisfied(condition), is(true));
+    verifyResultReused();
+
+    gameData.performChange(
+        ChangeFactory.moveUnits(
+            germany, territory("Eastern Europe", gameData), new ArrayList<>(germany.getUnits())));
+    assertThat(isSatisfied(condition), is(false));
+  }
+
+  @Test
+  void theResultOfAnOwnershipConditionIsReusedUntilTheOwnerChanges()
+      throws MutableProperty.InvalidValueException {
+    final RulesAttachment condition = addCondition();
+    condition.getPropertyOrThrow("players").setValue("Germans");
+    condition.getPropertyOrThrow("directOwnershipTerritories").setValue("Germany");
+    assertThat(isSatisfied(condition), is(true));
+
+    // the units are not an input of the condition
+    gameData.performChange(
+        ChangeFactory.moveUnits(
+            germany, territory("Eastern Europe", gameData), new ArrayList<>(germany.getUnits())));
+    clearInvocations(delegateBridge);
+    assertThat(isSatisfied(condition), is(true));
+    verifyResultReused();
+
+    gameData.performChange(ChangeFactory.changeOwner(germany, russians(gameData)));
+    assertThat(isSatisfied(condition), is(false));
+  }
+}
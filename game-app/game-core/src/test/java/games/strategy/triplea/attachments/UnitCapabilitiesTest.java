@@ -0,0 +1,56 @@
+package games.strategy.triplea.attachments;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.MutableProperty;
+import games.strategy.triplea.attachments.UnitCapabilities.Capability;
+import org.junit.jupiter.api.Test;
+
+class UnitCapabilitiesTest {
+  private final UnitAttachment attachment =
+      new UnitAttachment("Test attachment", null, mock(GameData.class));
+
+  @Test
+  void capabilitiesReflectTheAttachment() throws Exception {
+    attachment.setIsSea(true);
+    attachment.getPropertyOrThrow("transportCapacity").setValue("2");
+
+    final UnitCapabilities capabilities = attachment.getCapabilities();
+
+    assertThat(capabilities.has(Capability.SEA), is(true));
+    assertThat(capabilities.has(Capability.AIR), is(false));
+    assertThat(capabilities.has(Capability.TRANSPORT), is(true));
+    assertThat(capabilities.getTransportCapacity(), is(2));
+    assertThat(
+        capabilities.hasAll(UnitCapabilities.maskOf(Capability.SEA, Capability.TRANSPORT)),
+        is(true));
+    assertThat(
+        capabilities.hasNone(UnitCapabilities.maskOf(Capability.AIR, Capability.CARRIER)),
+        is(true));
+  }
+
+  @Test
+  void capabilitiesAreCompiledAgainAfterPropertyChange() throws Exception {
+    assertThat(attachment.getCapabilities().has(Capability.AIR), is(false));
+
+    final MutableProperty<?> isAir = attachment.getPropertyOrThrow("isAir");
+    isAir.setValue("true");
+    assertThat(attachment.getCapabilities().has(Capability.AIR), is(true));
+
+    isAir.resetValue();
+    assertThat(attachment.getCapabilities().has(Capability.AIR), is(false));
+  }
+
+  @Test
+  void capabilitiesAreCompiledAgainAfterSetterCall() {
+    assertThat(attachment.getCapabilities().has(Capability.MULTIPLE_HIT_POINTS), is(false));
+
+    attachment.setHitPoints(2);
+
+    assertThat(attachment.getCapabilities().has(Capability.MULTIPLE_HIT_POINTS), is(true));
+    assertThat(attachment.getCapabilities().getHitPoints(), is(2));
+  }
+}
@@ -6,12 +6,14 @@ import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
 import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.Test;
 class TransportTrackerTest {
   private final GameData gameData = TestMapGameData.REVISED.getGameData();
   private final Territory sz18 = territory("18 Sea Zone", gameData);
+  private final Territory sz19 = territory("19 Sea Zone", gameData);
   private final Unit transport = transport(gameData).create(americans(gameData));
   private final Unit tank = armour(gameData).create(americans(gameData));
 
@@ -47,4 +50,34 @@ class TransportTrackerTest {
     loadTankToTransport();
     assertThat(transport.isTransporting(sz18), is(true));
   }
+
+  @Test
+  void cargoMovesWithTransport() {
+    loadTankToTransport();
+
+    gameData.performChange(ChangeFactory.moveUnits(sz18, sz19, List.of(transport, tank)));
+
+    assertThat(transport.getTransporting(), is(List.of(tank)));
+    assertThat(transport.getTransporting(sz19), is(List.of(tank)));
+    assertThat(transport.getTransporting(sz18), is(empty()));
+  }
+
+  @Test
+  void cargoLeftBehindIsNotTransported() {
+    loadTankToTransport();
+
+    gameData.performChange(ChangeFactory.moveUnits(sz18, sz19, List.of(transport)));
+
+    assertThat(transport.isTransporting(), is(false));
+    assertThat(transport.getTransporting(sz18), is(List.of(tank)));
+  }
+
+  @Test
+  void unloadedUnitIsNoLongerTransported() {
+    loadTankToTransport();
+
+    gameData.performChange(ChangeFactory.unitPropertyChange(tank, null, Unit.TRANSPORTED_BY));
+
+    assertThat(transport.isTransporting(), is(false));
+  }
 }
@@ -1,6 +1,7 @@
 package games.strategy.triplea.odds.calculator;
 
 import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
 import static games.strategy.triplea.delegate.GameDataTestUtil.bomber;
 import static games.strategy.triplea.delegate.GameDataTestUtil.british;
 import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
@@ -10,13 +11,23 @@ import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
 import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
 import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.settings.AbstractClientSettingTestCase;
 import games.strategy.triplea.xml.TestMapGameData;
@@ -128,4 +139,127 @@ class BattleCalculatorTest extends AbstractClientSettingTestCase {
     assertEquals(1.0, results.getAttackerWinPercent());
     assertEquals(0.0, results.getDefenderWinPercent());
   }
+
+  @Test
+  void changesCanBeReplayedAfterCalculation() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final GamePlayer russians = russians(gameData);
+    final GamePlayer germans = germans(gameData);
+    final BattleCalculator calculator = new BattleCalculator(gameData);
+    calculator.calculate(
+        russians,
+        germans,
+        germany,
+        infantry(gameData).create(10, russians),
+        new ArrayList<>(germany.getUnits()),
+        List.of(),
+        TerritoryEffectHelper.getEffects(germany),
+        false,
+        10);
+
+    // fails if the units of the battle location are not restored after the calculation
+    final Change change = ChangeFactory.removeUnits(germany, germany.getUnits());
+    final GameStep step = gameData.getSequence().getStep();
+    assertDoesNotThrow(
+        () ->
+            calculator.update(
+                GameDataUtils.gameObjectsToBytes(change),
+                gameData.getSequence().getRound(),
+                step.getDisplayName(),
+                step.getPlayerId().getName()));
+  }
+
+  @Test
+  void aCopyBroughtUpToDateWithTheChangesOfTheGameMatchesANewCopy() {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final Territory karelia = territory("Karelia S.S.R.", gameData);
+    final Territory archangel = territory("Archangel", gameData);
+    final GamePlayer russians = russians(gameData);
+    final GamePlayer germans = germans(gameData);
+    final BattleCalculator updatedCopy = new BattleCalculator(gameData);
+    updatedCopy.calculate(
+        germans,
+        russians,
+        karelia,
+        infantry(gameData).create(10, germans),
+        new ArrayList<>(karelia.getUnits()),
+        List.of(),
+        TerritoryEffectHelper.getEffects(karelia),
+        false,
+        10);
+
+    // the russians retreat from Karelia, which the germans take
+    final Change change =
+        new CompositeChange(
+            ChangeFactory.moveUnits(karelia, archangel, new ArrayList<>(karelia.getUnits())),
+            ChangeFactory.changeOwner(karelia, germans),
+            ChangeFactory.addUnits(karelia, infantry(gameData).create(3, germans)));
+    gameData.performChange(change);
+    gameData.getSequence().next();
+    final GameStep step = gameData.getSequence().getStep();
+    updatedCopy.update(
+        GameDataUtils.gameObjectsToBytes(change),
+        gameData.getSequence().getRound(),
+        step.getDisplayName(),
+        step.getPlayerId().getName());
+    final BattleCalculator newCopy = new BattleCalculator(gameData);
+
+    for (final Territory territory : gameData.getMap().getTerritories()) {
+      final Territory updatedTerritory =
+          updatedCopy.getGameData().getMap().getTerritory(territory.getName());
+      final Territory newTerritory =
+          newCopy.getGameData().getMap().getTerritory(territory.getName());
+      assertThat(
+          territory.getName(),
+          updatedTerritory.getOwner().getName(),
+          is(newTerritory.getOwner().getName()));
+      assertThat(
+          territory.getName(),
+          updatedTerritory.getUnits().stream().map(Unit::getId).collect(toSet()),
+          is(newTerritory.getUnits().stream().map(Unit::getId).collect(toSet())));
+    }
+    assertThat(
+        updatedCopy.getGameData().getSequence().getStep().getName(), is(step.getName()));
+    assertThat(newCopy.getGameData().getSequence().getStep().getName(), is(step.getName()));
+    assertThat(updatedCopy.getUnitCount(), is(newCopy.getUnitCount()));
+
+    final List<Unit> attackingUnits = infantry(gameData).create(4, russians);
+    attackingUnits.addAll(armour(gameData).create(2, russians));
+    updatedCopy.setRandomSource(new PlainRandomSource(42));
+    newCopy.setRandomSource(new PlainRandomSource(42));
+    final AggregateResults updatedResults =
+        counterAttack(updatedCopy, russians, germans, karelia, attackingUnits);
+    final AggregateResults newResults =
+        counterAttack(newCopy, russians, germans, karelia, attackingUnits);
+    assertThat(updatedResults.getAttackerWinPercent(), is(newResults.getAttackerWinPercent()));
+    assertThat(updatedResults.getDrawPercent(), is(newResults.getDrawPercent()));
+    assertThat(
+        updatedResults.getAverageBattleRoundsFought(),
+        is(newResults.getAverageBattleRoundsFought()));
+    assertThat(
+        updatedResults.getAverageAttackingUnitsLeft(),
+        is(newResults.getAverageAttackingUnitsLeft()));
+    assertThat(
+        updatedResults.getAverageDefendingUnitsLeft(),
+        is(newResults.getAverageDefendingUnitsLeft()));
+  }
+
+  private static AggregateResults counterAttack(
+      final BattleCalculator calculator,
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final List<Unit> attackingUnits) {
+    return calculator.calculate(
+        attacker,
+        defender,
+        location,
+        attackingUnits,
+        new ArrayList<>(location.getUnits()),
+        List.of(),
+        TerritoryEffectHelper.getEffects(location),
+        false,
+        50);
+  }
 }
@@ -0,0 +1,81 @@
+package org.triplea.debug;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TracerTest {
+  private final AtomicLong nanoTime = new AtomicLong(5_000);
+  private final StringWriter out = new StringWriter();
+  private final Tracer tracer = new Tracer(out, nanoTime::get);
+
+  @Test
+  void spansAreWrittenWhenTheOutermostSpanCloses() {
+    try (Tracing.Span ignored = tracer.start("phase", "combat move")) {
+      nanoTime.addAndGet(2_000);
+      try (Tracing.Span ignored2 =
+          tracer
+              .start("battle", "battle calc")
+              .withArg("territory", "Germany")
+              .withArg("runs", 8)) {
+        nanoTime.addAndGet(3_000);
+      }
+      assertThat(out.toString(), not(containsString("battle calc")));
+    }
+
+    assertThat(
+        out.toString(),
+        containsString(
+            "{\"name\":\"battle calc\",\"cat\":\"battle\",\"ph\":\"X\",\"ts\":2,\"dur\":3,"
+                + "\"pid\":1,\"tid\":"
+                + Thread.currentThread().getId()
+                + ",\"args\":{\"territory\":\"Germany\",\"runs\":8}}"));
+    assertThat(
+        out.toString(),
+        containsString(
+            "{\"name\":\"combat move\",\"cat\":\"phase\",\"ph\":\"X\",\"ts\":0,\"dur\":5,"));
+  }
+
+  @Test
+  void spansAreWrittenWhenTheBufferIsFullBeforeTheOutermostSpanCloses() {
+    try (Tracing.Span ignored = tracer.start("phase", "combat move")) {
+      for (int i = 0; i < Tracer.MAX_BUFFERED_EVENTS; i++) {
+        tracer.start("battle", "battle calc " + i).close();
+      }
+
+      assertThat(out.toString(), containsString("\"name\":\"battle calc 0\""));
+      assertThat(out.toString(), not(containsString("\"name\":\"combat move\"")));
+    }
+
+    assertThat(out.toString(), containsString("\"name\":\"combat move\""));
+  }
+
+  @Test
+  void nestedSpansAreOnlyRecordedInsideAnotherSpan() {
+    try (Tracing.Span ignored = tracer.startNested("route", "outside")) {
+      assertThat(ignored, is(Tracing.NO_OP_SPAN));
+    }
+    try (Tracing.Span ignored = tracer.start("phase", "purchase");
+        Tracing.Span ignored2 = tracer.startNested("route", "inside")) {
+      assertThat(ignored2, not(is(Tracing.NO_OP_SPAN)));
+    }
+    tracer.close();
+
+    assertThat(out.toString(), not(containsString("outside")));
+    assertThat(out.toString(), containsString("\"name\":\"inside\""));
+  }
+
+  @Test
+  void namesAreEscaped() {
+    try (Tracing.Span ignored = tracer.start("phase", "\"quoted\" \\ name")) {
+      nanoTime.addAndGet(1_000);
+    }
+
+    assertThat(out.toString(), containsString("\"name\":\"\\\"quoted\\\" \\\\ name\""));
+  }
+}
@@ -406,10 +406,8 @@ public final class TripleAFrame extends JFrame implements QuitHandler {
             return;
           }
           if (pane.getComponentAt(sel).equals(editPanel)) {
-            final GamePlayer player1;
-            try (GameData.Unlocker ignored = data.acquireReadLock()) {
-              player1 = data.getSequence().getStep().getPlayerId();
-            }
+            final GamePlayer player1 =
+                data.readOptimistically(() -> data.getSequence().getStep().getPlayerId());
             actionButtons.getCurrent().ifPresent(actionPanel -> actionPanel.setActive(false));
             editPanel.display(player1);
           } else {
@@ -1602,18 +1600,16 @@ public final class TripleAFrame extends JFrame implements QuitHandler {
     if (uiContext.isShutDown()) {
       return;
     }
-    final int round;
-    final String stepDisplayName;
-    final GamePlayer player;
-    try (GameData.Unlocker ignored = data.acquireReadLock()) {
-      round = data.getSequence().getRound();
-      final GameStep step = data.getSequence().getStep();
-      if (step == null) {
-        return;
-      }
-      stepDisplayName = step.getDisplayName();
-      player = step.getPlayerId();
+    final Tuple<Integer, GameStep> roundAndStep =
+        data.readOptimistically(
+            () -> Tuple.of(data.getSequence().getRound(), data.getSequence().getStep()));
+    final int round = roundAndStep.getFirst();
+    final GameStep step = roundAndStep.getSecond();
+    if (step == null) {
+      return;
     }
+    final String stepDisplayName = step.getDisplayName();
+    final GamePlayer player = step.getPlayerId();
 
     final boolean isPlaying = localPlayers.playing(player);
     if (player != null && !player.isNull()) {
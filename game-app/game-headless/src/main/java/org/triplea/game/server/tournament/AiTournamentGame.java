@@ -0,0 +1,142 @@
+package org.triplea.game.server.tournament;
+
+import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.gameparser.GameParser;
+import games.strategy.engine.framework.HeadlessAutoSaveFileUtils;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.framework.startup.launcher.LaunchAction;
+import games.strategy.engine.framework.startup.ui.PlayerTypes;
+import games.strategy.engine.player.Player;
+import games.strategy.net.LocalNoOpMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.net.websocket.ClientNetworkBridge;
+import games.strategy.triplea.ai.pro.ProAi;
+import games.strategy.triplea.delegate.EndRoundDelegate;
+import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.triplea.game.server.HeadlessLaunchAction;
+
+/**
+ * One all-AI game of a tournament, played to its end or to the round limit on the calling thread.
+ * The game has its own random source and its Pro AIs share a battle calculator of their own, so
+ * that several games can be played at the same time.
+ */
+@AllArgsConstructor
+class AiTournamentGame {
+  private final int number;
+  private final Path gameFile;
+  /** The AI of each player, by player name. Players that aren't listed are played by the Pro AI. */
+  private final Map<String, PlayerTypes.Type> playerTypes;
+  private final int maxRounds;
+  private final int calculatorThreads;
+  private final Path autoSaveFolder;
+
+  /** The outcome of a tournament game. */
+  @Value
+  static class Result {
+    int number;
+    Duration duration;
+    int rounds;
+    /** The names of the winners, empty if the round limit was reached without a winner. */
+    Collection<String> winners;
+  }
+
+  Result play() {
+    final long startNanos = System.nanoTime();
+    final GameData data =
+        GameParser.parse(gameFile)
+            .orElseThrow(() -> new IllegalStateException("Failed to parse game: " + gameFile));
+    final ConcurrentBattleCalculator calculator = new ConcurrentBattleCalculator(calculatorThreads);
+    final Set<Player> players =
+        data.getPlayerList().getPlayers().stream()
+            .map(player -> newPlayer(player.getName(), calculator))
+            .collect(Collectors.toSet());
+    final LaunchAction launchAction = new TournamentLaunchAction(autoSaveFolder);
+    final ServerGame game =
+        new ServerGame(
+            data,
+            players,
+            new HashMap<>(),
+            new Messengers(new LocalNoOpMessenger()),
+            ClientNetworkBridge.NO_OP_SENDER,
+            launchAction);
+    game.setDelegateAutosavesEnabled(false);
+    game.setStopGameOnDelegateExecutionStop(true);
+    data.getGameLoader().startGame(game, players, launchAction, null);
+    try {
+      while (!game.isGameOver() && data.getSequence().getRound() <= maxRounds) {
+        game.runNextStep();
+      }
+    } finally {
+      if (!game.isGameOver()) {
+        game.stopGame();
+      }
+    }
+    return new Result(
+        number,
+        Duration.ofNanos(System.nanoTime() - startNanos),
+        data.getSequence().getRound(),
+        getWinners(data));
+  }
+
+  private Player newPlayer(final String name, final ConcurrentBattleCalculator calculator) {
+    final PlayerTypes.Type playerType = playerTypes.getOrDefault(name, PlayerTypes.PRO_AI);
+    // unless given a calculator, the Pro AIs of all games would share one
+    return playerType.equals(PlayerTypes.PRO_AI)
+        ? new ProAi(name, playerType.getLabel(), calculator)
+        : playerType.newPlayerWithName(name);
+  }
+
+  /** Returns the names of the winners of the game in order, empty if nobody has won yet. */
+  @VisibleForTesting
+  static Collection<String> getWinners(final GameData data) {
+    final EndRoundDelegate endRoundDelegate = (EndRoundDelegate) data.getDelegate("endRound");
+    final Collection<GamePlayer> winners =
+        endRoundDelegate == null ? null : endRoundDelegate.getWinners();
+    return winners == null
+        ? List.of()
+        : winners.stream().map(GamePlayer::getName).sorted().collect(Collectors.toList());
+  }
+
+  /** Launches a tournament game, whose round autosaves go to a folder of its own. */
+  private static class TournamentLaunchAction extends HeadlessLaunchAction {
+    private final Path autoSaveFolder;
+
+    TournamentLaunchAction(final Path autoSaveFolder) {
+      // there is no game server to hand the game to, it is played by the tournament runner
+      super(null);
+      this.autoSaveFolder = autoSaveFolder;
+    }
+
+    @Override
+    public HeadlessAutoSaveFileUtils getAutoSaveFileUtils() {
+      return new HeadlessAutoSaveFileUtils() {
+        @Override
+        public Path getOddRoundAutoSaveFile() {
+          return autoSaveFolder.resolve(super.getOddRoundAutoSaveFile().getFileName());
+        }
+
+        @Override
+        public Path getEvenRoundAutoSaveFile() {
+          return autoSaveFolder.resolve(super.getEvenRoundAutoSaveFile().getFileName());
+        }
+
+        @Override
+        public Path getHeadlessAutoSaveFile() {
+          return autoSaveFolder.resolve(super.getHeadlessAutoSaveFile().getFileName());
+        }
+      };
+    }
+  }
+}
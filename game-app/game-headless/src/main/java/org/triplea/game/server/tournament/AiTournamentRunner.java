@@ -0,0 +1,212 @@
+package org.triplea.game.server.tournament;
+
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import games.strategy.engine.framework.ArgParser;
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.startup.ui.PlayerTypes;
+import games.strategy.triplea.settings.ClientSetting;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.prefs.Preferences;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.util.ExitStatus;
+
+/**
+ * Plays a tournament of all-AI games of one map, as many at the same time as there are processors
+ * by default, and writes the duration, the number of rounds and the winners of each game to a CSV
+ * file. The tournament serves to compare the strength of the AIs as well as to benchmark the
+ * throughput of the whole game engine.
+ *
+ * <p>Arguments are given as "-Pkey=value":
+ *
+ * <ul>
+ *   <li>{@value games.strategy.engine.framework.CliProperties#TRIPLEA_GAME}: the game XML file
+ *   <li>{@value #GAMES}: the number of games, 10 by default
+ *   <li>{@value #PARALLEL_GAMES}: the number of games played at the same time
+ *   <li>{@value #MAX_ROUNDS}: the round after which a game without a winner is stopped
+ *   <li>{@value #PLAYERS}: the AI of each player, e.g. "Germans=Fast (AI),Russians=Easy (AI)". The
+ *       players that aren't listed are played by the Hard (AI)
+ *   <li>{@value #RESULTS}: the CSV file to write, the round autosaves of each game are written next
+ *       to it
+ *   <li>{@value org.triplea.debug.Tracing#TRACE_FILE}: optionally, a file to trace where the time
+ *       of the AIs' turns goes
+ * </ul>
+ */
+@Slf4j
+public final class AiTournamentRunner {
+  static final String GAMES = "triplea.tournament.games";
+  static final String PARALLEL_GAMES = "triplea.tournament.parallel.games";
+  static final String MAX_ROUNDS = "triplea.tournament.max.rounds";
+  static final String PLAYERS = "triplea.tournament.players";
+  static final String RESULTS = "triplea.tournament.results";
+
+  private AiTournamentRunner() {}
+
+  /**
+   * Plays the tournament given by the arguments and exits once all its games are over, with a
+   * failure status if any game failed.
+   */
+  public static void main(final String[] args) {
+    // keep the settings of the tournament, e.g. no AI pauses, apart from the user's settings
+    ClientSetting.setPreferences(Preferences.userNodeForPackage(AiTournamentRunner.class));
+    ClientSetting.aiMovePauseDuration.setValue(0);
+    ClientSetting.aiCombatStepPauseDuration.setValue(0);
+    System.setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
+    ArgParser.handleCommandLineArgs(args);
+
+    final String gameFile = System.getProperty(TRIPLEA_GAME, "");
+    if (gameFile.isEmpty() || !Files.exists(Path.of(gameFile))) {
+      log.error("Invalid or missing argument: " + TRIPLEA_GAME + " must be a game XML file");
+      ExitStatus.FAILURE.exit();
+    }
+    final int processors = Runtime.getRuntime().availableProcessors();
+    final int gameCount = Integer.getInteger(GAMES, 10);
+    final int parallelGames = Math.min(gameCount, Integer.getInteger(PARALLEL_GAMES, processors));
+    final Path results = Path.of(System.getProperty(RESULTS, "tournament-results.csv"));
+    try {
+      final int failedGames =
+          play(
+              Path.of(gameFile),
+              gameCount,
+              parallelGames,
+              Integer.getInteger(MAX_ROUNDS, 100),
+              parsePlayerTypes(System.getProperty(PLAYERS, "")),
+              results);
+      if (failedGames > 0) {
+        log.error(failedGames + " games of the tournament failed or weren't played");
+        ExitStatus.FAILURE.exit();
+      }
+    } catch (final IOException e) {
+      log.error("Failed to write the tournament results to " + results.toAbsolutePath(), e);
+      ExitStatus.FAILURE.exit();
+    }
+    ExitStatus.SUCCESS.exit();
+  }
+
+  private static Map<String, PlayerTypes.Type> parsePlayerTypes(final String players) {
+    final PlayerTypes playerTypes = new PlayerTypes(PlayerTypes.getBuiltInPlayerTypes());
+    final Map<String, PlayerTypes.Type> playerTypesByName = new TreeMap<>();
+    Splitter.on(',')
+        .trimResults()
+        .omitEmptyStrings()
+        .withKeyValueSeparator('=')
+        .split(players)
+        .forEach((name, label) -> playerTypesByName.put(name, playerTypes.fromLabel(label)));
+    return playerTypesByName;
+  }
+
+  /** Plays the tournament and returns the number of games that failed or weren't played. */
+  private static int play(
+      final Path gameFile,
+      final int gameCount,
+      final int parallelGames,
+      final int maxRounds,
+      final Map<String, PlayerTypes.Type> playerTypes,
+      final Path results)
+      throws IOException {
+    // the games use the processors, their battle calculators share what is left
+    final int calculatorThreads =
+        Math.max(1, Runtime.getRuntime().availableProcessors() / parallelGames);
+    final Path autoSaveFolder = results.toAbsolutePath().resolveSibling("tournament-autosaves");
+    log.info(
+        "Playing {} games of {}, {} at the same time, players: {}",
+        gameCount,
+        gameFile,
+        parallelGames,
+        playerTypes.isEmpty() ? "all Hard (AI)" : playerTypes);
+
+    final long startNanos = System.nanoTime();
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelGames);
+    final List<Future<AiTournamentGame.Result>> games = new ArrayList<>();
+    for (int number = 1; number <= gameCount; number++) {
+      final AiTournamentGame game =
+          new AiTournamentGame(
+              number,
+              gameFile,
+              playerTypes,
+              maxRounds,
+              calculatorThreads,
+              autoSaveFolder.resolve("game-" + number));
+      games.add(executor.submit(game::play));
+    }
+    executor.shutdown();
+
+    final Map<String, Integer> winsByPlayer = new TreeMap<>();
+    final int failedGames;
+    try {
+      failedGames = writeResults(games, results, winsByPlayer);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+      return gameCount;
+    }
+
+    final Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+    log.info(
+        "Played {} games in {} s ({} games per hour), {} failed, wins: {}, results: {}",
+        gameCount,
+        duration.toSeconds(),
+        String.format(Locale.ROOT, "%.1f", gameCount * 3600.0 / Math.max(1, duration.toSeconds())),
+        failedGames,
+        winsByPlayer,
+        results.toAbsolutePath());
+    return failedGames;
+  }
+
+  /**
+   * Writes the result of each game to the CSV file as the games end, in the order they were started
+   * in, and counts the wins of each player.
+   *
+   * @return The number of games that failed.
+   */
+  @VisibleForTesting
+  static int writeResults(
+      final List<Future<AiTournamentGame.Result>> games,
+      final Path results,
+      final Map<String, Integer> winsByPlayer)
+      throws IOException, InterruptedException {
+    int failedGames = 0;
+    try (BufferedWriter writer = Files.newBufferedWriter(results)) {
+      writer.write("game,seconds,rounds,winners,error");
+      writer.newLine();
+      for (int i = 0; i < games.size(); i++) {
+        String line;
+        try {
+          final AiTournamentGame.Result result = games.get(i).get();
+          result.getWinners().forEach(winner -> winsByPlayer.merge(winner, 1, Integer::sum));
+          line =
+              String.format(
+                  Locale.ROOT,
+                  "%d,%.1f,%d,%s,",
+                  result.getNumber(),
+                  result.getDuration().toMillis() / 1000.0,
+                  result.getRounds(),
+                  String.join(";", result.getWinners()));
+        } catch (final ExecutionException e) {
+          log.error("Game " + (i + 1) + " failed", e.getCause());
+          failedGames++;
+          line = String.format("%d,,,,\"%s\"", i + 1, e.getCause().toString().replace('"', '\''));
+        }
+        writer.write(line);
+        writer.newLine();
+        writer.flush();
+      }
+    }
+    return failedGames;
+  }
+}
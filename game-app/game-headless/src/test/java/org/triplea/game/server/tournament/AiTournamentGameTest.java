@@ -0,0 +1,63 @@
+package org.triplea.game.server.tournament;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.triplea.delegate.EndRoundDelegate;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AiTournamentGameTest {
+  private final GameData data = mock(GameData.class);
+
+  private static GamePlayer newPlayer(final String name) {
+    final GamePlayer player = mock(GamePlayer.class);
+    when(player.getName()).thenReturn(name);
+    return player;
+  }
+
+  @Test
+  void theWinnersAreTheWinnersOfTheEndRoundDelegateInOrder() {
+    final EndRoundDelegate endRoundDelegate = mock(EndRoundDelegate.class);
+    final GamePlayer russians = newPlayer("Russians");
+    final GamePlayer americans = newPlayer("Americans");
+    when(endRoundDelegate.getWinners()).thenReturn(List.of(russians, americans));
+    when(data.getDelegate("endRound")).thenReturn(endRoundDelegate);
+
+    assertThat(AiTournamentGame.getWinners(data), contains("Americans", "Russians"));
+  }
+
+  @Test
+  void thereAreNoWinnersBeforeTheGameIsOver() {
+    final EndRoundDelegate endRoundDelegate = mock(EndRoundDelegate.class);
+    when(data.getDelegate("endRound")).thenReturn(endRoundDelegate);
+
+    assertThat(AiTournamentGame.getWinners(data), is(empty()));
+  }
+
+  @Test
+  void thereAreNoWinnersOfAGameWithoutEndRoundDelegate() {
+    assertThat(AiTournamentGame.getWinners(data), is(empty()));
+  }
+
+  @Test
+  void aGameOfAFileThatIsNotAGameFails(@TempDir final Path tempDir) throws IOException {
+    final Path gameFile = Files.writeString(tempDir.resolve("game.xml"), "not a game");
+    final AiTournamentGame game =
+        new AiTournamentGame(1, gameFile, Map.of(), 10, 1, tempDir.resolve("autosaves"));
+
+    assertThrows(IllegalStateException.class, game::play);
+  }
+}
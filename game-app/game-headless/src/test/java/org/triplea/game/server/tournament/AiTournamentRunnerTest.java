@@ -0,0 +1,70 @@
+package org.triplea.game.server.tournament;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AiTournamentRunnerTest {
+  @TempDir Path tempDir;
+
+  private static Future<AiTournamentGame.Result> won(final int number, final String... winners) {
+    return CompletableFuture.completedFuture(
+        new AiTournamentGame.Result(number, Duration.ofMillis(90_500), 7, List.of(winners)));
+  }
+
+  @Test
+  void theResultsOfAllGamesAreWrittenInOrder() throws IOException, InterruptedException {
+    final Path results = tempDir.resolve("results.csv");
+    final Map<String, Integer> winsByPlayer = new TreeMap<>();
+
+    final int failedGames =
+        AiTournamentRunner.writeResults(
+            List.of(won(1, "Germans", "Japanese"), won(2, "Russians"), won(3, "Germans")),
+            results,
+            winsByPlayer);
+
+    assertThat(failedGames, is(0));
+    assertThat(
+        Files.readAllLines(results),
+        contains(
+            "game,seconds,rounds,winners,error",
+            "1,90.5,7,Germans;Japanese,",
+            "2,90.5,7,Russians,",
+            "3,90.5,7,Germans,"));
+    assertThat(winsByPlayer, is(Map.of("Germans", 2, "Japanese", 1, "Russians", 1)));
+  }
+
+  @Test
+  void failedGamesAreCountedAndWrittenWithTheirError() throws IOException, InterruptedException {
+    final Path results = tempDir.resolve("results.csv");
+
+    final int failedGames =
+        AiTournamentRunner.writeResults(
+            List.of(
+                won(1, "Germans"),
+                CompletableFuture.failedFuture(
+                    new IllegalStateException("Failed to parse game: \"game.xml\""))),
+            results,
+            new TreeMap<>());
+
+    assertThat(failedGames, is(1));
+    assertThat(
+        Files.readAllLines(results),
+        contains(
+            "game,seconds,rounds,winners,error",
+            "1,90.5,7,Germans,",
+            "2,,,,\"java.lang.IllegalStateException: Failed to parse game: 'game.xml'\""));
+  }
+}
@@ -7,6 +7,7 @@ import com.github.benmanes.caffeine.cache.Scheduler;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import lombok.Builder;
 
@@ -24,6 +25,7 @@ public class ExpiringAfterWriteTtlCache<IdT, ValueT> implements TtlCache<IdT, Va
 
   private final Cache<IdT, ValueT> cache;
   private final BiConsumer<IdT, ValueT> removalListener;
+  private final AtomicLong expiredCount = new AtomicLong();
 
   @Builder
   public ExpiringAfterWriteTtlCache(
@@ -34,6 +36,9 @@ public class ExpiringAfterWriteTtlCache<IdT, ValueT> implements TtlCache<IdT, Va
             .scheduler(Scheduler.systemScheduler())
             .removalListener(
                 (IdT key, ValueT value, RemovalCause cause) -> {
+                  if (cause == RemovalCause.EXPIRED) {
+                    expiredCount.incrementAndGet();
+                  }
                   if (cause == RemovalCause.EXPIRED || cause == RemovalCause.EXPLICIT) {
                     removalListener.accept(key, value);
                   }
@@ -43,16 +48,13 @@ public class ExpiringAfterWriteTtlCache<IdT, ValueT> implements TtlCache<IdT, Va
     this.removalListener = removalListener;
   }
 
+  /**
+   * Re-writes an existing entry in place, which restarts its TTL. The check for presence and the
+   * re-write are one atomic operation, a concurrent 'invalidate' can not be undone by a refresh.
+   */
   @Override
   public boolean refresh(final IdT id) {
-    final Optional<ValueT> value = get(id);
-
-    if (value.isPresent()) {
-      put(id, value.get());
-      return true;
-    }
-
-    return false;
+    return cache.asMap().computeIfPresent(id, (key, value) -> value) != null;
   }
 
   @Override
@@ -77,6 +79,16 @@ public class ExpiringAfterWriteTtlCache<IdT, ValueT> implements TtlCache<IdT, Va
     return Optional.ofNullable(cache.asMap().replace(id, newValue));
   }
 
+  /** Returns the approximate number of entries currently in the cache. */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  /** Returns the number of entries that have been removed because their TTL expired. */
+  public long getExpiredCount() {
+    return expiredCount.get();
+  }
+
   @Override
   public Map<IdT, ValueT> asMap() {
     return Map.copyOf(cache.asMap());
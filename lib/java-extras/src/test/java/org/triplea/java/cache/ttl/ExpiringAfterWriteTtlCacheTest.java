@@ -47,6 +47,15 @@ class ExpiringAfterWriteTtlCacheTest {
       assertThat(realCache.get("DNE"), isEmpty());
     }
 
+    @Test
+    void sizeCountsEntries() {
+      realCache.put("id", 0);
+      realCache.put("id2", 0);
+
+      assertThat(realCache.size(), is(2L));
+      assertThat(realCache.getExpiredCount(), is(0L));
+    }
+
     @Test
     void putCanBeUsedToReplace() {
       realCache.put("id", 0);
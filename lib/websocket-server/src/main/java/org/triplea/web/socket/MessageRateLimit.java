@@ -0,0 +1,20 @@
+package org.triplea.web.socket;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A token-bucket rate limit: up to {@code burst} messages can be sent at once, after which messages
+ * are allowed at a sustained rate of {@code perMinute}.
+ */
+@Value
+@Builder
+public class MessageRateLimit {
+  int burst;
+  int perMinute;
+
+  /** Returns a limit with burst and sustained rate multiplied by a given factor. */
+  public MessageRateLimit times(final int factor) {
+    return new MessageRateLimit(burst * factor, perMinute * factor);
+  }
+}
@@ -0,0 +1,81 @@
+package org.triplea.web.socket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.Value;
+
+/**
+ * Applies per message type rate limits to received messages. Each limited message type has a token
+ * bucket per session and a token bucket per IP address, a message is allowed only if both buckets
+ * have a token. The per IP limit stops a client from getting around the session limit by opening
+ * more connections.
+ *
+ * <p>Buckets of idle senders are evicted, a new bucket starts full.
+ */
+class MessageRateLimiter {
+  private static final Duration IDLE_BUCKET_EXPIRY = Duration.ofMinutes(10);
+
+  @Value
+  private static class Limits {
+    MessageRateLimit perSession;
+    MessageRateLimit perIp;
+  }
+
+  /** Identifies a bucket, 'owner' is either a session id or an IP address. */
+  @Value
+  private static class BucketKey {
+    Object owner;
+    String messageTypeId;
+  }
+
+  private final Map<String, Limits> limitsByMessageTypeId = new ConcurrentHashMap<>();
+  private final Cache<BucketKey, TokenBucket> buckets =
+      Caffeine.newBuilder().expireAfterAccess(IDLE_BUCKET_EXPIRY).build();
+  private final LongSupplier nanoClock;
+
+  MessageRateLimiter() {
+    this(System::nanoTime);
+  }
+
+  @VisibleForTesting
+  MessageRateLimiter(final LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  void setLimit(
+      final String messageTypeId,
+      final MessageRateLimit perSession,
+      final MessageRateLimit perIp) {
+    limitsByMessageTypeId.put(messageTypeId, new Limits(perSession, perIp));
+  }
+
+  /**
+   * Takes a token for a message from a given session.
+   *
+   * @return False if the message should be dropped, true if the message is allowed or if its type
+   *     has no rate limit.
+   */
+  boolean tryAcquire(final WebSocketSession session, final String messageTypeId) {
+    final Limits limits = limitsByMessageTypeId.get(messageTypeId);
+    if (limits == null) {
+      return true;
+    }
+
+    final long now = nanoClock.getAsLong();
+    return bucket(session.getId(), messageTypeId, limits.perSession, now).tryConsume(now)
+        && bucket(session.getRemoteAddress(), messageTypeId, limits.perIp, now).tryConsume(now);
+  }
+
+  private TokenBucket bucket(
+      final Object owner,
+      final String messageTypeId,
+      final MessageRateLimit limit,
+      final long now) {
+    return buckets.get(new BucketKey(owner, messageTypeId), key -> new TokenBucket(limit, now));
+  }
+}
@@ -0,0 +1,31 @@
+package org.triplea.web.socket;
+
+import java.util.concurrent.TimeUnit;
+
+/** A token bucket that refills continuously, one token is consumed per message. */
+class TokenBucket {
+  private final double capacity;
+  private final double tokensPerNano;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  TokenBucket(final MessageRateLimit limit, final long nowNanos) {
+    capacity = limit.getBurst();
+    tokensPerNano = limit.getPerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+    tokens = capacity;
+    lastRefillNanos = nowNanos;
+  }
+
+  /** Takes a token if one is available, returns false if the bucket is empty. */
+  synchronized boolean tryConsume(final long nowNanos) {
+    tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+    lastRefillNanos = nowNanos;
+
+    if (tokens >= 1) {
+      tokens -= 1;
+      return true;
+    }
+    return false;
+  }
+}
@@ -1,7 +1,11 @@
 package org.triplea.web.socket;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,8 +14,6 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.http.client.web.socket.MessageEnvelope;
@@ -19,7 +21,25 @@ import org.triplea.http.client.web.socket.messages.MessageType;
 import org.triplea.http.client.web.socket.messages.WebSocketMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
 
-@AllArgsConstructor(access = AccessLevel.PACKAGE, onConstructor_ = @VisibleForTesting)
+/**
+ * Dispatches received websocket messages to listeners and sends or broadcasts messages to
+ * connected sessions.
+ *
+ * <p>Metrics are recorded to a {@code MetricRegistry} under the messaging bus name:
+ *
+ * <ul>
+ *   <li>{@code <name>.messages.<messageTypeId>}: rate and listener processing time of received
+ *       messages, per message type. Messages with no matching listener are counted under
+ *       'unrecognized'.
+ *   <li>{@code <name>.broadcast}: rate and time to dispatch a broadcast to all sessions.
+ *   <li>{@code <name>.broadcast-fan-out}: number of sessions each broadcast is sent to.
+ *   <li>{@code <name>.sessions}: number of currently tracked sessions.
+ *   <li>{@code <name>.throttled.<messageTypeId>}: rate of messages dropped by rate limiting.
+ * </ul>
+ *
+ * <p>Message types can be rate limited with {@code limitMessageRate}, messages over the limit are
+ * dropped before any listener is invoked.
+ */
 @Slf4j
 public class WebSocketMessagingBus {
   public static final String MESSAGING_BUS_KEY = "messaging.bus";
@@ -28,9 +48,16 @@ public class WebSocketMessagingBus {
   @Nonnull private final MessageSender messageSender;
   @Nonnull private final SessionSet sessionSet;
 
+  @Nonnull private final MetricRegistry metricRegistry;
+  @Nonnull private final String metricsName;
+
   private final List<BiConsumer<WebSocketMessagingBus, WebSocketSession>> sessionClosedListeners =
       new ArrayList<>();
 
+  private final MessageRateLimiter messageRateLimiter = new MessageRateLimiter();
+  private final List<BiConsumer<WebSocketSession, MessageType<?>>> throttledMessageListeners =
+      new ArrayList<>();
+
   @Value
   private static class MessageListener<T extends WebSocketMessage> {
     MessageType<T> messageType;
@@ -43,9 +70,41 @@ public class WebSocketMessagingBus {
   private final List<Consumer<MessageEnvelope>> anyMessageListeners = new ArrayList<>();
 
   public WebSocketMessagingBus() {
+    this(new MetricRegistry(), "websocket");
+  }
+
+  /**
+   * Creates a messaging bus that records metrics to a given registry.
+   *
+   * @param metricRegistry Registry to receive metrics, eg: the admin metrics of a server.
+   * @param metricsName Prefix of all metric names, should be unique per messaging bus.
+   */
+  public WebSocketMessagingBus(final MetricRegistry metricRegistry, final String metricsName) {
     messageSender = new MessageSender();
     messageBroadcaster = new MessageBroadcaster(messageSender);
     sessionSet = new SessionSet();
+    this.metricRegistry = metricRegistry;
+    this.metricsName = metricsName;
+    registerSessionGauge();
+  }
+
+  @VisibleForTesting
+  WebSocketMessagingBus(
+      final MessageBroadcaster messageBroadcaster,
+      final MessageSender messageSender,
+      final SessionSet sessionSet) {
+    this.messageBroadcaster = messageBroadcaster;
+    this.messageSender = messageSender;
+    this.sessionSet = sessionSet;
+    metricRegistry = new MetricRegistry();
+    metricsName = "websocket";
+    registerSessionGauge();
+  }
+
+  private void registerSessionGauge() {
+    metricRegistry.gauge(
+        MetricRegistry.name(metricsName, "sessions"),
+        () -> (Gauge<Integer>) () -> sessionSet.getSessions().size());
   }
 
   public <X extends WebSocketMessage> void sendResponse(
@@ -58,7 +117,14 @@ public class WebSocketMessagingBus {
   }
 
   public void broadcastMessage(final MessageEnvelope messageEnvelope) {
-    messageBroadcaster.accept(sessionSet.getSessions(), messageEnvelope);
+    final Collection<WebSocketSession> sessions = sessionSet.getSessions();
+    metricRegistry
+        .histogram(MetricRegistry.name(metricsName, "broadcast-fan-out"))
+        .update(sessions.size());
+    try (Timer.Context ignored =
+        metricRegistry.timer(MetricRegistry.name(metricsName, "broadcast")).time()) {
+      messageBroadcaster.accept(sessions, messageEnvelope);
+    }
   }
 
   /**
@@ -73,6 +139,30 @@ public class WebSocketMessagingBus {
     messageListeners.add(new MessageListener<>(type, listener));
   }
 
+  /**
+   * Rate limits received messages of a given type. Messages over the limit are dropped and
+   * throttled message listeners are notified.
+   *
+   * @param type The message type to limit.
+   * @param perSession Limit for each individual session.
+   * @param perIp Limit shared by all sessions from the same IP address.
+   */
+  public void limitMessageRate(
+      final MessageType<?> type,
+      final MessageRateLimit perSession,
+      final MessageRateLimit perIp) {
+    messageRateLimiter.setLimit(type.getMessageTypeId(), perSession, perIp);
+  }
+
+  /**
+   * Adds a listener that is invoked with the sender session and message type whenever a message is
+   * dropped because of rate limiting.
+   */
+  public void addThrottledMessageListener(
+      final BiConsumer<WebSocketSession, MessageType<?>> listener) {
+    throttledMessageListeners.add(listener);
+  }
+
   /**
    * Adds a listener that will be invoked when any message is received
    *
@@ -88,22 +178,39 @@ public class WebSocketMessagingBus {
       final WebSocketSession session, final MessageEnvelope envelope) {
     anyMessageListeners.forEach(listener -> listener.accept(envelope));
 
-    determineMatchingMessageType(envelope)
-        .ifPresent(
-            messageType -> {
-              final T payload = (T) envelope.getPayload(messageType.getPayloadType());
-
-              getListenersForMessageTypeId(envelope.getMessageTypeId())
-                  .map(messageListener -> (MessageListener<T>) messageListener)
-                  .forEach(
-                      messageListener ->
-                          messageListener.listener.accept(
-                              WebSocketMessageContext.<T>builder()
-                                  .messagingBus(this)
-                                  .senderSession(session)
-                                  .message(payload)
-                                  .build()));
-            });
+    final Optional<MessageType<?>> matchingMessageType = determineMatchingMessageType(envelope);
+    if (matchingMessageType.isEmpty()) {
+      // message type ids are client supplied, do not create a metric per unrecognized id
+      metricRegistry.meter(MetricRegistry.name(metricsName, "messages", "unrecognized")).mark();
+      return;
+    }
+
+    if (!messageRateLimiter.tryAcquire(session, envelope.getMessageTypeId())) {
+      metricRegistry
+          .meter(MetricRegistry.name(metricsName, "throttled", envelope.getMessageTypeId()))
+          .mark();
+      throttledMessageListeners.forEach(
+          listener -> listener.accept(session, matchingMessageType.get()));
+      return;
+    }
+
+    final T payload = (T) envelope.getPayload(matchingMessageType.get().getPayloadType());
+    try (Timer.Context ignored = messageTimer(envelope.getMessageTypeId()).time()) {
+      getListenersForMessageTypeId(envelope.getMessageTypeId())
+          .map(messageListener -> (MessageListener<T>) messageListener)
+          .forEach(
+              messageListener ->
+                  messageListener.listener.accept(
+                      WebSocketMessageContext.<T>builder()
+                          .messagingBus(this)
+                          .senderSession(session)
+                          .message(payload)
+                          .build()));
+    }
+  }
+
+  private Timer messageTimer(final String messageTypeId) {
+    return metricRegistry.timer(MetricRegistry.name(metricsName, "messages", messageTypeId));
   }
 
   private Optional<MessageType<?>> determineMatchingMessageType(final MessageEnvelope envelope) {
@@ -0,0 +1,44 @@
+package org.triplea.web.socket;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+  private static final MessageRateLimit LIMIT =
+      MessageRateLimit.builder().burst(2).perMinute(60).build();
+
+  @Test
+  void allowsBurstThenBlocks() {
+    final TokenBucket tokenBucket = new TokenBucket(LIMIT, 0);
+
+    assertThat(tokenBucket.tryConsume(0), is(true));
+    assertThat(tokenBucket.tryConsume(0), is(true));
+    assertThat(tokenBucket.tryConsume(0), is(false));
+  }
+
+  @Test
+  void refillsAtSustainedRate() {
+    final TokenBucket tokenBucket = new TokenBucket(LIMIT, 0);
+    tokenBucket.tryConsume(0);
+    tokenBucket.tryConsume(0);
+
+    assertThat(
+        "60 per minute is one token per second",
+        tokenBucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(500)),
+        is(false));
+    assertThat(tokenBucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(1100)), is(true));
+  }
+
+  @Test
+  void refillDoesNotExceedBurst() {
+    final TokenBucket tokenBucket = new TokenBucket(LIMIT, 0);
+    final long muchLater = TimeUnit.HOURS.toNanos(1);
+
+    assertThat(tokenBucket.tryConsume(muchLater), is(true));
+    assertThat(tokenBucket.tryConsume(muchLater), is(true));
+    assertThat(tokenBucket.tryConsume(muchLater), is(false));
+  }
+}
@@ -8,15 +8,19 @@ import static org.hamcrest.core.StringContains.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
+import java.net.InetAddress;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -230,4 +234,112 @@ class WebSocketMessagingBusTest {
           not(containsString("error message")));
     }
   }
+
+  @Nested
+  class Metrics {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final WebSocketMessagingBus webSocketMessagingBus =
+        new WebSocketMessagingBus(metricRegistry, "bus");
+
+    @Mock private WebSocketSession session;
+
+    @Test
+    @DisplayName("Received messages are counted per message type")
+    void messagesAreCountedPerType() {
+      webSocketMessagingBus.addMessageListener(BooleanMessage.TYPE, booleanMessageListener);
+
+      webSocketMessagingBus.onMessage(session, new BooleanMessage(true).toEnvelope());
+      webSocketMessagingBus.onMessage(session, new BooleanMessage(false).toEnvelope());
+
+      assertThat(
+          metricRegistry
+              .timer(
+                  MetricRegistry.name(
+                      "bus", "messages", BooleanMessage.TYPE.getMessageTypeId()))
+              .getCount(),
+          is(2L));
+    }
+
+    @Test
+    @DisplayName("Messages without a listener are counted as unrecognized")
+    void unrecognizedMessagesAreCountedTogether() {
+      webSocketMessagingBus.onMessage(session, new StringMessage().toEnvelope());
+
+      assertThat(
+          metricRegistry.meter(MetricRegistry.name("bus", "messages", "unrecognized")).getCount(),
+          is(1L));
+      assertThat(
+          "No metric is created for the client supplied message type id",
+          metricRegistry
+              .getTimers()
+              .containsKey(
+                  MetricRegistry.name("bus", "messages", StringMessage.TYPE.getMessageTypeId())),
+          is(false));
+    }
+
+    @Test
+    @DisplayName("Broadcasts record their fan-out to all sessions")
+    void broadcastRecordsFanOut() {
+      webSocketMessagingBus.onOpen(session);
+
+      webSocketMessagingBus.broadcastMessage(new BooleanMessage(true));
+
+      assertThat(
+          metricRegistry.histogram(MetricRegistry.name("bus", "broadcast-fan-out")).getCount(),
+          is(1L));
+      assertThat(
+          metricRegistry.timer(MetricRegistry.name("bus", "broadcast")).getCount(), is(1L));
+    }
+  }
+
+  @Nested
+  class RateLimiting {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final WebSocketMessagingBus webSocketMessagingBus =
+        new WebSocketMessagingBus(metricRegistry, "bus");
+
+    @Mock private WebSocketSession session;
+    @Mock private BiConsumer<WebSocketSession, MessageType<?>> throttledMessageListener;
+
+    @BeforeEach
+    void setUp() {
+      webSocketMessagingBus.addMessageListener(BooleanMessage.TYPE, booleanMessageListener);
+      webSocketMessagingBus.addThrottledMessageListener(throttledMessageListener);
+      webSocketMessagingBus.limitMessageRate(
+          BooleanMessage.TYPE,
+          MessageRateLimit.builder().burst(1).perMinute(1).build(),
+          MessageRateLimit.builder().burst(10).perMinute(10).build());
+    }
+
+    @Test
+    @DisplayName("Messages over the rate limit are dropped and counted")
+    void messagesOverLimitAreDropped() throws Exception {
+      when(session.getId()).thenReturn("session-id");
+      when(session.getRemoteAddress()).thenReturn(InetAddress.getByName("127.0.0.1"));
+
+      webSocketMessagingBus.onMessage(session, new BooleanMessage(true).toEnvelope());
+      webSocketMessagingBus.onMessage(session, new BooleanMessage(true).toEnvelope());
+
+      verify(booleanMessageListener).accept(any());
+      verify(throttledMessageListener).accept(session, BooleanMessage.TYPE);
+      assertThat(
+          metricRegistry
+              .meter(
+                  MetricRegistry.name("bus", "throttled", BooleanMessage.TYPE.getMessageTypeId()))
+              .getCount(),
+          is(1L));
+    }
+
+    @Test
+    @DisplayName("Message types without a limit are not throttled")
+    void messageTypesWithoutLimitAreNotThrottled() {
+      webSocketMessagingBus.addMessageListener(StringMessage.TYPE, stringMessageListener);
+
+      webSocketMessagingBus.onMessage(session, new StringMessage().toEnvelope());
+      webSocketMessagingBus.onMessage(session, new StringMessage().toEnvelope());
+
+      verify(stringMessageListener, times(2)).accept(any());
+      verify(throttledMessageListener, never()).accept(any(), any());
+    }
+  }
 }
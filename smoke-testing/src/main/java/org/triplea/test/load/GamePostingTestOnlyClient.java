@@ -0,0 +1,29 @@
+package org.triplea.test.load;
+
+import feign.RequestLine;
+import java.net.URI;
+import org.triplea.domain.data.ApiKey;
+import org.triplea.http.client.HttpClient;
+import org.triplea.http.client.lobby.AuthenticationHeaders;
+import org.triplea.http.client.lobby.game.lobby.watcher.GamePostingRequest;
+import org.triplea.http.client.lobby.game.lobby.watcher.GamePostingResponse;
+
+/**
+ * Posts games to the lobby without a reverse connectivity check, this allows simulated hosts to
+ * post games without actually hosting one. The endpoint is only available when the server is
+ * running with 'gameHostConnectivityCheckEnabled' set to false (the default for local servers).
+ */
+interface GamePostingTestOnlyClient {
+  /** Mirrors 'LobbyWatcherController.TEST_ONLY_GAME_POSTING_PATH'. */
+  String TEST_ONLY_GAME_POSTING_PATH = "/test-only/lobby/post-game";
+
+  static GamePostingTestOnlyClient newClient(final URI serverUri, final ApiKey apiKey) {
+    return HttpClient.newClient(
+        GamePostingTestOnlyClient.class,
+        serverUri,
+        new AuthenticationHeaders(apiKey).createHeaders());
+  }
+
+  @RequestLine("POST " + TEST_ONLY_GAME_POSTING_PATH)
+  GamePostingResponse postGame(GamePostingRequest gamePostingRequest);
+}
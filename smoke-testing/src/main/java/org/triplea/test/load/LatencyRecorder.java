@@ -0,0 +1,99 @@
+package org.triplea.test.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Thread-safe collector of latency samples for a single kind of operation (eg: 'login'). Samples
+ * are kept in a growable primitive array so that recording stays cheap when hundreds of simulated
+ * clients report concurrently.
+ */
+class LatencyRecorder {
+  @Getter private final String operation;
+  private final AtomicLong failures = new AtomicLong();
+
+  private long[] samplesNanos = new long[1024];
+  private int sampleCount;
+
+  LatencyRecorder(final String operation) {
+    this.operation = operation;
+  }
+
+  /** Records the latency of one successful operation. */
+  synchronized void record(final long elapsedNanos) {
+    if (sampleCount == samplesNanos.length) {
+      samplesNanos = Arrays.copyOf(samplesNanos, samplesNanos.length * 2);
+    }
+    samplesNanos[sampleCount++] = elapsedNanos;
+  }
+
+  /** Records one operation that did not complete successfully. */
+  void recordFailure() {
+    failures.incrementAndGet();
+  }
+
+  /**
+   * Computes a summary of the samples recorded so far.
+   *
+   * @param elapsed The wall-clock duration over which samples were collected, used to compute
+   *     throughput.
+   */
+  Summary summarize(final Duration elapsed) {
+    final long[] sorted;
+    synchronized (this) {
+      sorted = Arrays.copyOf(samplesNanos, sampleCount);
+    }
+    Arrays.sort(sorted);
+    final double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+    return Summary.builder()
+        .operation(operation)
+        .count(sorted.length)
+        .failures(failures.get())
+        .throughputPerSecond(sorted.length / seconds)
+        .p50Millis(percentileMillis(sorted, 50))
+        .p90Millis(percentileMillis(sorted, 90))
+        .p99Millis(percentileMillis(sorted, 99))
+        .maxMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0)
+        .build();
+  }
+
+  /** Nearest-rank percentile, returns zero if there are no samples. */
+  static double percentileMillis(final long[] sortedNanos, final int percentile) {
+    if (sortedNanos.length == 0) {
+      return 0;
+    }
+    final int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+    return sortedNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+  }
+
+  @Getter
+  @Builder
+  static class Summary {
+    private final String operation;
+    private final int count;
+    private final long failures;
+    private final double throughputPerSecond;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%-14s count=%-7d failed=%-5d rate=%8.1f/s  p50=%8.2fms  p90=%8.2fms  p99=%8.2fms"
+              + "  max=%8.2fms",
+          operation,
+          count,
+          failures,
+          throughputPerSecond,
+          p50Millis,
+          p90Millis,
+          p99Millis,
+          maxMillis);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package org.triplea.test.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/** Latency recorders and counters shared by all simulated players and hosts of one run. */
+@Getter
+class LoadTestMetrics {
+  private final LatencyRecorder login = new LatencyRecorder("login");
+  private final LatencyRecorder chatBroadcast = new LatencyRecorder("chat-broadcast");
+  private final LatencyRecorder gamePosting = new LatencyRecorder("game-posting");
+  private final LatencyRecorder keepAlive = new LatencyRecorder("keep-alive");
+
+  /** Count of chat messages received by any simulated player, measures broadcast fan-out. */
+  private final AtomicLong chatMessagesDelivered = new AtomicLong();
+  /** Count of websocket errors reported to simulated players. */
+  private final AtomicLong websocketErrors = new AtomicLong();
+
+  /**
+   * Summarizes all recorders. Login and game posting happen while setting up, their throughput is
+   * computed over the setup duration; chat and keep-alive over the traffic duration.
+   */
+  List<LatencyRecorder.Summary> summarize(final Duration setupElapsed, final Duration elapsed) {
+    return List.of(
+        login.summarize(setupElapsed),
+        gamePosting.summarize(setupElapsed),
+        chatBroadcast.summarize(elapsed),
+        keepAlive.summarize(elapsed));
+  }
+}
@@ -0,0 +1,145 @@
+package org.triplea.test.load;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.domain.data.SystemIdLoader;
+import org.triplea.domain.data.UserName;
+import org.triplea.http.client.LobbyHttpClientConfig;
+import org.triplea.http.client.lobby.game.lobby.watcher.GameListingClient;
+
+/**
+ * Load generator for a locally running lobby server. Spins up a configurable number of simulated
+ * chatting players and game hosts, lets them run for a fixed duration and then reports latency
+ * percentiles and throughput for login, chat broadcast, game posting and keep-alive.
+ *
+ * <p>The server is expected to be running with a local database and with the game host
+ * connectivity check disabled, see the smoke-testing README.
+ *
+ * <p>Configuration is read from system properties:
+ *
+ * <ul>
+ *   <li>loadTest.lobbyUri (default http://localhost:8080)
+ *   <li>loadTest.players, number of simulated chatters (default 100)
+ *   <li>loadTest.hosts, number of simulated game hosts (default 20)
+ *   <li>loadTest.durationSeconds, how long to generate traffic for (default 60)
+ *   <li>loadTest.chatIntervalMillis, delay between chat messages of each player (default 5000)
+ *   <li>loadTest.keepAliveSeconds, delay between keep-alives of each host (defaults to the
+ *       keep-alive period used by real game hosts)
+ *   <li>loadTest.connectThreads, number of threads used to connect players (default 16)
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class LobbyLoadTest {
+  /** Grace period for in-flight chat broadcasts to arrive before we stop counting. */
+  private static final long DRAIN_MILLIS = 2000L;
+
+  public static void main(final String[] args) throws Exception {
+    final URI lobbyUri =
+        URI.create(System.getProperty("loadTest.lobbyUri", "http://localhost:8080"));
+    final int playerCount = Integer.getInteger("loadTest.players", 100);
+    final int hostCount = Integer.getInteger("loadTest.hosts", 20);
+    final Duration duration = Duration.ofSeconds(Integer.getInteger("loadTest.durationSeconds", 60));
+    final long chatIntervalMillis = Integer.getInteger("loadTest.chatIntervalMillis", 5000);
+    final long keepAliveSeconds =
+        Integer.getInteger("loadTest.keepAliveSeconds", GameListingClient.KEEP_ALIVE_SECONDS);
+    final int connectThreads = Integer.getInteger("loadTest.connectThreads", 16);
+
+    LobbyHttpClientConfig.setConfig(
+        LobbyHttpClientConfig.builder()
+            .clientVersion("1.0")
+            .systemId(SystemIdLoader.load().getValue())
+            .build());
+
+    log.info(
+        "Starting lobby load test against {} with {} players and {} hosts for {} seconds",
+        lobbyUri,
+        playerCount,
+        hostCount,
+        duration.toSeconds());
+
+    final LoadTestMetrics metrics = new LoadTestMetrics();
+    final String runId = Long.toString(System.currentTimeMillis() % 100_000, 36);
+
+    final List<SimulatedPlayer> players = new ArrayList<>();
+    for (int i = 0; i < playerCount; i++) {
+      players.add(new SimulatedPlayer(lobbyUri, UserName.of("load" + runId + "p" + i), metrics));
+    }
+    final List<SimulatedHost> hosts = new ArrayList<>();
+    for (int i = 0; i < hostCount; i++) {
+      hosts.add(new SimulatedHost(lobbyUri, i, metrics));
+    }
+
+    final long setupStart = System.nanoTime();
+    final ExecutorService connectExecutor = Executors.newFixedThreadPool(connectThreads);
+    final List<Future<Boolean>> connections = new ArrayList<>();
+    players.forEach(player -> connections.add(connectExecutor.submit(player::connect)));
+    hosts.forEach(host -> connections.add(connectExecutor.submit(host::postGame)));
+    int failedConnections = 0;
+    for (final Future<Boolean> connection : connections) {
+      if (!connection.get()) {
+        failedConnections++;
+      }
+    }
+    connectExecutor.shutdown();
+    final Duration setupElapsed = Duration.ofNanos(System.nanoTime() - setupStart);
+    log.info(
+        "Connected players and posted games in {} ms, {} failures",
+        setupElapsed.toMillis(),
+        failedConnections);
+
+    final ScheduledExecutorService trafficExecutor =
+        Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+    for (final SimulatedPlayer player : players) {
+      trafficExecutor.scheduleAtFixedRate(
+          player::sendChatMessage,
+          ThreadLocalRandom.current().nextLong(chatIntervalMillis),
+          chatIntervalMillis,
+          TimeUnit.MILLISECONDS);
+    }
+    for (final SimulatedHost host : hosts) {
+      trafficExecutor.scheduleAtFixedRate(
+          host::sendKeepAlive,
+          ThreadLocalRandom.current().nextLong(TimeUnit.SECONDS.toMillis(keepAliveSeconds)),
+          TimeUnit.SECONDS.toMillis(keepAliveSeconds),
+          TimeUnit.MILLISECONDS);
+    }
+
+    final long trafficStart = System.nanoTime();
+    Thread.sleep(duration.toMillis());
+    trafficExecutor.shutdownNow();
+    trafficExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    Thread.sleep(DRAIN_MILLIS);
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - trafficStart);
+
+    players.forEach(SimulatedPlayer::disconnect);
+    hosts.forEach(SimulatedHost::removeGame);
+
+    report(metrics, setupElapsed, elapsed);
+    System.exit(0);
+  }
+
+  private static void report(
+      final LoadTestMetrics metrics, final Duration setupElapsed, final Duration elapsed) {
+    log.info("Lobby load test results over {} seconds:", elapsed.toSeconds());
+    metrics.summarize(setupElapsed, elapsed).forEach(summary -> log.info(summary.toString()));
+    log.info(
+        "chat messages delivered={} ({}/s), websocket errors={}",
+        metrics.getChatMessagesDelivered().get(),
+        String.format(
+            "%.1f",
+            metrics.getChatMessagesDelivered().get() / Math.max(elapsed.toMillis() / 1000.0, 1)),
+        metrics.getWebsocketErrors().get());
+  }
+}
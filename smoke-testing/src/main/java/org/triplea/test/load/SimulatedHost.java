@@ -0,0 +1,102 @@
+package org.triplea.test.load;
+
+import java.net.URI;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.domain.data.ApiKey;
+import org.triplea.domain.data.LobbyGame;
+import org.triplea.http.client.lobby.game.hosting.request.GameHostingClient;
+import org.triplea.http.client.lobby.game.hosting.request.GameHostingResponse;
+import org.triplea.http.client.lobby.game.lobby.watcher.GamePostingRequest;
+import org.triplea.http.client.lobby.game.lobby.watcher.LobbyWatcherClient;
+
+/**
+ * A simulated game host. Requests a host API key, posts a game (bypassing the reverse
+ * connectivity check) and then sends keep-alives on demand.
+ */
+@Slf4j
+class SimulatedHost {
+  private final URI lobbyUri;
+  private final int hostNumber;
+  private final LoadTestMetrics metrics;
+
+  private LobbyWatcherClient lobbyWatcherClient;
+  private String gameId;
+
+  SimulatedHost(final URI lobbyUri, final int hostNumber, final LoadTestMetrics metrics) {
+    this.lobbyUri = lobbyUri;
+    this.hostNumber = hostNumber;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Requests a host API key and posts a game to the lobby.
+   *
+   * @return True if the game was posted.
+   */
+  boolean postGame() {
+    final long start = System.nanoTime();
+    try {
+      final GameHostingResponse gameHostingResponse =
+          GameHostingClient.newClient(lobbyUri).sendGameHostingRequest();
+      final ApiKey apiKey = ApiKey.of(gameHostingResponse.getApiKey());
+      lobbyWatcherClient = LobbyWatcherClient.newClient(lobbyUri, apiKey);
+      gameId =
+          GamePostingTestOnlyClient.newClient(lobbyUri, apiKey)
+              .postGame(
+                  GamePostingRequest.builder()
+                      .lobbyGame(buildLobbyGame())
+                      .playerNames(List.of())
+                      .build())
+              .getGameId();
+    } catch (final RuntimeException e) {
+      log.warn("Game posting failed for host {}: {}", hostNumber, e.getMessage());
+      metrics.getGamePosting().recordFailure();
+      return false;
+    }
+    metrics.getGamePosting().record(System.nanoTime() - start);
+    return true;
+  }
+
+  private LobbyGame buildLobbyGame() {
+    return LobbyGame.builder()
+        .hostAddress("127.0.0.1")
+        .hostPort(3300 + hostNumber)
+        .hostName("load-test-host-" + hostNumber)
+        .mapName("Load Test")
+        .playerCount(0)
+        .gameRound(0)
+        .epochMilliTimeStarted(System.currentTimeMillis())
+        .passworded(false)
+        .status("Waiting For Players")
+        .comments("load test")
+        .build();
+  }
+
+  void sendKeepAlive() {
+    if (gameId == null) {
+      return;
+    }
+    final long start = System.nanoTime();
+    try {
+      if (lobbyWatcherClient.sendKeepAlive(gameId)) {
+        metrics.getKeepAlive().record(System.nanoTime() - start);
+      } else {
+        // server no longer knows about our game, it expired before we could keep it alive
+        metrics.getKeepAlive().recordFailure();
+      }
+    } catch (final RuntimeException e) {
+      metrics.getKeepAlive().recordFailure();
+    }
+  }
+
+  void removeGame() {
+    if (gameId != null) {
+      try {
+        lobbyWatcherClient.removeGame(gameId);
+      } catch (final RuntimeException e) {
+        log.info("Failed to remove game {}: {}", gameId, e.getMessage());
+      }
+    }
+  }
+}
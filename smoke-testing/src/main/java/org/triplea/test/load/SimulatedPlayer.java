@@ -0,0 +1,97 @@
+package org.triplea.test.load;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.domain.data.ApiKey;
+import org.triplea.domain.data.UserName;
+import org.triplea.http.client.lobby.login.LobbyLoginClient;
+import org.triplea.http.client.lobby.login.LobbyLoginResponse;
+import org.triplea.http.client.web.socket.client.connections.PlayerToLobbyConnection;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMessage;
+
+/**
+ * A simulated lobby player. Logs in anonymously, joins chat and then sends chat messages on
+ * demand. Each chat message carries a unique token so that when the server broadcasts the message
+ * back to us we can measure the full round trip through the server broadcast.
+ */
+@Slf4j
+class SimulatedPlayer {
+  private final URI lobbyUri;
+  private final UserName userName;
+  private final LoadTestMetrics metrics;
+
+  /** Chat tokens that we have sent and not yet seen broadcast back, mapped to send time. */
+  private final Map<String, Long> pendingChatMessages = new ConcurrentHashMap<>();
+  private final AtomicInteger chatMessageCount = new AtomicInteger();
+
+  private PlayerToLobbyConnection connection;
+
+  SimulatedPlayer(final URI lobbyUri, final UserName userName, final LoadTestMetrics metrics) {
+    this.lobbyUri = lobbyUri;
+    this.userName = userName;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Logs in to lobby, opens a websocket and joins chat.
+   *
+   * @return True if the player successfully connected.
+   */
+  boolean connect() {
+    final long start = System.nanoTime();
+    final LobbyLoginResponse loginResponse;
+    try {
+      loginResponse = LobbyLoginClient.newClient(lobbyUri).login(userName.getValue(), null);
+    } catch (final RuntimeException e) {
+      log.warn("Login request failed for {}: {}", userName, e.getMessage());
+      metrics.getLogin().recordFailure();
+      return false;
+    }
+    if (!loginResponse.isSuccess()) {
+      log.warn("Login rejected for {}: {}", userName, loginResponse.getFailReason());
+      metrics.getLogin().recordFailure();
+      return false;
+    }
+    metrics.getLogin().record(System.nanoTime() - start);
+
+    connection =
+        new PlayerToLobbyConnection(
+            lobbyUri,
+            ApiKey.of(loginResponse.getApiKey()),
+            error -> metrics.getWebsocketErrors().incrementAndGet());
+    connection.addMessageListener(ChatReceivedMessage.TYPE, this::chatMessageReceived);
+    connection.sendConnectToChatMessage();
+    return true;
+  }
+
+  void sendChatMessage() {
+    if (connection == null) {
+      return;
+    }
+    final String token = userName.getValue() + "-" + chatMessageCount.incrementAndGet();
+    pendingChatMessages.put(token, System.nanoTime());
+    connection.sendChatMessage(token);
+  }
+
+  private void chatMessageReceived(final ChatReceivedMessage chatReceivedMessage) {
+    metrics.getChatMessagesDelivered().incrementAndGet();
+    if (chatReceivedMessage.getSender().equals(userName)) {
+      final Long sendTime = pendingChatMessages.remove(chatReceivedMessage.getMessage());
+      if (sendTime != null) {
+        metrics.getChatBroadcast().record(System.nanoTime() - sendTime);
+      }
+    }
+  }
+
+  /** Closes the connection, any chat messages not yet echoed back are counted as failures. */
+  void disconnect() {
+    pendingChatMessages.keySet().forEach(token -> metrics.getChatBroadcast().recordFailure());
+    pendingChatMessages.clear();
+    if (connection != null) {
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package org.triplea.test.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.core.Is.is;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+  private static final long ONE_MILLI = 1_000_000L;
+
+  @Test
+  void emptyRecorderSummarizesToZero() {
+    final LatencyRecorder.Summary summary =
+        new LatencyRecorder("op").summarize(Duration.ofSeconds(1));
+
+    assertThat(summary.getCount(), is(0));
+    assertThat(summary.getP50Millis(), is(0.0));
+    assertThat(summary.getMaxMillis(), is(0.0));
+  }
+
+  @Test
+  void percentilesUseNearestRank() {
+    final LatencyRecorder latencyRecorder = new LatencyRecorder("op");
+    // record out of order and past the initial sample capacity
+    for (int i = 2000; i >= 1; i--) {
+      latencyRecorder.record(i * ONE_MILLI);
+    }
+    latencyRecorder.recordFailure();
+
+    final LatencyRecorder.Summary summary = latencyRecorder.summarize(Duration.ofSeconds(2));
+
+    assertThat(summary.getCount(), is(2000));
+    assertThat(summary.getFailures(), is(1L));
+    assertThat(summary.getThroughputPerSecond(), closeTo(1000.0, 0.001));
+    assertThat(summary.getP50Millis(), closeTo(1000.0, 0.001));
+    assertThat(summary.getP90Millis(), closeTo(1800.0, 0.001));
+    assertThat(summary.getP99Millis(), closeTo(1980.0, 0.001));
+    assertThat(summary.getMaxMillis(), closeTo(2000.0, 0.001));
+  }
+
+  @Test
+  void singleSampleIsEveryPercentile() {
+    final long[] samples = {5 * ONE_MILLI};
+
+    assertThat(LatencyRecorder.percentileMillis(samples, 1), is(5.0));
+    assertThat(LatencyRecorder.percentileMillis(samples, 99), is(5.0));
+  }
+}
@@ -0,0 +1,144 @@
+-- Converts access_log into a table partitioned by month on access_time. Old data is
+-- retained by dropping whole partitions rather than deleting rows, and each partition
+-- carries indexes supporting the moderator access log search (username, ip, system_id).
+--
+-- Partitioned table indexes, foreign keys and default partitions are not available on all
+-- supported postgres versions, so indexes and foreign keys are created per partition and
+-- monthly partitions are created ahead of time by 'access_log_create_partitions'.
+
+alter table access_log rename to access_log_unpartitioned;
+
+create table access_log
+(
+    access_time   timestamptz not null default now(),
+    username      varchar(40) not null,
+    ip            inet        not null,
+    system_id     varchar(36) not null,
+    lobby_user_id int
+) partition by range (access_time);
+
+alter table access_log
+    owner to lobby_user;
+
+comment on table access_log is
+    $$ Audit table recording access to the lobby. Partitioned by month on access_time,
+    partitions older than the retention period are dropped. $$;
+comment on column access_log.lobby_user_id is
+    $$ FK to lobby_user, null if the user was anonymous when accessing the lobby. $$;
+
+
+create function access_log_add_partition_indexes(partition_name text) returns void
+    language plpgsql as
+$$
+begin
+    execute format(
+        'alter table %I add foreign key (lobby_user_id) references lobby_user (id)',
+        partition_name);
+    execute format('create index on %I (access_time desc)', partition_name);
+    execute format(
+        'create index on %I (username varchar_pattern_ops, access_time desc)',
+        partition_name);
+    execute format(
+        'create index on %I (system_id varchar_pattern_ops, access_time desc)',
+        partition_name);
+    execute format(
+        'create index on %I ((host(ip)) text_pattern_ops, access_time desc)',
+        partition_name);
+end
+$$;
+comment on function access_log_add_partition_indexes(text) is
+    $$ Adds the access_log foreign key and search indexes to a newly created partition. $$;
+
+
+create function access_log_create_partition(month_start date) returns boolean
+    language plpgsql as
+$$
+declare
+    partition_name text := 'access_log_' || to_char(month_start, 'YYYY_MM');
+begin
+    if to_regclass(partition_name) is not null then
+        return false;
+    end if;
+    execute format(
+        'create table %I partition of access_log for values from (%L) to (%L)',
+        partition_name, month_start, (month_start + interval '1 month')::date);
+    perform access_log_add_partition_indexes(partition_name);
+    return true;
+end
+$$;
+comment on function access_log_create_partition(date) is
+    $$ Creates the access_log partition for the month starting on a given date if it does
+    not already exist. Returns true if a partition was created. $$;
+
+
+create function access_log_create_partitions(through timestamptz) returns int
+    language plpgsql as
+$$
+declare
+    month_start date := date_trunc('month', now())::date;
+    created     int  := 0;
+begin
+    while month_start <= through
+        loop
+            if access_log_create_partition(month_start) then
+                created := created + 1;
+            end if;
+            month_start := (month_start + interval '1 month')::date;
+        end loop;
+    return created;
+end
+$$;
+comment on function access_log_create_partitions(timestamptz) is
+    $$ Ensures monthly access_log partitions exist from the current month through a given
+    time. Returns the number of partitions created. $$;
+
+
+create function access_log_drop_partitions_before(cutoff timestamptz) returns int
+    language plpgsql as
+$$
+declare
+    access_log_partition record;
+    dropped              int := 0;
+begin
+    for access_log_partition in
+        select child.relname as name,
+               substring(pg_get_expr(child.relpartbound, child.oid)
+                         from 'TO \(''([^'']+)''\)')::timestamptz as upper_bound
+        from pg_inherits
+                 join pg_class parent on parent.oid = pg_inherits.inhparent
+                 join pg_class child on child.oid = pg_inherits.inhrelid
+        where parent.relname = 'access_log'
+        loop
+            if access_log_partition.upper_bound <= cutoff then
+                execute format('drop table %I', access_log_partition.name);
+                dropped := dropped + 1;
+            end if;
+        end loop;
+    return dropped;
+end
+$$;
+comment on function access_log_drop_partitions_before(timestamptz) is
+    $$ Drops every access_log partition that only holds rows older than a cutoff time.
+    Returns the number of partitions dropped. $$;
+
+
+-- Rows older than the current month go to a single legacy partition, new rows go to
+-- monthly partitions.
+do
+$$
+    declare
+        current_month date := date_trunc('month', now())::date;
+    begin
+        execute format(
+            'create table access_log_legacy partition of access_log for values from (minvalue) to (%L)',
+            current_month);
+        perform access_log_add_partition_indexes('access_log_legacy');
+        perform access_log_create_partitions(now() + interval '2 month');
+    end
+$$;
+
+insert into access_log (access_time, username, ip, system_id, lobby_user_id)
+select access_time, username, ip, system_id, lobby_user_id
+from access_log_unpartitioned;
+
+drop table access_log_unpartitioned;
@@ -0,0 +1,55 @@
+package org.triplea.dropwizard.common;
+
+import com.codahale.metrics.MetricRegistry;
+import java.sql.SQLException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.UtilityClass;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+
+@UtilityClass
+public class JdbiMetrics {
+  /**
+   * Adds a SQL logger to JDBI that records the execution time of each statement to a timer named
+   * after the DAO class and method that issued it, eg: 'jdbi.AccessLogDao.insertUserAccessRecord'.
+   * Any previously registered SQL logger continues to be invoked.
+   */
+  public static void registerSqlTimer(final Jdbi jdbi, final MetricRegistry metricRegistry) {
+    final SqlLogger delegate = jdbi.getConfig(SqlStatements.class).getSqlLogger();
+    jdbi.setSqlLogger(
+        new SqlLogger() {
+          @Override
+          public void logBeforeExecution(final StatementContext context) {
+            delegate.logBeforeExecution(context);
+          }
+
+          @Override
+          public void logAfterExecution(final StatementContext context) {
+            metricRegistry
+                .timer(timerName(context))
+                .update(context.getElapsedTime(ChronoUnit.NANOS), TimeUnit.NANOSECONDS);
+            delegate.logAfterExecution(context);
+          }
+
+          @Override
+          public void logException(final StatementContext context, final SQLException ex) {
+            metricRegistry.meter(MetricRegistry.name(timerName(context), "errors")).mark();
+            delegate.logException(context, ex);
+          }
+        });
+  }
+
+  private static String timerName(final StatementContext context) {
+    final ExtensionMethod extensionMethod = context.getExtensionMethod();
+    return extensionMethod == null
+        ? MetricRegistry.name("jdbi", "raw-sql")
+        : MetricRegistry.name(
+            "jdbi",
+            extensionMethod.getType().getSimpleName(),
+            extensionMethod.getMethod().getName());
+  }
+}
@@ -12,6 +12,7 @@ import org.jdbi.v3.core.Jdbi;
 import org.triplea.db.LobbyModuleRowMappers;
 import org.triplea.dropwizard.common.AuthenticationConfiguration;
 import org.triplea.dropwizard.common.JdbiLogging;
+import org.triplea.dropwizard.common.JdbiMetrics;
 import org.triplea.dropwizard.common.ServerConfiguration;
 import org.triplea.dropwizard.common.ServerConfiguration.WebsocketConfig;
 import org.triplea.http.client.web.socket.WebsocketPaths;
@@ -21,6 +22,8 @@ import org.triplea.modules.chat.ChatMessagingService;
 import org.triplea.modules.chat.Chatters;
 import org.triplea.modules.game.listing.GameListing;
 import org.triplea.modules.latest.version.LatestVersionModule;
+import org.triplea.modules.moderation.access.log.AccessLogPartitionMaintenance;
+import org.triplea.modules.user.account.login.AccessLogUpdater;
 import org.triplea.spitfire.server.access.authentication.ApiKeyAuthenticator;
 import org.triplea.spitfire.server.access.authentication.AuthenticatedUser;
 import org.triplea.spitfire.server.access.authorization.BannedPlayerFilter;
@@ -100,6 +103,9 @@ public class SpitfireServerApplication extends Application<SpitfireServerConfig>
     if (configuration.isLogSqlStatements()) {
       JdbiLogging.registerSqlLogger(jdbi);
     }
+    // metrics registered with the environment are served on the admin port under '/metrics'
+    final MetricRegistry metrics = environment.metrics();
+    JdbiMetrics.registerSqlTimer(jdbi, metrics);
 
     if (configuration.isMapIndexingEnabled()) {
       environment
@@ -133,7 +139,6 @@ public class SpitfireServerApplication extends Application<SpitfireServerConfig>
     serverConfiguration.registerRequestFilter(
         environment, BannedPlayerFilter.newBannedPlayerFilter(jdbi));
 
-    final MetricRegistry metrics = new MetricRegistry();
     AuthenticationConfiguration.enableAuthentication(
         environment,
         metrics,
@@ -144,19 +149,26 @@ public class SpitfireServerApplication extends Application<SpitfireServerConfig>
     serverConfiguration.registerExceptionMappers(environment, List.of(new IllegalArgumentMapper()));
 
     final var sessionIsBannedCheck = SessionBannedCheck.build(jdbi);
-    final var gameConnectionMessagingBus = new WebSocketMessagingBus();
+    final var gameConnectionMessagingBus = new WebSocketMessagingBus(metrics, "websocket.games");
 
     GenericWebSocket.init(
         GameConnectionWebSocket.class, gameConnectionMessagingBus, sessionIsBannedCheck);
 
-    final var playerConnectionMessagingBus = new WebSocketMessagingBus();
+    final var playerConnectionMessagingBus =
+        new WebSocketMessagingBus(metrics, "websocket.players");
     GenericWebSocket.init(
         PlayerConnectionWebSocket.class, playerConnectionMessagingBus, sessionIsBannedCheck);
 
     final var chatters = Chatters.build();
-    ChatMessagingService.build(chatters, jdbi).configure(playerConnectionMessagingBus);
+    ChatMessagingService.build(configuration, chatters, jdbi)
+        .configure(playerConnectionMessagingBus);
+
+    final GameListing gameListing = GameListing.build(jdbi, playerConnectionMessagingBus, metrics);
+
+    final AccessLogUpdater accessLogUpdater = AccessLogUpdater.build(jdbi);
+    environment.lifecycle().manage(accessLogUpdater.buildFlushSchedule());
+    environment.lifecycle().manage(AccessLogPartitionMaintenance.buildSchedule(configuration, jdbi));
 
-    final GameListing gameListing = GameListing.build(jdbi, playerConnectionMessagingBus);
     List.of(
             // lobby module controllers
             AccessLogController.build(jdbi),
@@ -168,7 +180,7 @@ public class SpitfireServerApplication extends Application<SpitfireServerConfig>
             GameHostingController.build(jdbi),
             GameListingController.build(gameListing),
             LobbyWatcherController.build(configuration, jdbi, gameListing),
-            LoginController.build(jdbi, chatters),
+            LoginController.build(jdbi, chatters, accessLogUpdater),
             UsernameBanController.build(jdbi),
             UserBanController.build(
                 jdbi, chatters, playerConnectionMessagingBus, gameConnectionMessagingBus),
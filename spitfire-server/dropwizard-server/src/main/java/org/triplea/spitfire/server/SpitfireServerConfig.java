@@ -36,6 +36,22 @@ public class SpitfireServerConfig extends Configuration
   @Setter(onMethod_ = {@JsonProperty})
   private boolean logSqlStatements;
 
+  @Getter(onMethod_ = {@JsonProperty, @Override})
+  @Setter(onMethod_ = {@JsonProperty})
+  private int accessLogRetentionDays;
+
+  @Getter(onMethod_ = {@JsonProperty, @Override})
+  @Setter(onMethod_ = {@JsonProperty})
+  private int chatMessageBurst;
+
+  @Getter(onMethod_ = {@JsonProperty, @Override})
+  @Setter(onMethod_ = {@JsonProperty})
+  private int chatMessagesPerMinute;
+
+  @Getter(onMethod_ = {@JsonProperty, @Override})
+  @Setter(onMethod_ = {@JsonProperty})
+  private int chatFloodMuteMinutes;
+
   @Valid @NotNull @JsonProperty @Getter
   private final DataSourceFactory database = new DataSourceFactory();
 
@@ -16,6 +16,7 @@ import org.triplea.http.client.lobby.login.LobbyLoginClient;
 import org.triplea.http.client.lobby.login.LobbyLoginResponse;
 import org.triplea.http.client.lobby.login.LoginRequest;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.user.account.login.AccessLogUpdater;
 import org.triplea.modules.user.account.login.LoginModule;
 import org.triplea.spitfire.server.HttpController;
 
@@ -24,9 +25,10 @@ import org.triplea.spitfire.server.HttpController;
 public class LoginController extends HttpController {
   @Nonnull private final LoginModule loginModule;
 
-  public static LoginController build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginController build(
+      final Jdbi jdbi, final Chatters chatters, final AccessLogUpdater accessLogUpdater) {
     return LoginController.builder() //
-        .loginModule(LoginModule.build(jdbi, chatters))
+        .loginModule(LoginModule.build(jdbi, chatters, accessLogUpdater))
         .build();
   }
 
@@ -4,6 +4,7 @@ import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.java.timer.ScheduledTimer;
@@ -18,14 +19,22 @@ public class ScheduledTask implements Managed {
 
   private final String taskName;
   private final ScheduledTimer taskTimer;
+  @Nullable private final Runnable onStop;
 
+  /**
+   * Builds a scheduled task.
+   *
+   * @param onStop Optional, invoked once after the task is stopped, eg: to flush buffered work.
+   */
   @Builder
   ScheduledTask(
       @Nonnull final String taskName,
       @Nonnull final Duration period,
       @Nonnull final Duration delay,
-      @Nonnull final Runnable task) {
+      @Nonnull final Runnable task,
+      @Nullable final Runnable onStop) {
     this.taskName = taskName;
+    this.onStop = onStop;
     taskTimer =
         Timers.fixedRateTimer(taskName)
             .period(period.toSeconds(), TimeUnit.SECONDS)
@@ -43,5 +52,8 @@ public class ScheduledTask implements Managed {
   public void stop() {
     log.info("Stopping scheduled task: {}", taskName);
     taskTimer.cancel();
+    if (onStop != null) {
+      onStop.run();
+    }
   }
 }
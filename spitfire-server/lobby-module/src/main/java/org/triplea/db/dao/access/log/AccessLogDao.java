@@ -1,13 +1,16 @@
 package org.triplea.db.dao.access.log;
 
+import java.time.Instant;
 import java.util.List;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 /**
  * Provides access to the access log table. This is a table that records user data as they enter the
- * lobby. Useful for statistics and for banning.
+ * lobby. Useful for statistics and for banning. The table is partitioned by month, partitions need
+ * to be created ahead of time and old partitions are dropped to enforce retention.
  */
 public interface AccessLogDao {
 
@@ -41,4 +44,36 @@ public interface AccessLogDao {
           + "  (select id from lobby_user where username = :username))")
   int insertUserAccessRecord(
       @Bind("username") String username, @Bind("ip") String ip, @Bind("systemId") String systemId);
+
+  /**
+   * Inserts a batch of access records in one round trip. The parameter lists are parallel, each
+   * index is one access record.
+   */
+  @SqlBatch(
+      "insert into access_log(username, ip, system_id, lobby_user_id)\n"
+          + "values ("
+          + "  :username,"
+          + "  :ip::inet,"
+          + "  :systemId,"
+          + "  (select id from lobby_user where username = :username))")
+  void insertUserAccessRecords(
+      @Bind("username") List<String> usernames,
+      @Bind("ip") List<String> ips,
+      @Bind("systemId") List<String> systemIds);
+
+  /**
+   * Ensures monthly partitions exist from the current month through the given time.
+   *
+   * @return The number of partitions created.
+   */
+  @SqlQuery("select access_log_create_partitions(:through::timestamptz)")
+  int createPartitionsThrough(@Bind("through") Instant through);
+
+  /**
+   * Drops all partitions that only contain records older than the given cutoff.
+   *
+   * @return The number of partitions dropped.
+   */
+  @SqlQuery("select access_log_drop_partitions_before(:cutoff::timestamptz)")
+  int dropPartitionsBefore(@Bind("cutoff") Instant cutoff);
 }
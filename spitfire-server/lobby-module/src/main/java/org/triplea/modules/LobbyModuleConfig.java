@@ -15,4 +15,25 @@ public interface LobbyModuleConfig {
   boolean isGameHostConnectivityCheckEnabled();
 
   GithubApiClient createGamesRepoGithubApiClient();
+
+  /**
+   * Number of days access log records are kept. Records are dropped a month at a time, so records
+   * can be kept up to a month longer than this value.
+   */
+  int getAccessLogRetentionDays();
+
+  /** Number of chat messages a player can send at once before being rate limited. */
+  int getChatMessageBurst();
+
+  /**
+   * Sustained chat messages per minute allowed per player connection. Each IP address is allowed a
+   * multiple of this to account for several players behind one address.
+   */
+  int getChatMessagesPerMinute();
+
+  /**
+   * Minutes to mute players that keep sending chat messages while rate limited. Zero disables the
+   * automatic mute, messages over the rate limit are still dropped.
+   */
+  int getChatFloodMuteMinutes();
 }
@@ -1,28 +1,50 @@
 package org.triplea.modules.chat;
 
 import com.google.common.base.Preconditions;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
+import org.triplea.http.client.web.socket.messages.MessageType;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ConnectToChatMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.PlayerSlapSentMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.PlayerStatusUpdateSentMessage;
+import org.triplea.modules.LobbyModuleConfig;
+import org.triplea.modules.chat.event.processing.ChatFloodListener;
 import org.triplea.modules.chat.event.processing.ChatMessageListener;
 import org.triplea.modules.chat.event.processing.PlayerConnectedListener;
 import org.triplea.modules.chat.event.processing.PlayerLeftListener;
 import org.triplea.modules.chat.event.processing.SlapListener;
 import org.triplea.modules.chat.event.processing.StatusUpdateListener;
+import org.triplea.web.socket.MessageRateLimit;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
+/**
+ * Registers chat message listeners with the player messaging bus. Chat, slap and status messages
+ * are rate limited per connection and per IP, players flooding chat are muted by {@code
+ * ChatFloodListener}.
+ */
 @Builder
 public class ChatMessagingService {
+  /** Per IP limits are this multiple of per connection limits. */
+  static final int IP_LIMIT_MULTIPLIER = 3;
+
+  static final MessageRateLimit SLAP_RATE_LIMIT =
+      MessageRateLimit.builder().burst(3).perMinute(6).build();
+  static final MessageRateLimit STATUS_UPDATE_RATE_LIMIT =
+      MessageRateLimit.builder().burst(5).perMinute(20).build();
+
   private final PlayerConnectedListener playerConnectedListener;
   private final ChatMessageListener chatMessageListener;
   private final StatusUpdateListener statusUpdateListener;
   private final SlapListener slapListener;
   private final PlayerLeftListener playerLeftListener;
+  @Nullable private final ChatFloodListener chatFloodListener;
+  @Nonnull private final MessageRateLimit chatRateLimit;
 
-  public static ChatMessagingService build(final Chatters chatters, final Jdbi jdbi) {
+  public static ChatMessagingService build(
+      final LobbyModuleConfig lobbyModuleConfig, final Chatters chatters, final Jdbi jdbi) {
     Preconditions.checkNotNull(chatters);
     return ChatMessagingService.builder()
         .playerConnectedListener(PlayerConnectedListener.build(chatters, jdbi))
@@ -30,6 +52,18 @@ public class ChatMessagingService {
         .statusUpdateListener(new StatusUpdateListener(chatters))
         .slapListener(new SlapListener(chatters))
         .playerLeftListener(new PlayerLeftListener(chatters))
+        .chatRateLimit(
+            MessageRateLimit.builder()
+                .burst(lobbyModuleConfig.getChatMessageBurst())
+                .perMinute(lobbyModuleConfig.getChatMessagesPerMinute())
+                .build())
+        .chatFloodListener(
+            lobbyModuleConfig.getChatFloodMuteMinutes() > 0
+                ? ChatFloodListener.builder()
+                    .chatters(chatters)
+                    .muteMinutes(lobbyModuleConfig.getChatFloodMuteMinutes())
+                    .build()
+                : null)
         .build();
   }
 
@@ -41,5 +75,23 @@ public class ChatMessagingService {
     playerConnectionMessagingBus.addMessageListener(
         PlayerStatusUpdateSentMessage.TYPE, statusUpdateListener);
     playerConnectionMessagingBus.addSessionDisconnectListener(playerLeftListener);
+
+    limitMessageRate(playerConnectionMessagingBus, ChatSentMessage.TYPE, chatRateLimit);
+    limitMessageRate(playerConnectionMessagingBus, PlayerSlapSentMessage.TYPE, SLAP_RATE_LIMIT);
+    limitMessageRate(
+        playerConnectionMessagingBus,
+        PlayerStatusUpdateSentMessage.TYPE,
+        STATUS_UPDATE_RATE_LIMIT);
+    if (chatFloodListener != null) {
+      playerConnectionMessagingBus.addThrottledMessageListener(chatFloodListener);
+    }
+  }
+
+  private static void limitMessageRate(
+      final WebSocketMessagingBus messagingBus,
+      final MessageType<?> messageType,
+      final MessageRateLimit perConnectionLimit) {
+    messagingBus.limitMessageRate(
+        messageType, perConnectionLimit, perConnectionLimit.times(IP_LIMIT_MULTIPLIER));
   }
 }
@@ -6,7 +6,6 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -29,7 +28,7 @@ public class Chatters {
   @Getter(value = AccessLevel.PACKAGE, onMethod_ = @VisibleForTesting)
   private final Map<String, ChatterSession> participants = new ConcurrentHashMap<>();
 
-  private final Map<InetAddress, Instant> playerMutes = new HashMap<>();
+  private final Map<InetAddress, Instant> playerMutes = new ConcurrentHashMap<>();
 
   public static Chatters build() {
     return new Chatters();
@@ -160,8 +159,34 @@ public class Chatters {
             chatterSession -> {
               muteIpAddress(chatterSession.getIp(), muteMinutes, clock);
               broadCastPlayerMutedMessageToAllPlayer(
-                  chatterSession.getChatParticipant().getUserName(),
-                  muteMinutes,
+                  String.format(
+                      "%s was muted by moderator for %s minutes",
+                      chatterSession.getChatParticipant().getUserName().getValue(),
+                      muteMinutes),
+                  messageBroadcaster);
+            });
+  }
+
+  /** Mutes the player of a given session for sending chat messages faster than allowed. */
+  public void mutePlayerForFlooding(final WebSocketSession session, final long muteMinutes) {
+    mutePlayerForFlooding(session, muteMinutes, Clock.systemUTC(), MessageBroadcaster.build());
+  }
+
+  @VisibleForTesting
+  void mutePlayerForFlooding(
+      final WebSocketSession session,
+      final long muteMinutes,
+      final Clock clock,
+      final MessageBroadcaster messageBroadcaster) {
+    lookupPlayerBySession(session)
+        .ifPresent(
+            chatterSession -> {
+              muteIpAddress(chatterSession.getIp(), muteMinutes, clock);
+              broadCastPlayerMutedMessageToAllPlayer(
+                  String.format(
+                      "%s was muted for %s minutes for flooding chat",
+                      chatterSession.getChatParticipant().getUserName().getValue(),
+                      muteMinutes),
                   messageBroadcaster);
             });
   }
@@ -172,14 +197,8 @@ public class Chatters {
   }
 
   private void broadCastPlayerMutedMessageToAllPlayer(
-      final UserName userName,
-      final long muteMinutes,
-      final MessageBroadcaster messageBroadcaster) {
+      final String muteMessage, final MessageBroadcaster messageBroadcaster) {
     messageBroadcaster.accept(
-        fetchOpenSessions(),
-        new ChatEventReceivedMessage(
-                String.format(
-                    "%s was muted by moderator for %s minutes", userName.getValue(), muteMinutes))
-            .toEnvelope());
+        fetchOpenSessions(), new ChatEventReceivedMessage(muteMessage).toEnvelope());
   }
 }
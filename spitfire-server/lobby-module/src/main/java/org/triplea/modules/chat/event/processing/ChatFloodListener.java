@@ -0,0 +1,50 @@
+package org.triplea.modules.chat.event.processing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.triplea.http.client.web.socket.messages.MessageType;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
+import org.triplea.modules.chat.Chatters;
+import org.triplea.web.socket.WebSocketSession;
+
+/**
+ * Invoked when a player message is dropped by rate limiting. Players that keep sending chat
+ * messages after being rate limited, more than {@code MAX_THROTTLED_MESSAGES} within a minute, are
+ * muted.
+ */
+@Slf4j
+@Builder
+public class ChatFloodListener implements BiConsumer<WebSocketSession, MessageType<?>> {
+  static final int MAX_THROTTLED_MESSAGES = 10;
+
+  @Nonnull private final Chatters chatters;
+  private final long muteMinutes;
+
+  /** Number of throttled chat messages per session id, counted from the first throttled message. */
+  @Builder.Default
+  private final Cache<String, AtomicInteger> throttledMessageCounts =
+      Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).build();
+
+  @Override
+  public void accept(final WebSocketSession session, final MessageType<?> messageType) {
+    if (!messageType.equals(ChatSentMessage.TYPE)) {
+      return;
+    }
+
+    final int throttledCount =
+        throttledMessageCounts
+            .asMap()
+            .computeIfAbsent(session.getId(), id -> new AtomicInteger())
+            .incrementAndGet();
+    if (throttledCount == MAX_THROTTLED_MESSAGES) {
+      log.info("Muting chat flood from: {}", session.getRemoteAddress());
+      chatters.mutePlayerForFlooding(session, muteMinutes);
+    }
+  }
+}
@@ -1,16 +1,14 @@
 package org.triplea.modules.game.listing;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.AllArgsConstructor;
@@ -30,8 +28,6 @@ import org.triplea.http.client.lobby.game.lobby.watcher.GamePostingRequest;
 import org.triplea.http.client.lobby.game.lobby.watcher.LobbyGameListing;
 import org.triplea.http.client.web.socket.messages.envelopes.game.listing.LobbyGameRemovedMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.game.listing.LobbyGameUpdatedMessage;
-import org.triplea.java.cache.ttl.ExpiringAfterWriteTtlCache;
-import org.triplea.java.cache.ttl.TtlCache;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
 /**
@@ -54,17 +50,26 @@ import org.triplea.web.socket.WebSocketMessagingBus;
  *
  * The moderator boot is similar to remove game but there is no check for an API key, any moderator
  * can boot any game.
+ *
+ * <h2>Concurrency</h2>
+ *
+ * Games and the players that joined them are stored in a {@code GameRegistry}, changes to a game
+ * are atomic and are locked per game, so keep-alives and updates from many hosts do not serialize
+ * on a single lock.
+ *
+ * <h2>Metrics</h2>
+ *
+ * Posted, removed and missed keep-alive counts are recorded as 'game-listing.*' meters. Listing
+ * size and TTL expirations are registered as gauges when built with {@code build}.
  */
 @Builder
 @Slf4j
 public class GameListing {
   @Nonnull private final ModeratorAuditHistoryDao auditHistoryDao;
   @Nonnull private final LobbyGameDao lobbyGameDao;
-  @Nonnull private final TtlCache<GameId, LobbyGame> games;
+  @Nonnull private final GameRegistry games;
   @Nonnull private final WebSocketMessagingBus playerMessagingBus;
-
-  /** Map of player names to the games they are in, both observing and playing. */
-  @Nonnull private final Multimap<UserName, GameId> playerIsInGames = HashMultimap.create();
+  @Builder.Default @Nonnull private final MetricRegistry metricRegistry = new MetricRegistry();
 
   @AllArgsConstructor
   @EqualsAndHashCode
@@ -76,16 +81,25 @@ public class GameListing {
     @Nonnull private final String id;
   }
 
-  public static GameListing build(final Jdbi jdbi, final WebSocketMessagingBus playerMessagingBus) {
+  public static GameListing build(
+      final Jdbi jdbi,
+      final WebSocketMessagingBus playerMessagingBus,
+      final MetricRegistry metricRegistry) {
+    final GameRegistry games =
+        new GameRegistry(
+            GameListingClient.KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new GameTtlExpiredListener(playerMessagingBus));
+    metricRegistry.gauge("game-listing.size", () -> (Gauge<Long>) games::size);
+    metricRegistry.gauge(
+        "game-listing.ttl-expirations", () -> (Gauge<Long>) games::getExpiredCount);
+
     return GameListing.builder()
         .lobbyGameDao(jdbi.onDemand(LobbyGameDao.class))
         .auditHistoryDao(jdbi.onDemand(ModeratorAuditHistoryDao.class))
         .playerMessagingBus(playerMessagingBus)
-        .games(
-            new ExpiringAfterWriteTtlCache<>(
-                GameListingClient.KEEP_ALIVE_SECONDS,
-                TimeUnit.SECONDS,
-                new GameTtlExpiredListener(playerMessagingBus)))
+        .metricRegistry(metricRegistry)
+        .games(games)
         .build();
   }
 
@@ -93,16 +107,18 @@ public class GameListing {
   public String postGame(final ApiKey apiKey, final GamePostingRequest gamePostingRequest) {
     final String id = UUID.randomUUID().toString();
     final GameId gameId = new GameId(apiKey, id);
-    games.put(gameId, gamePostingRequest.getLobbyGame());
+    games.put(
+        gameId,
+        gamePostingRequest.getLobbyGame(),
+        Optional.ofNullable(gamePostingRequest.getPlayerNames()).orElse(List.of()).stream()
+            .map(UserName::of)
+            .collect(Collectors.toList()));
 
-    Optional.ofNullable(gamePostingRequest.getPlayerNames())
-        .ifPresent(
-            names ->
-                names.forEach(playerName -> playerIsInGames.put(UserName.of(playerName), gameId)));
     final var lobbyGameListing =
         LobbyGameListing.builder().gameId(id).lobbyGame(gamePostingRequest.getLobbyGame()).build();
     lobbyGameDao.insertLobbyGame(apiKey, lobbyGameListing);
     playerMessagingBus.broadcastMessage(new LobbyGameUpdatedMessage(lobbyGameListing));
+    metricRegistry.meter("game-listing.posted").mark();
     log.info("Posted game: {}", id);
     return id;
   }
@@ -128,17 +144,17 @@ public class GameListing {
    */
   public void removeGame(final ApiKey apiKey, final String id) {
     log.info("Removing game: {}", id);
-    final GameId key = new GameId(apiKey, id);
-
-    final var gameEntries =
-        playerIsInGames.entries().stream()
-            .filter(entry -> entry.getValue().equals(key))
-            .collect(Collectors.toList());
-    gameEntries.forEach(entry -> playerIsInGames.remove(entry.getKey(), entry.getValue()));
+    removeGame(new GameId(apiKey, id));
+  }
 
-    games
-        .invalidate(key)
-        .ifPresent(value -> playerMessagingBus.broadcastMessage(new LobbyGameRemovedMessage(id)));
+  private Optional<LobbyGame> removeGame(final GameId gameId) {
+    final Optional<LobbyGame> removed = games.remove(gameId);
+    removed.ifPresent(
+        value -> {
+          metricRegistry.meter("game-listing.removed").mark();
+          playerMessagingBus.broadcastMessage(new LobbyGameRemovedMessage(gameId.getId()));
+        });
+    return removed;
   }
 
   public List<LobbyGameListing> getGames() {
@@ -165,17 +181,21 @@ public class GameListing {
    *     extended.
    */
   public boolean keepAlive(final ApiKey apiKey, final String id) {
-    return games.refresh(new GameId(apiKey, id));
+    final boolean refreshed = games.refresh(new GameId(apiKey, id));
+    if (!refreshed) {
+      metricRegistry.meter("game-listing.keep-alive-missed").mark();
+    }
+    return refreshed;
   }
 
   /** Moderator action to remove a game. */
   public void bootGame(final int moderatorId, final String id) {
     games
-        .findEntryByKey(gameId -> gameId.id.equals(id))
+        .findByGameId(id)
+        .flatMap(this::removeGame)
         .ifPresent(
-            gameToRemove -> {
-              final String hostName = gameToRemove.getValue().getHostName();
-              removeGame(gameToRemove.getKey().apiKey, gameToRemove.getKey().id);
+            bootedGame -> {
+              final String hostName = bootedGame.getHostName();
 
               log.info("Moderator {} booted game: {}, hosted by: {}", moderatorId, id, hostName);
               auditHistoryDao.addAuditRecord(
@@ -196,12 +216,12 @@ public class GameListing {
   }
 
   public void addPlayerToGame(final UserName userName, final ApiKey apiKey, final String gameId) {
-    playerIsInGames.put(userName, new GameId(apiKey, gameId));
+    games.addPlayer(userName, new GameId(apiKey, gameId));
   }
 
   public void removePlayerFromGame(
       final UserName userName, final ApiKey apiKey, final String gameId) {
-    playerIsInGames.remove(userName, new GameId(apiKey, gameId));
+    games.removePlayer(userName, new GameId(apiKey, gameId));
   }
 
   /**
@@ -209,26 +229,14 @@ public class GameListing {
    * joined as an observer.
    */
   public Collection<String> getGameNamesPlayerHasJoined(final UserName userName) {
-    final Collection<GameId> expiredGames =
-        playerIsInGames.get(userName).stream()
-            .filter(gameId -> games.get(gameId).isEmpty())
-            .collect(Collectors.toList());
-    expiredGames.forEach(gameId -> playerIsInGames.remove(userName, gameId));
-
-    return playerIsInGames.get(userName).stream()
-        .map(gameId -> games.get(gameId).map(LobbyGame::getHostName).orElse(null))
+    return games.gamesWithPlayer(userName).stream()
+        .map(LobbyGame::getHostName)
         .collect(Collectors.toList());
   }
 
   public Collection<String> getPlayersInGame(final String gameId) {
-    return playerIsInGames.asMap().entrySet().stream()
-        .filter(playerIsInGame(gameId))
-        .map(Map.Entry::getKey)
+    return games.playersInGame(gameId).stream()
         .map(UserName::getValue)
         .collect(Collectors.toList());
   }
-
-  private Predicate<Map.Entry<UserName, Collection<GameId>>> playerIsInGame(final String gameId) {
-    return entry -> entry.getValue().stream().map(GameId::getId).anyMatch(gameId::equals);
-  }
 }
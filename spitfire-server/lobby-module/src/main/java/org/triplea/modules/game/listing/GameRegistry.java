@@ -0,0 +1,212 @@
+package org.triplea.modules.game.listing;
+
+import com.google.common.util.concurrent.Striped;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.triplea.domain.data.LobbyGame;
+import org.triplea.domain.data.UserName;
+import org.triplea.java.cache.ttl.ExpiringAfterWriteTtlCache;
+
+/**
+ * Thread-safe store of the listed games. Game values and their keep-alive TTL are held in a TTL
+ * cache, next to it are two indexes: from the public game id (UUID) to the full game key and
+ * between players and the games they have joined.
+ *
+ * <p>Each change to a game and its index entries is done while holding a lock for that game. Locks
+ * are striped by game id so that keep-alives, updates and joins for different games do not contend
+ * with each other. Reads are lock free.
+ */
+class GameRegistry {
+  private static final int LOCK_STRIPES = 64;
+
+  private final ExpiringAfterWriteTtlCache<GameListing.GameId, LobbyGame> games;
+  private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
+  /** Public game id to the full game key, used for lookups that do not have the host api-key. */
+  private final Map<String, GameListing.GameId> gamesById = new ConcurrentHashMap<>();
+
+  /** Players to the games they are in, both observing and playing. */
+  private final Map<UserName, Set<GameListing.GameId>> gamesByPlayer = new ConcurrentHashMap<>();
+
+  /** Inverse of 'gamesByPlayer'. */
+  private final Map<GameListing.GameId, Set<UserName>> playersByGame = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an empty registry.
+   *
+   * @param expiredListener Invoked when a game expires or is removed, after its index entries have
+   *     been removed.
+   */
+  GameRegistry(
+      final long keepAliveDuration,
+      final TimeUnit timeUnit,
+      final BiConsumer<GameListing.GameId, LobbyGame> expiredListener) {
+    games =
+        new ExpiringAfterWriteTtlCache<>(
+            keepAliveDuration,
+            timeUnit,
+            (gameId, lobbyGame) -> {
+              removeIndexEntries(gameId);
+              expiredListener.accept(gameId, lobbyGame);
+            });
+  }
+
+  /** Adds a game and records the given players as being in that game. */
+  void put(
+      final GameListing.GameId gameId,
+      final LobbyGame lobbyGame,
+      final Collection<UserName> players) {
+    withLock(
+        gameId,
+        () -> {
+          games.put(gameId, lobbyGame);
+          gamesById.put(gameId.getId(), gameId);
+          players.forEach(player -> index(player, gameId));
+          return null;
+        });
+  }
+
+  /** Replaces an existing game, returns the replaced value or empty if the game is not listed. */
+  Optional<LobbyGame> replace(final GameListing.GameId gameId, final LobbyGame lobbyGame) {
+    return games.replace(gameId, lobbyGame);
+  }
+
+  /** Restarts the keep-alive TTL of a game, returns false if the game is not listed. */
+  boolean refresh(final GameListing.GameId gameId) {
+    return games.refresh(gameId);
+  }
+
+  /** Removes a game and any players recorded as being in it. */
+  Optional<LobbyGame> remove(final GameListing.GameId gameId) {
+    return withLock(
+        gameId,
+        () -> {
+          final Optional<LobbyGame> removed = games.invalidate(gameId);
+          removeIndexEntries(gameId);
+          return removed;
+        });
+  }
+
+  Optional<LobbyGame> get(final GameListing.GameId gameId) {
+    return games.get(gameId);
+  }
+
+  /** Finds the key of a listed game by its public game id. */
+  Optional<GameListing.GameId> findByGameId(final String id) {
+    return Optional.ofNullable(gamesById.get(id)).filter(gameId -> games.get(gameId).isPresent());
+  }
+
+  /** Records a player as being in a game, does nothing if the game is not listed. */
+  void addPlayer(final UserName player, final GameListing.GameId gameId) {
+    withLock(
+        gameId,
+        () -> {
+          if (games.get(gameId).isPresent()) {
+            index(player, gameId);
+          }
+          return null;
+        });
+  }
+
+  void removePlayer(final UserName player, final GameListing.GameId gameId) {
+    withLock(
+        gameId,
+        () -> {
+          unindex(player, gameId);
+          return null;
+        });
+  }
+
+  /** Returns the listed games a player is in. */
+  List<LobbyGame> gamesWithPlayer(final UserName player) {
+    return gamesByPlayer.getOrDefault(player, Set.of()).stream()
+        .map(games::get)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toList());
+  }
+
+  /** Returns the players in a game, empty if the game is not listed. */
+  Collection<UserName> playersInGame(final String id) {
+    return findByGameId(id)
+        .map(gameId -> Set.copyOf(playersByGame.getOrDefault(gameId, Set.of())))
+        .orElse(Set.of());
+  }
+
+  /** Returns a snapshot of all listed games. */
+  Map<GameListing.GameId, LobbyGame> asMap() {
+    return games.asMap();
+  }
+
+  long size() {
+    return games.size();
+  }
+
+  long getExpiredCount() {
+    return games.getExpiredCount();
+  }
+
+  private void removeIndexEntries(final GameListing.GameId gameId) {
+    withLock(
+        gameId,
+        () -> {
+          gamesById.remove(gameId.getId(), gameId);
+          Optional.ofNullable(playersByGame.remove(gameId))
+              .ifPresent(players -> players.forEach(player -> unindexPlayer(player, gameId)));
+          return null;
+        });
+  }
+
+  /**
+   * Adds index entries. Sets are added to within 'compute' so that a concurrent removal of the last
+   * entry of a set (and with it the set) can not drop the added entry.
+   */
+  private void index(final UserName player, final GameListing.GameId gameId) {
+    gamesByPlayer.compute(player, (p, playerGames) -> addTo(playerGames, gameId));
+    playersByGame.compute(gameId, (g, players) -> addTo(players, player));
+  }
+
+  private static <T> Set<T> addTo(final Set<T> set, final T value) {
+    final Set<T> result = set == null ? ConcurrentHashMap.newKeySet() : set;
+    result.add(value);
+    return result;
+  }
+
+  private void unindex(final UserName player, final GameListing.GameId gameId) {
+    unindexPlayer(player, gameId);
+    playersByGame.computeIfPresent(
+        gameId,
+        (g, players) -> {
+          players.remove(player);
+          return players.isEmpty() ? null : players;
+        });
+  }
+
+  /** Removes one entry from 'gamesByPlayer', dropping the player entirely once in no games. */
+  private void unindexPlayer(final UserName player, final GameListing.GameId gameId) {
+    gamesByPlayer.computeIfPresent(
+        player,
+        (p, playerGames) -> {
+          playerGames.remove(gameId);
+          return playerGames.isEmpty() ? null : playerGames;
+        });
+  }
+
+  private <T> T withLock(final GameListing.GameId gameId, final Supplier<T> action) {
+    final Lock lock = locks.get(gameId.getId());
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.triplea.modules.moderation.access.log;
+
+import io.dropwizard.lifecycle.Managed;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nonnull;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.dao.access.log.AccessLogDao;
+import org.triplea.modules.LobbyModuleConfig;
+import org.triplea.server.lib.scheduled.tasks.ScheduledTask;
+
+/**
+ * Maintains the monthly partitions of the access log table. Creates partitions ahead of time so
+ * that inserts always have a partition to land in, and drops partitions that are entirely older
+ * than the configured retention period.
+ */
+@Slf4j
+@Builder
+public class AccessLogPartitionMaintenance implements Runnable {
+  /** How far ahead partitions are created, roughly two months. */
+  static final Duration CREATE_AHEAD = Duration.ofDays(62);
+
+  @Nonnull private final AccessLogDao accessLogDao;
+  @Nonnull private final Duration retentionPeriod;
+  @Builder.Default private final Clock clock = Clock.systemUTC();
+
+  public static Managed buildSchedule(final LobbyModuleConfig lobbyModuleConfig, final Jdbi jdbi) {
+    final var maintenance =
+        AccessLogPartitionMaintenance.builder()
+            .accessLogDao(jdbi.onDemand(AccessLogDao.class))
+            .retentionPeriod(Duration.ofDays(lobbyModuleConfig.getAccessLogRetentionDays()))
+            .build();
+
+    return ScheduledTask.builder()
+        .taskName("Access-Log-Partition-Maintenance")
+        .delay(Duration.ofSeconds(30L))
+        .period(Duration.ofDays(1L))
+        .task(maintenance)
+        .build();
+  }
+
+  @Override
+  public void run() {
+    final Instant now = clock.instant();
+
+    final int created = accessLogDao.createPartitionsThrough(now.plus(CREATE_AHEAD));
+    final int dropped = accessLogDao.dropPartitionsBefore(now.minus(retentionPeriod));
+    if (created > 0 || dropped > 0) {
+      log.info("Access log partitions created: {}, dropped: {}", created, dropped);
+    }
+  }
+}
@@ -1,16 +1,31 @@
 package org.triplea.modules.user.account.login;
 
+import io.dropwizard.lifecycle.Managed;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.core.Jdbi;
 import org.triplea.db.dao.access.log.AccessLogDao;
-import org.triplea.java.Postconditions;
+import org.triplea.server.lib.scheduled.tasks.ScheduledTask;
 
+/**
+ * Records logins to the access log. Login records are queued in memory and written to database in
+ * batches by {@link #flush()}, keeping the insert off of the login request path. Flushing is
+ * scheduled by {@link #buildFlushSchedule()}, any remaining records are flushed on shutdown.
+ */
+@Slf4j
 @Builder
-class AccessLogUpdater implements Consumer<LoginRecord> {
+public class AccessLogUpdater implements Consumer<LoginRecord> {
+  static final int MAX_BATCH_SIZE = 500;
 
   @Nonnull private final AccessLogDao accessLogDao;
+  @Builder.Default private final Queue<LoginRecord> pendingRecords = new ConcurrentLinkedQueue<>();
 
   public static AccessLogUpdater build(final Jdbi jdbi) {
     return AccessLogUpdater.builder() //
@@ -18,14 +33,41 @@ class AccessLogUpdater implements Consumer<LoginRecord> {
         .build();
   }
 
+  /** Creates a managed schedule that flushes queued login records once per second. */
+  public Managed buildFlushSchedule() {
+    return ScheduledTask.builder()
+        .taskName("Access-Log-Writer")
+        .delay(Duration.ofSeconds(1L))
+        .period(Duration.ofSeconds(1L))
+        .task(this::flush)
+        .onStop(this::flush)
+        .build();
+  }
+
   @Override
   public void accept(final LoginRecord loginRecord) {
-    final int updateCount =
-        accessLogDao.insertUserAccessRecord(
-            loginRecord.getUserName().getValue(),
-            loginRecord.getIp(),
-            loginRecord.getSystemId().getValue());
+    pendingRecords.add(loginRecord);
+  }
+
+  /** Writes all queued login records to database, at most {@code MAX_BATCH_SIZE} per statement. */
+  public synchronized void flush() {
+    while (!pendingRecords.isEmpty()) {
+      final List<String> userNames = new ArrayList<>();
+      final List<String> ips = new ArrayList<>();
+      final List<String> systemIds = new ArrayList<>();
+
+      LoginRecord loginRecord;
+      while (userNames.size() < MAX_BATCH_SIZE && (loginRecord = pendingRecords.poll()) != null) {
+        userNames.add(loginRecord.getUserName().getValue());
+        ips.add(loginRecord.getIp());
+        systemIds.add(loginRecord.getSystemId().getValue());
+      }
 
-    Postconditions.assertState(updateCount == 1);
+      try {
+        accessLogDao.insertUserAccessRecords(userNames, ips, systemIds);
+      } catch (final RuntimeException e) {
+        log.error("Failed to write {} access log records", userNames.size(), e);
+      }
+    }
   }
 }
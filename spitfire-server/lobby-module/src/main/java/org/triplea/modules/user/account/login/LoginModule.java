@@ -32,10 +32,11 @@ public class LoginModule {
   @Nonnull private final UserJdbiDao userJdbiDao;
   @Nonnull private final Function<String, Optional<String>> nameValidation;
 
-  public static LoginModule build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginModule build(
+      final Jdbi jdbi, final Chatters chatters, final AccessLogUpdater accessLogUpdater) {
     return LoginModule.builder()
         .userJdbiDao(jdbi.onDemand(UserJdbiDao.class))
-        .accessLogUpdater(AccessLogUpdater.build(jdbi))
+        .accessLogUpdater(accessLogUpdater)
         .apiKeyGenerator(ApiKeyGenerator.build(jdbi))
         .anonymousLogin(AnonymousLogin.build(jdbi, chatters))
         .tempPasswordLogin(TempPasswordLogin.build(jdbi))
@@ -4,11 +4,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
 import static org.triplea.test.common.IsInstant.isInstant;
 
 import com.github.database.rider.core.api.dataset.DataSet;
 import com.github.database.rider.core.api.dataset.ExpectedDataSet;
 import com.github.database.rider.junit5.DBUnitExtension;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -118,4 +121,23 @@ class AccessLogDaoTest {
     accessLogDao.insertUserAccessRecord("anonymous", "127.0.0.50", "anonymous-system-id");
     accessLogDao.insertUserAccessRecord("registered_user", "127.0.0.20", "registered-system-id");
   }
+
+  @Test
+  @DataSet(cleanBefore = true, value = EMPTY_ACCESS_LOG, useSequenceFiltering = false)
+  @ExpectedDataSet(value = "access_log/access_log_post_insert.yml", orderBy = "username")
+  void insertAccessLogRecordsAsBatch() {
+    accessLogDao.insertUserAccessRecords(
+        List.of("anonymous", "registered_user"),
+        List.of("127.0.0.50", "127.0.0.20"),
+        List.of("anonymous-system-id", "registered-system-id"));
+  }
+
+  @Test
+  @DataSet(cleanBefore = true, value = EMPTY_ACCESS_LOG, useSequenceFiltering = false)
+  void partitionsAreCreatedOnlyOnce() {
+    final Instant through = Instant.now().plus(400, ChronoUnit.DAYS);
+
+    assertThat(accessLogDao.createPartitionsThrough(through), is(greaterThan(0)));
+    assertThat(accessLogDao.createPartitionsThrough(through), is(0));
+  }
 }
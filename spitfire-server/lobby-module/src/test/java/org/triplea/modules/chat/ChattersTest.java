@@ -7,6 +7,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.triplea.java.DateTimeUtil.utcInstantOf;
@@ -348,4 +349,35 @@ class ChattersTest {
       verify(messageBroadcaster).accept(any(), any(MessageEnvelope.class));
     }
   }
+
+  @Nested
+  class FloodMute {
+    private final Instant now = utcInstantOf(2000, 1, 1, 12, 20);
+
+    @Test
+    void flooderIsMutedAndMuteIsBroadcasted() {
+      when(session.getId()).thenReturn("session-id");
+      final var chatterSession = buildChatterSession(session);
+      chatters.connectPlayer(chatterSession);
+
+      chatters.mutePlayerForFlooding(
+          session, 5, Clock.fixed(now, ZoneOffset.UTC), messageBroadcaster);
+
+      assertThat(
+          chatters.getPlayerMuteExpiration(
+              chatterSession.getIp(), Clock.fixed(now, ZoneOffset.UTC)),
+          isPresentAndIs(now.plus(5, ChronoUnit.MINUTES)));
+      verify(messageBroadcaster).accept(any(), any(MessageEnvelope.class));
+    }
+
+    @Test
+    void sessionNotInChatIsNotMuted() {
+      when(session.getId()).thenReturn("session-id");
+
+      chatters.mutePlayerForFlooding(
+          session, 5, Clock.fixed(now, ZoneOffset.UTC), messageBroadcaster);
+
+      verify(messageBroadcaster, never()).accept(any(), any(MessageEnvelope.class));
+    }
+  }
 }
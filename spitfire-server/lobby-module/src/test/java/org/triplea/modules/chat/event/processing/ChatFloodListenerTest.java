@@ -0,0 +1,64 @@
+package org.triplea.modules.chat.event.processing;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
+import org.triplea.http.client.web.socket.messages.envelopes.chat.PlayerSlapSentMessage;
+import org.triplea.modules.chat.Chatters;
+import org.triplea.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class ChatFloodListenerTest {
+  private static final long MUTE_MINUTES = 5;
+
+  @Mock private Chatters chatters;
+  @Mock private WebSocketSession session;
+
+  private ChatFloodListener chatFloodListener;
+
+  @BeforeEach
+  void setUp() {
+    chatFloodListener =
+        ChatFloodListener.builder().chatters(chatters).muteMinutes(MUTE_MINUTES).build();
+  }
+
+  @Test
+  void playerIsNotMutedBeforeReachingThrottledMessageLimit() {
+    when(session.getId()).thenReturn("session-id");
+
+    for (int i = 1; i < ChatFloodListener.MAX_THROTTLED_MESSAGES; i++) {
+      chatFloodListener.accept(session, ChatSentMessage.TYPE);
+    }
+
+    verify(chatters, never()).mutePlayerForFlooding(any(), anyLong());
+  }
+
+  @Test
+  void playerIsMutedOnceWhenReachingThrottledMessageLimit() {
+    when(session.getId()).thenReturn("session-id");
+
+    for (int i = 0; i < ChatFloodListener.MAX_THROTTLED_MESSAGES * 2; i++) {
+      chatFloodListener.accept(session, ChatSentMessage.TYPE);
+    }
+
+    verify(chatters).mutePlayerForFlooding(session, MUTE_MINUTES);
+  }
+
+  @Test
+  void throttledMessagesOtherThanChatAreIgnored() {
+    for (int i = 0; i < ChatFloodListener.MAX_THROTTLED_MESSAGES * 2; i++) {
+      chatFloodListener.accept(session, PlayerSlapSentMessage.TYPE);
+    }
+
+    verify(chatters, never()).mutePlayerForFlooding(any(), anyLong());
+  }
+}
@@ -42,7 +42,6 @@ import org.triplea.http.client.web.socket.MessageEnvelope;
 import org.triplea.http.client.web.socket.messages.envelopes.game.listing.LobbyGameRemovedMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.game.listing.LobbyGameUpdatedMessage;
 import org.triplea.java.IpAddressParser;
-import org.triplea.java.cache.ttl.ExpiringAfterWriteTtlCache;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
 /**
@@ -69,8 +68,7 @@ class GameListingTest {
   private static final String HOST_NAME = "host-player";
   private static final int MODERATOR_ID = 33;
 
-  private final ExpiringAfterWriteTtlCache<GameListing.GameId, LobbyGame> cache =
-      new ExpiringAfterWriteTtlCache<>(1, TimeUnit.HOURS, (key, value) -> {});
+  private final GameRegistry games = new GameRegistry(1, TimeUnit.HOURS, (key, value) -> {});
 
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
   @Mock private LobbyGameDao lobbyGameDao;
@@ -89,7 +87,7 @@ class GameListingTest {
             .playerMessagingBus(playerMessagingBus)
             .auditHistoryDao(moderatorAuditHistoryDao)
             .lobbyGameDao(lobbyGameDao)
-            .games(cache)
+            .games(games)
             .build();
   }
 
@@ -99,9 +97,9 @@ class GameListingTest {
     /** Basic case, no games added, expect none to be returned. */
     @Test
     void getGames() {
-      cache.put(ID_0, lobbyGame0);
-      cache.put(new GameListing.GameId(API_KEY_0, GAME_ID_1), lobbyGame1);
-      cache.put(new GameListing.GameId(API_KEY_1, GAME_ID_2), lobbyGame2);
+      games.put(ID_0, lobbyGame0, List.of());
+      games.put(new GameListing.GameId(API_KEY_0, GAME_ID_1), lobbyGame1, List.of());
+      games.put(new GameListing.GameId(API_KEY_1, GAME_ID_2), lobbyGame2, List.of());
 
       final List<LobbyGameListing> result = gameListing.getGames();
 
@@ -126,18 +124,18 @@ class GameListingTest {
       final boolean result = gameListing.keepAlive(API_KEY_0, GAME_ID_0);
       assertThat("Game not found, keep alive should return false", result, is(false));
 
-      assertThat(cache.asMap(), is(anEmptyMap()));
+      assertThat(games.asMap(), is(anEmptyMap()));
     }
 
     @Test
     void gameExists() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       final boolean result = gameListing.keepAlive(API_KEY_0, GAME_ID_0);
 
       assertThat("Game found, keep alive should return true", result, is(true));
-      assertThat(cache.asMap(), is(aMapWithSize(1)));
-      assertThat(cache.asMap(), hasEntry(ID_0, lobbyGame0));
+      assertThat(games.asMap(), is(aMapWithSize(1)));
+      assertThat(games.asMap(), hasEntry(ID_0, lobbyGame0));
     }
   }
 
@@ -145,22 +143,22 @@ class GameListingTest {
   final class RemoveGame {
     @Test
     void removeGame() {
-      cache.put(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0);
+      games.put(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0, List.of());
 
       gameListing.removeGame(API_KEY_0, GAME_ID_0);
 
-      assertThat(cache.asMap(), is(anEmptyMap()));
+      assertThat(games.asMap(), is(anEmptyMap()));
       verify(playerMessagingBus).broadcastMessage(new LobbyGameRemovedMessage(GAME_ID_0));
     }
 
     @Test
     void removeGameRequiresCorrectApiKey() {
-      cache.put(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0);
+      games.put(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0, List.of());
 
       gameListing.removeGame(API_KEY_1, GAME_ID_0);
 
-      assertThat(cache.asMap(), is(aMapWithSize(1)));
-      assertThat(cache.asMap(), hasEntry(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0));
+      assertThat(games.asMap(), is(aMapWithSize(1)));
+      assertThat(games.asMap(), hasEntry(new GameListing.GameId(API_KEY_0, GAME_ID_0), lobbyGame0));
       verify(playerMessagingBus, never()).broadcastMessage(any(MessageEnvelope.class));
     }
   }
@@ -175,7 +173,7 @@ class GameListingTest {
               GamePostingRequest.builder().lobbyGame(lobbyGame0).playerNames(List.of()).build());
 
       assertThat(id0, not(emptyString()));
-      assertThat(cache.asMap(), is(Map.of(new GameListing.GameId(API_KEY_0, id0), lobbyGame0)));
+      assertThat(games.asMap(), is(Map.of(new GameListing.GameId(API_KEY_0, id0), lobbyGame0)));
 
       final var lobbyGameListing =
           LobbyGameListing.builder().gameId(id0).lobbyGame(lobbyGame0).build();
@@ -191,13 +189,13 @@ class GameListingTest {
       final boolean result = gameListing.updateGame(API_KEY_0, GAME_ID_0, lobbyGame0);
 
       assertThat(result, is(false));
-      assertThat(cache.asMap(), is(anEmptyMap()));
+      assertThat(games.asMap(), is(anEmptyMap()));
       verify(playerMessagingBus, never()).broadcastMessage(any(MessageEnvelope.class));
     }
 
     @Test
     void updateGameThatDoesExist() {
-      cache.put(ID_0, lobbyGame1);
+      games.put(ID_0, lobbyGame1, List.of());
 
       final boolean result = gameListing.updateGame(API_KEY_0, GAME_ID_0, lobbyGame0);
 
@@ -214,12 +212,12 @@ class GameListingTest {
   final class BootGame {
     @Test
     void bootGame() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       when(lobbyGame0.getHostName()).thenReturn(HOST_NAME);
 
       gameListing.bootGame(MODERATOR_ID, GAME_ID_0);
 
-      assertThat(cache.asMap(), is(anEmptyMap()));
+      assertThat(games.asMap(), is(anEmptyMap()));
       verify(moderatorAuditHistoryDao)
           .addAuditRecord(
               ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -236,14 +234,14 @@ class GameListingTest {
 
     @Test
     void validCase() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       final boolean result = gameListing.isValidApiKeyAndGameId(ID_0.getApiKey(), ID_0.getId());
       assertThat(result, is(true));
     }
 
     @Test
     void mismatchOnApiKey() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       final boolean result =
           gameListing.isValidApiKeyAndGameId(ApiKey.of("incorrect-api-key"), ID_0.getId());
       assertThat(result, is(false));
@@ -251,7 +249,7 @@ class GameListingTest {
 
     @Test
     void mismatchOnGameId() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       final boolean result =
           gameListing.isValidApiKeyAndGameId(ID_0.getApiKey(), "incorrect-game-id");
       assertThat(result, is(false));
@@ -270,7 +268,7 @@ class GameListingTest {
 
     @Test
     void badApiKeyCase() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       final Optional<InetSocketAddress> result =
           gameListing.getHostForGame(ApiKey.of("incorrect"), ID_0.getId());
@@ -280,7 +278,7 @@ class GameListingTest {
 
     @Test
     void badGameId() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       final Optional<InetSocketAddress> result =
           gameListing.getHostForGame(ID_0.getApiKey(), "bad-game-id");
@@ -291,7 +289,7 @@ class GameListingTest {
     @Test
     void happyCaseFindByApiKeyAndGameId() {
       when(lobbyGame0.getHostAddress()).thenReturn("1.1.1.1");
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       final Optional<InetSocketAddress> result =
           gameListing.getHostForGame(ID_0.getApiKey(), ID_0.getId());
@@ -318,7 +316,7 @@ class GameListingTest {
     @Test
     void addPlayerToSingleGame() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
 
       final Collection<String> results = gameListing.getGameNamesPlayerHasJoined(user);
@@ -329,7 +327,7 @@ class GameListingTest {
     @Test
     void addPlayerToSingleGameAndThenRemove() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
       gameListing.removePlayerFromGame(user, ID_0.getApiKey(), ID_0.getId());
 
@@ -344,8 +342,8 @@ class GameListingTest {
     @Test
     void addPlayerToMultipleGame() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
-      cache.put(ID_1, lobbyGame1);
+      games.put(ID_0, lobbyGame0, List.of());
+      games.put(ID_1, lobbyGame1, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
       gameListing.addPlayerToGame(user, ID_1.getApiKey(), ID_1.getId());
 
@@ -359,8 +357,8 @@ class GameListingTest {
     @Test
     void addPlayerToMultipleGameAndRemoveFromOneGame() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
-      cache.put(ID_1, lobbyGame1);
+      games.put(ID_0, lobbyGame0, List.of());
+      games.put(ID_1, lobbyGame1, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
       gameListing.addPlayerToGame(user, ID_1.getApiKey(), ID_1.getId());
       gameListing.removePlayerFromGame(user, ID_0.getApiKey(), ID_0.getId());
@@ -380,7 +378,7 @@ class GameListingTest {
             + "into account expired games")
     void getPlayerInGamesOnlyReturnsCurrentGames() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
       gameListing.addPlayerToGame(user, ID_1.getApiKey(), ID_1.getId());
 
@@ -393,7 +391,7 @@ class GameListingTest {
     @Test
     void removingGamesWillExplicityRemoveParticipants() {
       final UserName user = UserName.of("user");
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
       gameListing.addPlayerToGame(user, ID_0.getApiKey(), ID_0.getId());
       gameListing.removeGame(ID_0.getApiKey(), ID_0.getId());
 
@@ -434,14 +432,14 @@ class GameListingTest {
 
     @Test
     void wrongGameCase() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       assertThat(gameListing.getPlayersInGame("DNE"), is(empty()));
     }
 
     @Test
     void hasPlayers() {
-      cache.put(ID_0, lobbyGame0);
+      games.put(ID_0, lobbyGame0, List.of());
 
       gameListing.addPlayerToGame(UserName.of("player1"), ID_0.getApiKey(), ID_0.getId());
       gameListing.addPlayerToGame(UserName.of("player2"), ID_0.getApiKey(), ID_0.getId());
@@ -0,0 +1,120 @@
+package org.triplea.modules.game.listing;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.domain.data.ApiKey;
+import org.triplea.domain.data.LobbyGame;
+import org.triplea.domain.data.UserName;
+
+@ExtendWith(MockitoExtension.class)
+class GameRegistryTest {
+  private static final GameListing.GameId GAME_ID =
+      new GameListing.GameId(ApiKey.of("api-key"), "game-id");
+  private static final UserName PLAYER_1 = UserName.of("player1");
+  private static final UserName PLAYER_2 = UserName.of("player2");
+
+  private final GameRegistry gameRegistry =
+      new GameRegistry(1, TimeUnit.HOURS, (gameId, lobbyGame) -> {});
+
+  @Mock private LobbyGame lobbyGame;
+
+  @Test
+  void findByGameIdDoesNotRequireApiKey() {
+    gameRegistry.put(GAME_ID, lobbyGame, List.of());
+
+    assertThat(gameRegistry.findByGameId(GAME_ID.getId()), isPresentAndIs(GAME_ID));
+    assertThat(gameRegistry.findByGameId("unknown"), isEmpty());
+  }
+
+  @Test
+  void playersArePostedWithGame() {
+    gameRegistry.put(GAME_ID, lobbyGame, List.of(PLAYER_1, PLAYER_2));
+
+    assertThat(
+        gameRegistry.playersInGame(GAME_ID.getId()), containsInAnyOrder(PLAYER_1, PLAYER_2));
+    assertThat(gameRegistry.gamesWithPlayer(PLAYER_1), is(List.of(lobbyGame)));
+  }
+
+  @Test
+  void playersCanNotJoinGamesThatAreNotListed() {
+    gameRegistry.addPlayer(PLAYER_1, GAME_ID);
+
+    assertThat(gameRegistry.gamesWithPlayer(PLAYER_1), is(empty()));
+  }
+
+  @Test
+  void removingGameClearsAllIndexes() {
+    gameRegistry.put(GAME_ID, lobbyGame, List.of(PLAYER_1));
+
+    assertThat(gameRegistry.remove(GAME_ID), isPresentAndIs(lobbyGame));
+
+    assertThat(gameRegistry.asMap(), is(anEmptyMap()));
+    assertThat(gameRegistry.findByGameId(GAME_ID.getId()), isEmpty());
+    assertThat(gameRegistry.playersInGame(GAME_ID.getId()), is(empty()));
+    assertThat(gameRegistry.gamesWithPlayer(PLAYER_1), is(empty()));
+  }
+
+  @Test
+  void refreshDoesNotRelistRemovedGame() {
+    gameRegistry.put(GAME_ID, lobbyGame, List.of());
+    gameRegistry.remove(GAME_ID);
+
+    assertThat(gameRegistry.refresh(GAME_ID), is(false));
+    assertThat(gameRegistry.get(GAME_ID), isEmpty());
+  }
+
+  @Test
+  void concurrentJoinsAndLeavesAcrossGamesKeepIndexesConsistent() throws Exception {
+    final int gameCount = 32;
+    final List<GameListing.GameId> gameIds = new ArrayList<>();
+    for (int i = 0; i < gameCount; i++) {
+      final var gameId = new GameListing.GameId(ApiKey.of("key" + i), "game" + i);
+      gameIds.add(gameId);
+      gameRegistry.put(gameId, lobbyGame, List.of());
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final GameListing.GameId gameId : gameIds) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 200; i++) {
+                    gameRegistry.addPlayer(PLAYER_1, gameId);
+                    gameRegistry.refresh(gameId);
+                    gameRegistry.removePlayer(PLAYER_1, gameId);
+                    gameRegistry.addPlayer(PLAYER_2, gameId);
+                  }
+                }));
+      }
+      for (final Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(gameRegistry.gamesWithPlayer(PLAYER_1), is(empty()));
+    assertThat(
+        "Player 2 joined every game and never left",
+        gameRegistry.gamesWithPlayer(PLAYER_2).size(),
+        is(gameCount));
+  }
+}
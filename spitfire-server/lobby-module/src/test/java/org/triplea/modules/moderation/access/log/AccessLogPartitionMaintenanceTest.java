@@ -0,0 +1,35 @@
+package org.triplea.modules.moderation.access.log;
+
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.db.dao.access.log.AccessLogDao;
+
+@ExtendWith(MockitoExtension.class)
+class AccessLogPartitionMaintenanceTest {
+  private static final Instant NOW = Instant.parse("2021-06-15T12:00:00Z");
+  private static final Duration RETENTION = Duration.ofDays(730);
+
+  @Mock private AccessLogDao accessLogDao;
+
+  @Test
+  void createsUpcomingPartitionsAndDropsExpiredPartitions() {
+    AccessLogPartitionMaintenance.builder()
+        .accessLogDao(accessLogDao)
+        .retentionPeriod(RETENTION)
+        .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+        .build()
+        .run();
+
+    verify(accessLogDao)
+        .createPartitionsThrough(NOW.plus(AccessLogPartitionMaintenance.CREATE_AHEAD));
+    verify(accessLogDao).dropPartitionsBefore(NOW.minus(RETENTION));
+  }
+}
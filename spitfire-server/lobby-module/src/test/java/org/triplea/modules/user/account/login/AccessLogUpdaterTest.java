@@ -1,9 +1,12 @@
 package org.triplea.modules.user.account.login;
 
-import static org.mockito.Mockito.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,15 +38,53 @@ class AccessLogUpdaterTest {
   }
 
   @Test
-  void insertUserAccessRecord() {
-    when(accessLogDao.insertUserAccessRecord(any(), any(), any())).thenReturn(1);
+  void acceptDoesNotWriteToDatabase() {
+    accessLogUpdater.accept(REGISTERED_LOGIN_RECORD);
+
+    verifyNoInteractions(accessLogDao);
+  }
+
+  @Test
+  void flushWithNothingQueuedDoesNotWriteToDatabase() {
+    accessLogUpdater.flush();
 
+    verifyNoInteractions(accessLogDao);
+  }
+
+  @Test
+  void flushInsertsQueuedRecords() {
     accessLogUpdater.accept(REGISTERED_LOGIN_RECORD);
 
+    accessLogUpdater.flush();
+
     verify(accessLogDao)
-        .insertUserAccessRecord(
-            REGISTERED_LOGIN_RECORD.getUserName().getValue(),
-            REGISTERED_LOGIN_RECORD.getIp(),
-            REGISTERED_LOGIN_RECORD.getSystemId().getValue());
+        .insertUserAccessRecords(
+            List.of(REGISTERED_LOGIN_RECORD.getUserName().getValue()),
+            List.of(REGISTERED_LOGIN_RECORD.getIp()),
+            List.of(REGISTERED_LOGIN_RECORD.getSystemId().getValue()));
+  }
+
+  @Test
+  void flushSplitsLargeBacklogIntoBatches() {
+    for (int i = 0; i < AccessLogUpdater.MAX_BATCH_SIZE + 1; i++) {
+      accessLogUpdater.accept(REGISTERED_LOGIN_RECORD);
+    }
+
+    accessLogUpdater.flush();
+
+    verify(accessLogDao, times(2)).insertUserAccessRecords(anyList(), anyList(), anyList());
+  }
+
+  @Test
+  void failedBatchIsDroppedAndNotRetried() {
+    doThrow(new IllegalStateException("simulated database failure"))
+        .when(accessLogDao)
+        .insertUserAccessRecords(anyList(), anyList(), anyList());
+    accessLogUpdater.accept(REGISTERED_LOGIN_RECORD);
+
+    accessLogUpdater.flush();
+    accessLogUpdater.flush();
+
+    verify(accessLogDao).insertUserAccessRecords(anyList(), anyList(), anyList());
   }
 }